@@ -0,0 +1,41 @@
+package dev.morphia.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark with the GC profiler and writes the results as JSON so they can be kept as a baseline and compared against
+ * later runs. The path of the JVM binary is replaced with {@code java} so the file does not record details of the machine it was run
+ * on beyond the JVM version.
+ */
+public final class Baseline {
+    private Baseline() {
+    }
+
+    /**
+     * @param args the file to write the results to and, optionally, a regular expression selecting the benchmarks to run
+     * @throws RunnerException if the benchmarks fail
+     * @throws IOException     if the results can not be rewritten
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        String results = args.length > 0 ? args[0] : "baseline.json";
+        Options options = new OptionsBuilder()
+                .include(args.length > 1 ? args[1] : Baseline.class.getPackageName() + ".*")
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(results)
+                .build();
+        new Runner(options).run();
+
+        Path file = Path.of(results);
+        Files.writeString(file, Files.readString(file).replaceAll("(\"jvm\" : \")[^\"]*(\")", "$1java$2"));
+    }
+}
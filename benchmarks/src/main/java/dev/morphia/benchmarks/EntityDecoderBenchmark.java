@@ -0,0 +1,58 @@
+package dev.morphia.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures decoding entities from binary BSON as they are read from the server. Each entity is encoded once to a
+ * {@code RawBsonDocument} and its bytes are read with a {@code BsonBinaryReader} as the driver does with server replies. The polymorphic
+ * shape is decoded with the codec for the root of its hierarchy so the discriminator lookup is included. References are lazy so they are
+ * decoded to proxies without any queries. Run with {@code -prof gc} to see the bytes allocated per decoded entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class EntityDecoderBenchmark {
+    private static final DecoderContext CONTEXT = DecoderContext.builder().build();
+
+    @Param
+    private Fixture fixture;
+
+    private Codec codec;
+    private byte[] document;
+
+    @Setup(Level.Trial)
+    public void setup(MorphiaState state) {
+        Object entity = fixture.create();
+        RawBsonDocument raw = new RawBsonDocument(entity, state.datastore().getCodecRegistry().get((Class) entity.getClass()));
+        document = Arrays.copyOfRange(raw.getByteBuffer().array(), 0, raw.getByteBuffer().limit());
+        codec = state.datastore().getCodecRegistry().get(fixture.type());
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decode(new BsonBinaryReader(ByteBuffer.wrap(document)), CONTEXT);
+    }
+}
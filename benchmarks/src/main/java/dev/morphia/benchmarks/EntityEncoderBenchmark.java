@@ -0,0 +1,69 @@
+package dev.morphia.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding entities to binary BSON, as is done when writing to the server, and to a {@code BsonDocument}, as is done when
+ * building update and query documents. Run with {@code -prof gc} to see the bytes allocated per encoded entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class EntityEncoderBenchmark {
+    private static final EncoderContext CONTEXT = EncoderContext.builder()
+            .isEncodingCollectibleDocument(true)
+            .build();
+
+    @Param
+    private Fixture fixture;
+
+    private Codec codec;
+    private Object entity;
+    private BasicOutputBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setup(MorphiaState state) {
+        entity = fixture.create();
+        codec = state.datastore().getCodecRegistry().get(entity.getClass());
+        buffer = new BasicOutputBuffer(64 * 1024);
+    }
+
+    @Benchmark
+    public int encodeBinary() {
+        buffer.truncateToPosition(0);
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            codec.encode(writer, entity, CONTEXT);
+        }
+        return buffer.getPosition();
+    }
+
+    @Benchmark
+    public BsonDocument encodeDocument() {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), entity, CONTEXT);
+        return document;
+    }
+}
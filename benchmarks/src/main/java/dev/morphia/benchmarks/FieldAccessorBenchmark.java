@@ -0,0 +1,128 @@
+package dev.morphia.benchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import dev.morphia.benchmarks.model.Flat;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.FieldAccessor;
+
+import org.bson.codecs.pojo.PropertyAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading and writing every field of an entity as the entity codecs do. All the fields are accessed from the same call site
+ * so it sees as many accessors as the entity has fields, just as it does when encoding and decoding.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FieldAccessorBenchmark {
+    @Param
+    private Access access;
+
+    private PropertyAccessor<Object>[] accessors;
+    private Object[] values;
+    private Flat entity;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        entity = new Flat();
+        Field[] fields = Arrays.stream(Flat.class.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .toArray(Field[]::new);
+        accessors = new PropertyAccessor[fields.length];
+        values = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            accessors[i] = access.create(fields[i]);
+            values[i] = accessors[i].get(entity);
+        }
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        for (PropertyAccessor<Object> accessor : accessors) {
+            blackhole.consume(accessor.get(entity));
+        }
+    }
+
+    @Benchmark
+    public Flat write() {
+        for (int i = 0; i < accessors.length; i++) {
+            accessors[i].set(entity, values[i]);
+        }
+        return entity;
+    }
+
+    /**
+     * The ways a field can be accessed
+     */
+    public enum Access {
+        /**
+         * {@code java.lang.reflect.Field}
+         */
+        REFLECTION {
+            @Override
+            PropertyAccessor<Object> create(Field field) {
+                field.setAccessible(true);
+                return new PropertyAccessor<>() {
+                    @Override
+                    public Object get(Object instance) {
+                        try {
+                            return field.get(instance);
+                        } catch (IllegalAccessException e) {
+                            throw new MappingException(e.getMessage(), e);
+                        }
+                    }
+
+                    @Override
+                    public void set(Object instance, Object value) {
+                        try {
+                            field.set(instance, value);
+                        } catch (IllegalAccessException e) {
+                            throw new MappingException(e.getMessage(), e);
+                        }
+                    }
+                };
+            }
+        },
+        /**
+         * Method handles held by each accessor instance
+         */
+        SHARED {
+            @Override
+            PropertyAccessor<Object> create(Field field) {
+                return new FieldAccessor(field);
+            }
+        },
+        /**
+         * Method handles bound as constants in a class per field
+         */
+        CONSTANT {
+            @Override
+            PropertyAccessor<Object> create(Field field) {
+                return FieldAccessor.of(field);
+            }
+        };
+
+        abstract PropertyAccessor<Object> create(Field field);
+    }
+}
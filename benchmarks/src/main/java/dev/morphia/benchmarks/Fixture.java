@@ -0,0 +1,44 @@
+package dev.morphia.benchmarks;
+
+import java.util.function.Supplier;
+
+import dev.morphia.benchmarks.model.Containers;
+import dev.morphia.benchmarks.model.Flat;
+import dev.morphia.benchmarks.model.Nested;
+import dev.morphia.benchmarks.model.Referencing;
+import dev.morphia.benchmarks.model.Shape;
+import dev.morphia.benchmarks.model.Shape.Square;
+
+/**
+ * The entity shapes the codec benchmarks run against
+ */
+public enum Fixture {
+    FLAT(Flat.class, Flat::new),
+    NESTED(Nested.class, Nested::new),
+    POLYMORPHIC(Shape.class, Square::new),
+    REFERENCES(Referencing.class, Referencing::new),
+    CONTAINERS(Containers.class, Containers::new);
+
+    private final Class<?> type;
+    private final Supplier<Object> factory;
+
+    Fixture(Class<?> type, Supplier<Object> factory) {
+        this.type = type;
+        this.factory = factory;
+    }
+
+    /**
+     * @return the type to look the codec up with. For the polymorphic shape this is the root of the hierarchy so decoding goes through
+     *         the discriminator.
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * @return a new instance of the entity
+     */
+    public Object create() {
+        return factory.get();
+    }
+}
@@ -0,0 +1,38 @@
+package dev.morphia.benchmarks;
+
+import java.util.List;
+
+import com.mongodb.MongoClientSettings;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.benchmarks.model.Flat;
+import dev.morphia.config.MorphiaConfig;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The datastore shared by the benchmarks. Nothing here talks to a server so the datastore is created without a client and only uses the
+ * driver's default codec registry.
+ */
+@State(Scope.Benchmark)
+public class MorphiaState {
+    private MorphiaDatastore datastore;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        datastore = new MorphiaDatastore(MongoClientSettings.getDefaultCodecRegistry(), MorphiaConfig.load()
+                .database("benchmarks")
+                .enablePolymorphicQueries(true)
+                .packages(List.of(Flat.class.getPackageName())));
+    }
+
+    /**
+     * @return the datastore
+     */
+    public MorphiaDatastore datastore() {
+        return datastore;
+    }
+}
@@ -0,0 +1,124 @@
+package dev.morphia.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.aggregation.stages.Stage;
+import dev.morphia.benchmarks.model.Containers;
+import dev.morphia.benchmarks.model.Flat;
+import dev.morphia.benchmarks.model.Nested;
+import dev.morphia.benchmarks.model.Shape;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.query.Operations;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.query.internal.QueryDocument;
+import dev.morphia.query.updates.UpdateOperator;
+
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.stages.Group.group;
+import static dev.morphia.aggregation.stages.Group.id;
+import static dev.morphia.aggregation.stages.Limit.limit;
+import static dev.morphia.aggregation.stages.Match.match;
+import static dev.morphia.aggregation.stages.Sort.sort;
+import static dev.morphia.query.filters.Filters.elemMatch;
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.gt;
+import static dev.morphia.query.filters.Filters.in;
+import static dev.morphia.query.updates.UpdateOperators.inc;
+import static dev.morphia.query.updates.UpdateOperators.push;
+import static dev.morphia.query.updates.UpdateOperators.set;
+
+/**
+ * Measures building the documents sent to the server for queries, updates, and aggregations. Each operation is built from scratch on
+ * every call as an application would. The datastore has no client so the filters and stages are encoded directly, the same way
+ * {@code Query} and {@code Aggregation} encode them. Run with {@code -prof gc} to see the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+    private MorphiaDatastore datastore;
+    private EntityModel flatModel;
+
+    @Setup(Level.Trial)
+    public void setup(MorphiaState state) {
+        datastore = state.datastore();
+        flatModel = datastore.getMapper().getEntityModel(Flat.class);
+    }
+
+    @Benchmark
+    public Document simpleQuery() {
+        return query(Flat.class, eq("name", "benchmark"));
+    }
+
+    @Benchmark
+    public Document compoundQuery() {
+        return query(Flat.class,
+                eq("name", "benchmark"),
+                gt("count", 10),
+                in("tags", List.of("one", "two")),
+                eq("active", true));
+    }
+
+    @Benchmark
+    public Document embeddedPathQuery() {
+        return query(Nested.class, eq("first.second.third.name", "third"));
+    }
+
+    @Benchmark
+    public Document arrayQuery() {
+        return query(Containers.class, elemMatch("items", eq("name", "item 4"), gt("quantity", 3)));
+    }
+
+    @Benchmark
+    public Document polymorphicQuery() {
+        return query(Shape.class, eq("color", "red"));
+    }
+
+    @Benchmark
+    public Document update() {
+        List<UpdateOperator> updates = List.of(set("name", "updated"), inc("count", 1), push("tags", "four"));
+        return new Operations(datastore, flatModel, updates, true).toDocument(datastore);
+    }
+
+    @Benchmark
+    public List<Document> pipeline() {
+        List<Stage> stages = List.of(match(eq("active", true)),
+                group(id("$name"))
+                        .field("total", sum("$count")),
+                sort().descending("total"),
+                limit(10));
+        List<Document> pipeline = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            pipeline.add(DocumentWriter.encode(stage, datastore.getMapper(), datastore.getCodecRegistry()));
+        }
+        return pipeline;
+    }
+
+    private Document query(Class<?> type, Filter... filters) {
+        List<Filter> list = new ArrayList<>(filters.length);
+        for (Filter filter : filters) {
+            list.add(filter.entityType(type).isValidating(true));
+        }
+        return QueryDocument.build(datastore.getMapper(), datastore.getCodecRegistry(), type, list, null);
+    }
+}
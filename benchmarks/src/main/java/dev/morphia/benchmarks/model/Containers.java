@@ -0,0 +1,56 @@
+package dev.morphia.benchmarks.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+/**
+ * An entity holding large arrays and maps
+ */
+@Entity("containers")
+public class Containers {
+    @Id
+    private ObjectId id = new ObjectId();
+    private List<Integer> numbers = new ArrayList<>();
+    private List<Item> items = new ArrayList<>();
+    private Map<String, String> labels = new LinkedHashMap<>();
+    private Map<String, Item> itemsByName = new LinkedHashMap<>();
+
+    /**
+     * Creates a populated entity
+     */
+    public Containers() {
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            Item item = new Item("item " + i, i);
+            items.add(item);
+            labels.put("label" + i, "value " + i);
+            itemsByName.put(item.name, item);
+        }
+    }
+
+    /**
+     * An embedded value held in the arrays and maps
+     */
+    @Entity
+    public static class Item {
+        private String name;
+        private int quantity;
+
+        Item() {
+        }
+
+        Item(String name, int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+    }
+}
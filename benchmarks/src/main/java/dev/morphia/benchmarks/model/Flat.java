@@ -0,0 +1,29 @@
+package dev.morphia.benchmarks.model;
+
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.LoadOnly;
+import dev.morphia.annotations.Property;
+
+import org.bson.types.ObjectId;
+
+/**
+ * An entity with only simple properties
+ */
+@Entity("flat")
+public class Flat {
+    @Id
+    private ObjectId id = new ObjectId();
+    private String name = "benchmark";
+    private int count = 42;
+    private long total = 42_000L;
+    private double ratio = 0.42;
+    private boolean active = true;
+    @Property("desc")
+    private String description = "an entity with only simple properties";
+    private List<String> tags = List.of("one", "two", "three");
+    @LoadOnly
+    private String legacy = "never written";
+}
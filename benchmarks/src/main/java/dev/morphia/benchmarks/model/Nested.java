@@ -0,0 +1,56 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+/**
+ * An entity with embedded values several levels deep
+ */
+@Entity("nested")
+public class Nested {
+    @Id
+    private ObjectId id = new ObjectId();
+    private String name = "root";
+    private First first = new First();
+
+    /**
+     * The first level of embedded values
+     */
+    @Entity
+    public static class First {
+        private String name = "first";
+        private int depth = 1;
+        private Second second = new Second();
+    }
+
+    /**
+     * The second level of embedded values
+     */
+    @Entity
+    public static class Second {
+        private String name = "second";
+        private int depth = 2;
+        private Third third = new Third();
+    }
+
+    /**
+     * The third level of embedded values
+     */
+    @Entity
+    public static class Third {
+        private String name = "third";
+        private int depth = 3;
+        private Fourth fourth = new Fourth();
+    }
+
+    /**
+     * The innermost level of embedded values
+     */
+    @Entity
+    public static class Fourth {
+        private String name = "fourth";
+        private int depth = 4;
+    }
+}
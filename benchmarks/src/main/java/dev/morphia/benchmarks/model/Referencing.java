@@ -0,0 +1,34 @@
+package dev.morphia.benchmarks.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+
+import org.bson.types.ObjectId;
+
+/**
+ * An entity that refers to many others. The references are lazy so that decoding them creates proxies instead of loading the
+ * referenced entities.
+ */
+@Entity("referencing")
+public class Referencing {
+    @Id
+    private ObjectId id = new ObjectId();
+    @Reference(lazy = true)
+    private Flat single = new Flat();
+    @Reference(lazy = true)
+    private List<Flat> many = flats(50);
+    @Reference(lazy = true, idOnly = true)
+    private List<Flat> ids = flats(50);
+
+    private static List<Flat> flats(int count) {
+        List<Flat> flats = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            flats.add(new Flat());
+        }
+        return flats;
+    }
+}
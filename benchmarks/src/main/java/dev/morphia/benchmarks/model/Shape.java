@@ -0,0 +1,40 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+/**
+ * The root of a hierarchy stored in a single collection and told apart by discriminator
+ */
+@Entity("shapes")
+public abstract class Shape {
+    @Id
+    private ObjectId id = new ObjectId();
+    private String color = "red";
+
+    /**
+     * A circle
+     */
+    @Entity("shapes")
+    public static class Circle extends Shape {
+        private double radius = 4.2;
+    }
+
+    /**
+     * A rectangle
+     */
+    @Entity("shapes")
+    public static class Rectangle extends Shape {
+        private double width = 4.2;
+        private double height = 2.4;
+    }
+
+    /**
+     * A square
+     */
+    @Entity("shapes")
+    public static class Square extends Rectangle {
+    }
+}
@@ -11,6 +11,7 @@ import com.mongodb.lang.Nullable;
 import dev.morphia.aggregation.Aggregation;
 import dev.morphia.annotations.internal.MorphiaExperimental;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.EntityCache;
 import dev.morphia.query.Query;
 import dev.morphia.transactions.MorphiaSession;
 import dev.morphia.transactions.MorphiaTransaction;
@@ -84,6 +85,19 @@ public interface Datastore {
     @MorphiaExperimental
     <T> Query<T> find(Class<T> type, Document nativeQuery);
 
+    /**
+     * Finds the cache used for an entity. The cache's statistics show how often lookups have been served from it.
+     *
+     * @param type the entity type
+     * @return the cache or null if the entity is not cached
+     * @see dev.morphia.annotations.Cached
+     * @since 3.0
+     */
+    @Nullable
+    default EntityCache getCache(Class<?> type) {
+        return null;
+    }
+
     /**
      * @param type the type look up
      * @param <T>  the class type
@@ -150,7 +164,7 @@ public interface Datastore {
      *
      * @param entity the entity to merge back in to the database
      * @param <T>    the type of the entity
-     * @return the new merged entity. NOTE: this is a database fetch.
+     * @return the new merged entity as returned by the server
      */
     <T> T merge(T entity);
 
@@ -160,11 +174,38 @@ public interface Datastore {
      * @param entity  the entity to merge back in to the database
      * @param options the options to apply
      * @param <T>     the type of the entity
-     * @return the new merged entity. NOTE: this is a database fetch.
+     * @return the new merged entity as returned by the server
      * @since 2.0
      */
     <T> T merge(T entity, InsertOneOptions options);
 
+    /**
+     * Merges each entity in to the database as {@link #merge(Object)} does. The updates are sent together as one bulk write per entity
+     * type and the merged documents are not fetched back.
+     *
+     * @param entities the entities to merge back in to the database
+     * @param <T>      the type of the entities
+     * @since 3.0
+     */
+    default <T> void merge(List<T> entities) {
+        merge(entities, new InsertOneOptions());
+    }
+
+    /**
+     * Merges each entity in to the database as {@link #merge(Object, InsertOneOptions)} does. Implementations may send the updates
+     * together as one bulk write per entity type in which case the merged documents are not fetched back.
+     *
+     * @param entities the entities to merge back in to the database
+     * @param options  the options to apply
+     * @param <T>      the type of the entities
+     * @since 3.0
+     */
+    default <T> void merge(List<T> entities, InsertOneOptions options) {
+        for (T entity : entities) {
+            merge(entity, options);
+        }
+    }
+
     /**
      * Returns a new query based on the example object
      *
@@ -220,7 +261,10 @@ public interface Datastore {
     }
 
     /**
-     * Replaces a list of documents in the database
+     * Replaces a list of documents in the database. The entities are written with one bulk write per collection. As with
+     * {@link #replace(Object, ReplaceOptions)}, an entity that matches no document fails the call. Unlike that method, an entity that
+     * matches a document identical to it is counted as replaced, since a bulk write only reports how many documents were modified and
+     * not which ones.
      *
      * @param entities the entities to replace
      * @param <T>      the type of the entity
@@ -273,6 +317,16 @@ public interface Datastore {
      */
     <T> T save(T entity, InsertOneOptions options);
 
+    /**
+     * Stops the background work this datastore has started, such as watching cached collections for changes. The client is not closed.
+     * Call this before closing the client or discarding the datastore.
+     *
+     * @see dev.morphia.annotations.Cached#watch()
+     * @since 3.0
+     */
+    default void shutdown() {
+    }
+
     /**
      * Starts a new session on the server.
      *
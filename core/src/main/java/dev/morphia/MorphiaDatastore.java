@@ -2,25 +2,38 @@ package dev.morphia;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoException;
 import com.mongodb.MongoWriteException;
 import com.mongodb.WriteConcern;
+import com.mongodb.WriteError;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.ValidationOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
@@ -39,6 +52,9 @@ import dev.morphia.annotations.ShardOptions;
 import dev.morphia.annotations.Validation;
 import dev.morphia.annotations.internal.IndexHelper;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.CachingOperations;
+import dev.morphia.cache.EntityCache;
+import dev.morphia.cache.EntityCaches;
 import dev.morphia.config.MorphiaConfig;
 import dev.morphia.internal.CollectionConfigurable;
 import dev.morphia.internal.CollectionConfiguration;
@@ -48,6 +64,7 @@ import dev.morphia.mapping.EntityModelImporter;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.ShardKeyType;
+import dev.morphia.mapping.codec.CachingCodecRegistry;
 import dev.morphia.mapping.codec.EnumCodecProvider;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
 import dev.morphia.mapping.codec.MorphiaExpressionCodecProvider;
@@ -61,9 +78,10 @@ import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.CountOptions;
 import dev.morphia.query.FindAndDeleteOptions;
-import dev.morphia.query.FindOptions;
+import dev.morphia.query.Operations;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.UpdateException;
@@ -72,14 +90,19 @@ import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.MorphiaTransaction;
 import dev.morphia.transactions.SessionDatastore;
 
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static dev.morphia.metrics.MeasuringOperations.measure;
 import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.updates.UpdateOperators.set;
 import static dev.morphia.sofia.Sofia.noDocumentsUpdated;
@@ -100,10 +123,13 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class MorphiaDatastore implements Datastore {
     private static final Logger LOG = LoggerFactory.getLogger(Datastore.class);
+    private static final int UNMATCHED_BATCH_SIZE = 1000;
     private final MongoClient mongoClient;
     private final Mapper mapper;
     private final QueryFactory queryFactory;
     private final CodecRegistry codecRegistry;
+    private final EntityCaches caches;
+    private final MorphiaMetrics metrics;
     public List<MorphiaCodecProvider> morphiaCodecProviders = new ArrayList<>();
     private MongoDatabase database;
     private DatastoreOperations operations;
@@ -118,6 +144,7 @@ public class MorphiaDatastore implements Datastore {
     public MorphiaDatastore(MongoClient client, MorphiaConfig config) {
         this.mongoClient = client;
         this.mapper = new Mapper(config);
+        this.metrics = config.metrics();
         this.queryFactory = mapper.getConfig().queryFactory();
         importModels();
 
@@ -125,12 +152,10 @@ public class MorphiaDatastore implements Datastore {
         codecRegistry = buildRegistry(clientDatabase.getCodecRegistry());
 
         this.database = clientDatabase.withCodecRegistry(this.codecRegistry);
-        operations = new CollectionOperations();
+        caches = new EntityCaches(this, config.cacheFactory());
+        operations = new CachingOperations(measure(new CollectionOperations(), metrics), caches, false);
 
-        config.packages().forEach(packageName -> {
-            Sofia.logMappingPackage(packageName);
-            mapper.map(packageName);
-        });
+        mapper.mapPackages(config.packages());
         if (config.applyCaps()) {
             applyCaps();
         }
@@ -142,6 +167,32 @@ public class MorphiaDatastore implements Datastore {
         }
     }
 
+    /**
+     * Creates a datastore which only maps entities. The mapper and codecs are built just as they are for a connected datastore but there
+     * is no client so anything needing the server will fail. This lets other I/O layers share Morphia's mapping and query building.
+     * Caps, indexes, and document validations are not applied.
+     *
+     * @param codecRegistry the driver's codec registry
+     * @param config        the config
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaDatastore(CodecRegistry codecRegistry, MorphiaConfig config) {
+        this.mongoClient = null;
+        this.mapper = new Mapper(config);
+        this.metrics = config.metrics();
+        this.queryFactory = mapper.getConfig().queryFactory();
+        importModels();
+
+        this.codecRegistry = buildRegistry(codecRegistry);
+        caches = new EntityCaches(this, config.cacheFactory());
+        operations = new CachingOperations(measure(new CollectionOperations(), metrics), caches, false);
+
+        mapper.mapPackages(config.packages());
+    }
+
     /**
      * Copy constructor for a datastore
      *
@@ -156,6 +207,8 @@ public class MorphiaDatastore implements Datastore {
         this.mapper = datastore.mapper.copy();
         this.queryFactory = datastore.queryFactory;
         this.operations = datastore.operations;
+        this.caches = datastore.caches;
+        this.metrics = datastore.metrics;
         codecRegistry = buildRegistry(mongoClient.getDatabase(mapper.getConfig().database()).getCodecRegistry());
     }
 
@@ -176,8 +229,7 @@ public class MorphiaDatastore implements Datastore {
         providers.addAll(morphiaCodecProviders);
         providers.add(codecRegistry);
         providers.add(new GeoJsonCodecProvider());
-        codecRegistry = fromProviders(providers);
-        return codecRegistry;
+        return new CachingCodecRegistry(fromProviders(providers));
     }
 
     @Override
@@ -345,6 +397,39 @@ public class MorphiaDatastore implements Datastore {
         return queryFactory.createQuery(this, type);
     }
 
+    @Override
+    @Nullable
+    public EntityCache getCache(Class<?> type) {
+        return mapper.isMappable(type) ? caches.get(mapper.getEntityModel(type)) : null;
+    }
+
+    @Override
+    public void shutdown() {
+        caches.close();
+    }
+
+    /**
+     * @return the entity caches
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public EntityCaches getCaches() {
+        return caches;
+    }
+
+    /**
+     * @return the metrics timings are reported to
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * @return the codec registry
      */
@@ -385,11 +470,7 @@ public class MorphiaDatastore implements Datastore {
         VersionBumpInfo info = updateVersioning(entity);
 
         try {
-            Document filter = new Document("_id", id);
-            info.filter(filter);
-            entityModel.getShardKeys().forEach((property) -> {
-                filter.put(property.getMappedName(), property.getValue(entity));
-            });
+            Document filter = replaceFilter(entityModel, entity, id, info);
 
             UpdateResult updateResult = operations.replaceOne(collection, entity, filter, options);
 
@@ -458,18 +539,12 @@ public class MorphiaDatastore implements Datastore {
 
         final Query<T> query = info.filter((Query<T>) find(entity.getClass()).filter(eq("_id", id)));
 
-        UpdateResult execute;
-        UpdateOptions updateOptions = new UpdateOptions()
-                .writeConcern(options.writeConcern());
-        if (!options.unsetMissing()) {
-            execute = query.update(updateOptions, set(entity));
-        } else {
-            MorphiaCodec morphiaCodec = (MorphiaCodec) codecRegistry.get(entity.getClass());
-            var updates = ((MergingEncoder<T>) new MergingEncoder(query, morphiaCodec, mapper.getConfig()))
-                    .encode(entity);
-            execute = query.update(updateOptions, updates.toArray(new UpdateOperator[0]));
-        }
-        if (execute.getMatchedCount() != 1) {
+        List<UpdateOperator> updates = mergeUpdates(query, entity, options);
+        T merged = query.modify(new ModifyOptions()
+                .returnDocument(ReturnDocument.AFTER)
+                .writeConcern(options.writeConcern()),
+                updates.get(0), updates.subList(1, updates.size()).toArray(new UpdateOperator[0]));
+        if (merged == null) {
             if (info.versioned()) {
                 info.rollbackVersion();
                 throw new VersionMismatchException(entity.getClass(), id);
@@ -477,7 +552,55 @@ public class MorphiaDatastore implements Datastore {
             throw new UpdateException(Sofia.noMatchingDocuments());
         }
 
-        return (T) find(entity.getClass()).filter(eq("_id", id)).iterator(new FindOptions().limit(1)).next();
+        return merged;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> void merge(List<T> entities, InsertOneOptions options) {
+        for (T entity : entities) {
+            if (mapper.getId(entity) == null) {
+                throw new MappingException(Sofia.missingIdOnMerge(entity.getClass().getName()));
+            }
+        }
+
+        BulkWriteOptions bulkWriteOptions = new BulkWriteOptions()
+                .bypassDocumentValidation(options.bypassDocumentValidation());
+        for (Entry<Class<?>, List<T>> entry : groupByType(entities, model -> false).entrySet()) {
+            MongoCollection<T> collection = configureCollection(options, (MongoCollection<T>) getCollection(entry.getKey()));
+            EntityModel entityModel = mapper.getEntityModel(entry.getKey());
+
+            List<PendingWrite<T>> writes = new ArrayList<>();
+            for (T entity : entry.getValue()) {
+                Object id = mapper.getId(entity);
+                VersionBumpInfo info = updateVersioning(entity);
+                Document filter = new Document("_id", id);
+                info.filter(filter);
+                List<UpdateOperator> updates = mergeUpdates(find((Class<T>) entity.getClass()), entity, options);
+                Document update = new Operations(this, entityModel, updates, true).toDocument(this);
+                writes.add(new PendingWrite<>(entity, id, info, filter, new UpdateOneModel<>(filter, update), false));
+            }
+
+            List<PendingWrite<T>> unmatched = bulkWrite(collection, writes, bulkWriteOptions);
+            if (!unmatched.isEmpty()) {
+                unmatched.forEach(write -> write.info.rollbackVersion());
+                PendingWrite<T> first = unmatched.get(0);
+                if (first.info.versioned()) {
+                    throw new VersionMismatchException(first.entity.getClass(), first.id);
+                }
+                throw new UpdateException(Sofia.noMatchingDocuments());
+            }
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <T> List<UpdateOperator> mergeUpdates(Query<T> query, T entity, InsertOneOptions options) {
+        if (!options.unsetMissing()) {
+            return List.of(set(entity));
+        }
+        MorphiaCodec morphiaCodec = (MorphiaCodec) codecRegistry.get(entity.getClass());
+        return ((MergingEncoder<T>) new MergingEncoder(query, morphiaCodec, mapper.getConfig()))
+                .encode(entity);
     }
 
     protected MongoClient getMongoClient() {
@@ -564,13 +687,14 @@ public class MorphiaDatastore implements Datastore {
         }
 
         Map<Class<?>, List<T>> grouped = new LinkedHashMap<>();
-        List<T> list = new ArrayList<>();
+        Map<Class<?>, List<T>> existing = new LinkedHashMap<>();
         for (T entity : entities) {
             Class<?> type = entity.getClass();
 
             EntityModel model = getMapper().getEntityModel(type);
             if (getMapper().getId(entity) != null || model.getVersionProperty() != null) {
-                list.add(entity);
+                existing.computeIfAbsent(type, c -> new ArrayList<>())
+                        .add(entity);
             } else {
                 grouped.computeIfAbsent(type, c -> new ArrayList<>())
                         .add(entity);
@@ -587,12 +711,33 @@ public class MorphiaDatastore implements Datastore {
             operations.insertMany(collection, entry.getValue(), options);
         }
 
-        InsertOneOptions insertOneOptions = new InsertOneOptions()
-                .bypassDocumentValidation(options.bypassDocumentValidation())
-                .collection(alternate)
-                .writeConcern(options.writeConcern());
-        for (T entity : list) {
-            save(entity, insertOneOptions);
+        BulkWriteOptions bulkWriteOptions = new BulkWriteOptions()
+                .ordered(options.driver().isOrdered())
+                .bypassDocumentValidation(options.bypassDocumentValidation());
+        for (Entry<Class<?>, List<T>> entry : existing.entrySet()) {
+            MongoCollection<T> collection = configureCollection(options, (MongoCollection<T>) getCollection(entry.getKey()));
+            EntityModel entityModel = mapper.getEntityModel(entry.getKey());
+            PropertyModel idProperty = entityModel.getIdProperty();
+
+            List<PendingWrite<T>> writes = new ArrayList<>();
+            for (T entity : entry.getValue()) {
+                Object id = idProperty != null ? idProperty.getValue(entity) : null;
+                VersionBumpInfo info = updateVersioning(entity);
+                if (id == null || info.versioned() && info.newVersion() == 1) {
+                    writes.add(new PendingWrite<>(entity, id, info));
+                } else {
+                    Document filter = replaceFilter(entityModel, entity, id, info);
+                    writes.add(new PendingWrite<>(entity, id, info, filter, new ReplaceOneModel<>(filter, entity,
+                            new com.mongodb.client.model.ReplaceOptions().upsert(!info.versioned())), !info.versioned()));
+                }
+            }
+
+            List<PendingWrite<T>> unmatched = bulkWrite(collection, writes, bulkWriteOptions);
+            if (!unmatched.isEmpty()) {
+                unmatched.forEach(write -> write.info.rollbackVersion());
+                PendingWrite<T> first = unmatched.get(0);
+                throw new VersionMismatchException(first.entity.getClass(), first.id);
+            }
         }
         return entities;
     }
@@ -653,7 +798,7 @@ public class MorphiaDatastore implements Datastore {
     @Nullable
     protected <T> T doTransaction(SessionDatastore morphiaSession, MorphiaTransaction<T> body) {
         try (morphiaSession) {
-            return morphiaSession.getSession().withTransaction(() -> body.execute(morphiaSession));
+            return morphiaSession.withTransaction(() -> body.execute(morphiaSession));
         }
     }
 
@@ -668,14 +813,147 @@ public class MorphiaDatastore implements Datastore {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> List<T> replace(List<T> entities, ReplaceOptions options) {
+        if (entities.isEmpty()) {
+            return entities;
+        }
         for (T entity : entities) {
-            replace(entity, options);
+            if (mapper.getId(entity) == null) {
+                throw new MissingIdException();
+            }
+        }
+
+        BulkWriteOptions bulkWriteOptions = new BulkWriteOptions()
+                .bypassDocumentValidation(options.getBypassDocumentValidation());
+        for (Entry<Class<?>, List<T>> entry : groupByType(entities, model -> false).entrySet()) {
+            MongoCollection<T> collection = configureCollection(options, (MongoCollection<T>) getCollection(entry.getKey()));
+            EntityModel entityModel = mapper.getEntityModel(entry.getKey());
+
+            List<PendingWrite<T>> writes = new ArrayList<>();
+            for (T entity : entry.getValue()) {
+                Object id = mapper.getId(entity);
+                VersionBumpInfo info = updateVersioning(entity);
+                Document filter = replaceFilter(entityModel, entity, id, info);
+                writes.add(new PendingWrite<>(entity, id, info, filter, new ReplaceOneModel<>(filter, entity, options), options.isUpsert()));
+            }
+
+            List<PendingWrite<T>> unmatched = bulkWrite(collection, writes, bulkWriteOptions);
+            if (!unmatched.isEmpty()) {
+                PendingWrite<T> first = unmatched.get(0);
+                if (first.info.versioned()) {
+                    unmatched.forEach(write -> write.info.rollbackVersion());
+                    throw new VersionMismatchException(first.entity.getClass(), first.id);
+                } else if (!entityModel.getShardKeys().isEmpty()) {
+                    throw new MappingException(noShardKeyMatch(entityModel.getShardKeys()
+                            .stream().map(PropertyModel::getMappedName)
+                            .collect(joining(", "))));
+                } else {
+                    throw new MappingException(noDocumentsUpdated(first.id));
+                }
+            }
         }
 
         return entities;
     }
 
+    /**
+     * Runs the writes as a single bulk write. Inserts and upserts always succeed unless the server reports an error. The filtered writes
+     * which do not upsert are checked against the matched count and, if some did not match, the server is queried to find which ones
+     * did not.
+     *
+     * @return the writes which did not match a document
+     */
+    private <T> List<PendingWrite<T>> bulkWrite(MongoCollection<T> collection, List<PendingWrite<T>> writes,
+            BulkWriteOptions options) {
+        List<WriteModel<T>> models = new ArrayList<>(writes.size());
+        int filtered = 0;
+        for (PendingWrite<T> write : writes) {
+            models.add(write.model);
+            if (write.filter != null) {
+                filtered++;
+            }
+        }
+
+        BulkWriteResult result;
+        try {
+            result = operations.bulkWrite(collection, models, options);
+        } catch (MongoBulkWriteException e) {
+            List<BulkWriteError> errors = e.getWriteErrors();
+            if (errors.isEmpty()) {
+                throw e;
+            }
+            int firstFailure = errors.get(0).getIndex();
+            for (int i = 0; i < writes.size(); i++) {
+                int index = i;
+                boolean failed = options.isOrdered() ? index >= firstFailure
+                        : errors.stream().anyMatch(error -> error.getIndex() == index);
+                if (failed) {
+                    writes.get(i).info.rollbackVersion();
+                }
+            }
+            if (errors.size() == 1) {
+                throw new MongoWriteException(new WriteError(errors.get(0)), e.getServerAddress(), e.getErrorLabels());
+            }
+            throw e;
+        }
+
+        if (!result.wasAcknowledged() || result.getMatchedCount() + result.getUpserts().size() >= filtered) {
+            return List.of();
+        }
+        return findUnmatched(collection, writes);
+    }
+
+    /**
+     * Finds the writes whose documents are not in the state they should be in after the write. The filters are sent in batches of
+     * {@value #UNMATCHED_BATCH_SIZE} to keep each query well under the maximum document size.
+     */
+    private <T> List<PendingWrite<T>> findUnmatched(MongoCollection<T> collection, List<PendingWrite<T>> writes) {
+        List<PendingWrite<T>> candidates = writes.stream()
+                .filter(write -> write.filter != null && !write.upsert)
+                .collect(Collectors.toList());
+
+        Set<BsonValue> found = new HashSet<>();
+        MongoCollection<BsonDocument> documents = collection.withDocumentClass(BsonDocument.class);
+        for (int start = 0; start < candidates.size(); start += UNMATCHED_BATCH_SIZE) {
+            List<Document> filters = candidates.subList(start, Math.min(start + UNMATCHED_BATCH_SIZE, candidates.size())).stream()
+                    .map(PendingWrite::appliedFilter)
+                    .collect(Collectors.toList());
+            try (MongoCursor<BsonDocument> cursor = operations.find(documents, new Document("$or", filters))
+                    .projection(new Document("_id", 1))
+                    .iterator()) {
+                cursor.forEachRemaining(document -> found.add(document.get("_id")));
+            }
+        }
+
+        return candidates.stream()
+                .filter(write -> !found.contains(new Document("_id", write.id).toBsonDocument(BsonDocument.class, codecRegistry)
+                        .get("_id")))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Builds the filter for replacing an entity. It matches the ID, the version the entity had before it was bumped, and any shard keys.
+     *
+     * @param entityModel the entity's model
+     * @param entity      the entity
+     * @param id          the entity's ID
+     * @param info        the entity's version bump
+     * @return the filter
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public Document replaceFilter(EntityModel entityModel, Object entity, Object id, VersionBumpInfo info) {
+        Document filter = new Document("_id", id);
+        info.filter(filter);
+        entityModel.getShardKeys().forEach((property) -> {
+            filter.put(property.getMappedName(), property.getValue(entity));
+        });
+        return filter;
+    }
+
     /**
      * @param model      internal
      * @param validation internal
@@ -728,11 +1006,7 @@ public class MorphiaDatastore implements Datastore {
                 ReplaceOptions updateOptions = new ReplaceOptions()
                         .bypassDocumentValidation(options.bypassDocumentValidation())
                         .upsert(!info.versioned);
-                Document filter = new Document("_id", id);
-                info.filter(filter);
-                entityModel.getShardKeys().forEach((property) -> {
-                    filter.put(property.getMappedName(), property.getValue(entity));
-                });
+                Document filter = replaceFilter(entityModel, entity, id, info);
 
                 UpdateResult updateResult = operations.replaceOne(collection, entity, filter, updateOptions);
 
@@ -834,7 +1108,18 @@ public class MorphiaDatastore implements Datastore {
         return DocumentWriter.encode(entity, this.getMapper(), this.getCodecRegistry());
     }
 
-    private <T> VersionBumpInfo updateVersioning(T entity) {
+    /**
+     * Bumps the version of a versioned entity ahead of a write
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the bump so it can be filtered on and rolled back if the write fails
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public <T> VersionBumpInfo updateVersioning(T entity) {
         final EntityModel entityModel = mapper.getEntityModel(entity.getClass());
         PropertyModel versionProperty = entityModel.getVersionProperty();
         if (versionProperty != null) {
@@ -863,6 +1148,21 @@ public class MorphiaDatastore implements Datastore {
      * Defines the various operations the driver performs on behalf of a Datastore
      */
     public abstract static class DatastoreOperations {
+        /**
+         * Executes a mix of inserts, updates, replaces, and deletes.
+         *
+         * @param collection the collection to use
+         * @param requests   the writes to execute
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+                BulkWriteOptions options) {
+            return collection.bulkWrite(requests, options);
+        }
+
         /**
          * Counts the number of documents in the collection according to the given options.
          * 
@@ -1025,36 +1325,303 @@ public class MorphiaDatastore implements Datastore {
         public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
                 UpdateOptions options);
 
+        /**
+         * Counts the number of documents in the collection according to the given options. By default the query is converted to a
+         * {@code Document} and passed to {@link #countDocuments(MongoCollection, Document, CountOptions)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param options    the options to apply
+         * @return the count of documents found
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
+            return countDocuments(collection, document(collection, query), options);
+        }
+
+        /**
+         * Removes all documents from the collection that match the given query filter. By default the query is converted to a
+         * {@code Document} and passed to {@link #deleteMany(MongoCollection, Document, DeleteOptions)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+            return deleteMany(collection, document(collection, query), options);
+        }
+
+        /**
+         * Removes one document from the collection that match the given query filter. By default the query is converted to a
+         * {@code Document} and passed to {@link #deleteOne(MongoCollection, Document, DeleteOptions)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+            return deleteOne(collection, document(collection, query), options);
+        }
+
+        /**
+         * Finds all documents in the collection. By default the query is converted to a {@code Document} and passed to
+         * {@link #find(MongoCollection, Document)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> FindIterable<T> find(MongoCollection<T> collection, Bson query) {
+            return find(collection, document(collection, query));
+        }
+
+        /**
+         * Atomically find a document and remove it. By default the query is converted to a {@code Document} and passed to
+         * {@link #findOneAndDelete(MongoCollection, Document, FindAndDeleteOptions)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        @Nullable
+        public <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options) {
+            return findOneAndDelete(collection, document(collection, query), options);
+        }
+
+        /**
+         * Atomically find a document and update it. By default the query is converted to a {@code Document} and passed to
+         * {@link #findOneAndUpdate(MongoCollection, Document, Document, ModifyOptions)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param update     the update to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        @Nullable
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
+            return findOneAndUpdate(collection, document(collection, query), update, options);
+        }
+
+        /**
+         * Updates one or more documents. By default the query is converted to a {@code Document} and passed to
+         * {@link #updateMany(MongoCollection, Document, Document, UpdateOptions)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param updates    the updates to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+            return updateMany(collection, document(collection, query), updates, options);
+        }
+
+        /**
+         * Updates one or more documents. By default the query is converted to a {@code Document} and passed to
+         * {@link #updateMany(MongoCollection, Document, List, UpdateOptions)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param updates    the updates to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+            return updateMany(collection, document(collection, query), updates, options);
+        }
+
+        /**
+         * Updates one document. By default the query is converted to a {@code Document} and passed to
+         * {@link #updateOne(MongoCollection, Document, Document, UpdateOptions)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param updates    the updates to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+            return updateOne(collection, document(collection, query), updates, options);
+        }
+
+        /**
+         * Updates one document. By default the query is converted to a {@code Document} and passed to
+         * {@link #updateOne(MongoCollection, Document, List, UpdateOptions)}.
+         *
+         * @param collection the collection to use
+         * @param query      the query to use
+         * @param updates    the updates to apply
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+            return updateOne(collection, document(collection, query), updates, options);
+        }
+
+        private static Document document(MongoCollection<?> collection, Bson query) {
+            if (query instanceof Document) {
+                return (Document) query;
+            }
+            CodecRegistry registry = collection.getCodecRegistry();
+            return registry.get(Document.class).decode(new BsonDocumentReader(query.toBsonDocument(Document.class, registry)),
+                    DecoderContext.builder().build());
+        }
     }
 
-    private class CollectionOperations extends DatastoreOperations {
+    /**
+     * The base for the operations Morphia provides itself. These take the queries in whatever form they were encoded to and pass them
+     * to the driver as is, so the {@code Document} forms of the queries simply delegate to the {@code Bson} ones.
+     *
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public abstract static class BsonOperations extends DatastoreOperations {
         @Override
         public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+            return countDocuments(collection, (Bson) query, options);
+        }
+
+        @Override
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document query, DeleteOptions options) {
+            return deleteMany(collection, (Bson) query, options);
+        }
+
+        @Override
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document query, DeleteOptions options) {
+            return deleteOne(collection, (Bson) query, options);
+        }
+
+        @Override
+        public <T> FindIterable<T> find(MongoCollection<T> collection, Document query) {
+            return find(collection, (Bson) query);
+        }
+
+        @Override
+        @Nullable
+        public <T> T findOneAndDelete(MongoCollection<T> collection, Document query, FindAndDeleteOptions options) {
+            return findOneAndDelete(collection, (Bson) query, options);
+        }
+
+        @Override
+        @Nullable
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+            return findOneAndUpdate(collection, (Bson) query, update, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options) {
+            return updateMany(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates, UpdateOptions options) {
+            return updateMany(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options) {
+            return updateOne(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates, UpdateOptions options) {
+            return updateOne(collection, (Bson) query, updates, options);
+        }
+
+        @Override
+        public abstract <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options);
+
+        @Override
+        public abstract <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options);
+
+        @Override
+        public abstract <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options);
+
+        @Override
+        public abstract <T> FindIterable<T> find(MongoCollection<T> collection, Bson query);
+
+        @Override
+        @Nullable
+        public abstract <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options);
+
+        @Override
+        @Nullable
+        public abstract <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options);
+
+        @Override
+        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options);
+
+        @Override
+        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates,
+                UpdateOptions options);
+
+        @Override
+        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options);
+
+        @Override
+        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates,
+                UpdateOptions options);
+    }
+
+    private class CollectionOperations extends BsonOperations {
+        @Override
+        public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+                BulkWriteOptions options) {
+            return collection.bulkWrite(requests, options);
+        }
+
+        @Override
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
             return collection.countDocuments(query, options);
         }
 
         @Override
-        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteMany(queryDocument, options);
         }
 
         @Override
-        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteOne(queryDocument, options);
         }
 
         @Override
-        public <E> FindIterable<E> find(MongoCollection<E> collection, Document query) {
+        public <E> FindIterable<E> find(MongoCollection<E> collection, Bson query) {
             return collection.find(query);
         }
 
         @Override
-        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Bson queryDocument, FindAndDeleteOptions options) {
             return mongoCollection.findOneAndDelete(queryDocument, options);
         }
 
         @Override
-        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
             return collection.findOneAndUpdate(query, update, options);
         }
 
@@ -1081,13 +1648,13 @@ public class MorphiaDatastore implements Datastore {
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates,
                 UpdateOptions options) {
             return collection.updateMany(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates,
                 UpdateOptions options) {
             try {
                 return collection.updateOne(query, updates, options);
@@ -1097,20 +1664,66 @@ public class MorphiaDatastore implements Datastore {
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateMany(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateOne(query, updates, options);
         }
     }
 
     @MorphiaInternal
-    private static class VersionBumpInfo {
+    private static class PendingWrite<T> {
+        private final T entity;
+        private final Object id;
+        private final VersionBumpInfo info;
+        private final WriteModel<T> model;
+        private final Document filter;
+        private final boolean upsert;
+
+        PendingWrite(T entity, @Nullable Object id, VersionBumpInfo info) {
+            this.entity = entity;
+            this.id = id;
+            this.info = info;
+            model = new InsertOneModel<>(entity);
+            filter = null;
+            upsert = false;
+        }
+
+        PendingWrite(T entity, Object id, VersionBumpInfo info, Document filter, WriteModel<T> model, boolean upsert) {
+            this.entity = entity;
+            this.id = id;
+            this.info = info;
+            this.filter = filter;
+            this.model = model;
+            this.upsert = upsert;
+        }
+
+        /**
+         * @return the filter matching the document as it should be after the replacement
+         */
+        Document appliedFilter() {
+            Document applied = new Document(filter);
+            if (info.versionProperty != null) {
+                applied.put(info.versionProperty.getMappedName(), info.newVersion());
+            }
+            return applied;
+        }
+    }
+
+    /**
+     * Tracks the version change made to an entity before it is written
+     *
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public static class VersionBumpInfo {
         private final Long oldVersion;
         private final boolean versioned;
         private final Long newVersion;
@@ -5,13 +5,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import com.mongodb.ServerAddress;
-import com.mongodb.ServerCursor;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
-import com.mongodb.lang.Nullable;
 
 import dev.morphia.MorphiaDatastore;
+import dev.morphia.aggregation.codecs.ResultCodec;
 import dev.morphia.aggregation.expressions.impls.DocumentExpression;
 import dev.morphia.aggregation.expressions.impls.Expression;
 import dev.morphia.aggregation.stages.AddFields;
@@ -51,7 +49,6 @@ import dev.morphia.aggregation.stages.Unset;
 import dev.morphia.aggregation.stages.Unwind;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.codec.pojo.EntityModel;
-import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
 import dev.morphia.query.MorphiaCursor;
 import dev.morphia.query.filters.Filter;
@@ -59,11 +56,12 @@ import dev.morphia.query.filters.Filter;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import org.bson.Document;
-import org.bson.codecs.Codec;
-import org.bson.codecs.DecoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
 /**
  * @param <T> the starting type of the aggregation
  * @hidden
@@ -138,11 +136,14 @@ public class AggregationImpl<T> implements Aggregation<T> {
             LOG.debug("pipeline = " + pipeline);
         }
         if (datastore.getMapper().isMappable(resultType) && !resultType.equals(this.collection.getDocumentClass())) {
-            MongoCollection<Document> collection = this.collection.withDocumentClass(Document.class);
-            MongoCursor<Document> results = collection.aggregate(pipeline).iterator();
-            EntityModel entityModel = datastore.getMapper().getEntityModel(this.collection.getDocumentClass());
-            cursor = new MappingCursor<>(results, datastore.getCodecRegistry().get(resultType),
-                    entityModel.discriminatorKey());
+            EntityModel source = datastore.getMapper().getEntityModel(this.collection.getDocumentClass());
+            EntityModel target = datastore.getMapper().getEntityModel(resultType);
+            ResultCodec<R> codec = new ResultCodec<>(datastore.getCodecRegistry().get(resultType),
+                    source.discriminatorKey().equals(target.discriminatorKey()));
+            cursor = this.collection.withDocumentClass(resultType)
+                    .withCodecRegistry(fromRegistries(fromCodecs(codec), this.collection.getCodecRegistry()))
+                    .aggregate(pipeline, resultType)
+                    .iterator();
         } else {
             cursor = collection.aggregate(pipeline, resultType).iterator();
         }
@@ -387,57 +388,4 @@ public class AggregationImpl<T> implements Aggregation<T> {
         return this;
     }
 
-    private static class MappingCursor<R> implements MongoCursor<R> {
-        private final MongoCursor<Document> results;
-        private final Codec<R> codec;
-        private final String discriminator;
-
-        MappingCursor(MongoCursor<Document> results, Codec<R> codec, String discriminator) {
-            this.results = results;
-            this.codec = codec;
-            this.discriminator = discriminator;
-        }
-
-        @Override
-        public void close() {
-            results.close();
-        }
-
-        @Override
-        public boolean hasNext() {
-            return results.hasNext();
-        }
-
-        @Override
-        public R next() {
-            return map(results.next());
-        }
-
-        public int available() {
-            return results.available();
-        }
-
-        @Override
-        @Nullable
-        public R tryNext() {
-            return hasNext() ? next() : null;
-        }
-
-        @Override
-        @Nullable
-        public ServerCursor getServerCursor() {
-            return results.getServerCursor();
-        }
-
-        @Override
-        public ServerAddress getServerAddress() {
-            return results.getServerAddress();
-        }
-
-        private R map(Document next) {
-            next.remove(discriminator);
-            return codec.decode(new DocumentReader(next), DecoderContext.builder().build());
-        }
-    }
-
 }
@@ -0,0 +1,52 @@
+package dev.morphia.aggregation.codecs;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Decodes aggregation results straight from the server's response. The discriminator in the results, if any, describes the source type
+ * rather than the requested type so it is ignored when both use the same key.
+ *
+ * @param <R> the result type
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class ResultCodec<R> implements Codec<R> {
+    private static final DecoderContext CHECKED = DecoderContext.builder()
+            .checkedDiscriminator(true)
+            .build();
+
+    private final Codec<R> codec;
+    private final boolean ignoreDiscriminator;
+
+    /**
+     * @param codec               the codec for the result type
+     * @param ignoreDiscriminator true if the discriminator in the results should be ignored
+     */
+    public ResultCodec(Codec<R> codec, boolean ignoreDiscriminator) {
+        this.codec = codec;
+        this.ignoreDiscriminator = ignoreDiscriminator;
+    }
+
+    @Override
+    public R decode(BsonReader reader, DecoderContext decoderContext) {
+        return codec.decode(reader, ignoreDiscriminator ? CHECKED : decoderContext);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, R value, EncoderContext encoderContext) {
+        codec.encode(writer, value, encoderContext);
+    }
+
+    @Override
+    public Class<R> getEncoderClass() {
+        return codec.getEncoderClass();
+    }
+}
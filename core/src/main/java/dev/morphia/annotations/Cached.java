@@ -0,0 +1,47 @@
+package dev.morphia.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the documents of an entity by {@code _id}. Queries matching only on {@code _id} and references to the entity are served from
+ * the cache when possible. Entries are removed when the datastore writes to the entity's collection and, optionally, when a change
+ * stream reports changes made elsewhere.
+ *
+ * @see dev.morphia.cache.EntityCacheFactory
+ * @since 3.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cached {
+    /**
+     * @return the maximum number of entries to keep
+     */
+    int size() default 1000;
+
+    /**
+     * @return how long an entry is kept after it is read from the database. A value of 0 keeps entries until they are evicted.
+     */
+    long expireAfter() default 5;
+
+    /**
+     * @return the unit of {@link #expireAfter()}
+     */
+    TimeUnit unit() default TimeUnit.MINUTES;
+
+    /**
+     * Watches the collection with a change stream and removes entries as the documents are changed by other clients. Change streams
+     * need a replica set or sharded cluster. Each watched collection uses a background thread until the datastore is
+     * {@linkplain dev.morphia.Datastore#shutdown() shut down}.
+     *
+     * @return true if the collection should be watched
+     */
+    boolean watch() default false;
+}
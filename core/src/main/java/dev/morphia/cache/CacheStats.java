@@ -0,0 +1,69 @@
+package dev.morphia.cache;
+
+import static java.lang.String.format;
+
+/**
+ * A snapshot of the statistics of an {@link EntityCache}
+ *
+ * @since 3.0
+ */
+public class CacheStats {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long size;
+
+    /**
+     * @param hits      the number of lookups which found a document
+     * @param misses    the number of lookups which did not find a document
+     * @param evictions the number of documents removed because of size or age
+     * @param size      the number of documents currently cached
+     */
+    public CacheStats(long hits, long misses, long evictions, long size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of documents removed because of size or age
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the ratio of hits to lookups or 1 if there have been no lookups
+     */
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 1 : (double) hits / lookups;
+    }
+
+    /**
+     * @return the number of lookups which found a document
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups which did not find a document
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of documents currently cached
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return format("CacheStats{hits=%d, misses=%d, evictions=%d, size=%d}", hits, misses, evictions, size);
+    }
+}
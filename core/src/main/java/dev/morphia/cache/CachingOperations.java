@@ -0,0 +1,240 @@
+package dev.morphia.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.ModifyOptions;
+import dev.morphia.MorphiaDatastore.BsonOperations;
+import dev.morphia.MorphiaDatastore.DatastoreOperations;
+import dev.morphia.ReplaceOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindAndDeleteOptions;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * Removes cached documents which might have been changed by a write. Writes made in a transaction are remembered and removed again
+ * once the transaction ends so that documents read by others before the commit are not left in the cache.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class CachingOperations extends BsonOperations {
+    private final DatastoreOperations operations;
+    private final EntityCaches caches;
+    private final boolean transactional;
+    private final List<Invalidation> pending = new ArrayList<>();
+
+    /**
+     * @param operations    the operations to delegate to
+     * @param caches        the caches
+     * @param transactional true if the operations are run in a session
+     */
+    public CachingOperations(DatastoreOperations operations, EntityCaches caches, boolean transactional) {
+        this.operations = operations;
+        this.caches = caches;
+        this.transactional = transactional;
+    }
+
+    /**
+     * Removes the documents written since the last call. This should be called once a transaction has been committed or aborted.
+     */
+    public void completed() {
+        List<Invalidation> invalidations;
+        synchronized (pending) {
+            invalidations = new ArrayList<>(pending);
+            pending.clear();
+        }
+        invalidations.forEach(invalidation -> caches.invalidate(invalidation.collection, invalidation.filter));
+    }
+
+    @Override
+    public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+            BulkWriteOptions options) {
+        try {
+            return operations.bulkWrite(collection, requests, options);
+        } finally {
+            for (WriteModel<? extends T> request : requests) {
+                Bson filter = filter(request);
+                if (filter != null) {
+                    invalidate(collection, filter);
+                }
+            }
+        }
+    }
+
+    @Override
+    public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
+        return operations.countDocuments(collection, query, options);
+    }
+
+    @Override
+    public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        try {
+            return operations.deleteMany(collection, query, options);
+        } finally {
+            invalidate(collection, query);
+        }
+    }
+
+    @Override
+    public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        try {
+            return operations.deleteOne(collection, query, options);
+        } finally {
+            invalidate(collection, query);
+        }
+    }
+
+    @Override
+    public <T> FindIterable<T> find(MongoCollection<T> collection, Bson query) {
+        return operations.find(collection, query);
+    }
+
+    @Override
+    public <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options) {
+        try {
+            return operations.findOneAndDelete(collection, query, options);
+        } finally {
+            invalidate(collection, query);
+        }
+    }
+
+    @Override
+    public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
+        try {
+            return operations.findOneAndUpdate(collection, query, update, options);
+        } finally {
+            invalidate(collection, query);
+        }
+    }
+
+    @Override
+    public <T> InsertManyResult insertMany(MongoCollection<T> collection, List<T> list, InsertManyOptions options) {
+        return operations.insertMany(collection, list, options);
+    }
+
+    @Override
+    public <T> InsertOneResult insertOne(MongoCollection<T> collection, T entity, InsertOneOptions options) {
+        return operations.insertOne(collection, entity, options);
+    }
+
+    @Override
+    public <T> UpdateResult replaceOne(MongoCollection<T> collection, T entity, Document filter, ReplaceOptions options) {
+        try {
+            return operations.replaceOne(collection, entity, filter, options);
+        } finally {
+            invalidate(collection, filter);
+        }
+    }
+
+    @Override
+    public Document runCommand(Document command) {
+        return operations.runCommand(command);
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+        try {
+            return operations.updateMany(collection, query, updates, options);
+        } finally {
+            invalidate(collection, query);
+        }
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+        try {
+            return operations.updateMany(collection, query, updates, options);
+        } finally {
+            invalidate(collection, query);
+        }
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+        try {
+            return operations.updateOne(collection, query, updates, options);
+        } finally {
+            invalidate(collection, query);
+        }
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+        try {
+            return operations.updateOne(collection, query, updates, options);
+        } finally {
+            invalidate(collection, query);
+        }
+    }
+
+    /**
+     * Finds the filter of a write
+     *
+     * @param request the write
+     * @return the filter or null if the write is an insert
+     */
+    @Nullable
+    public static Bson filter(WriteModel<?> request) {
+        if (request instanceof ReplaceOneModel) {
+            return ((ReplaceOneModel<?>) request).getFilter();
+        } else if (request instanceof UpdateOneModel) {
+            return ((UpdateOneModel<?>) request).getFilter();
+        } else if (request instanceof UpdateManyModel) {
+            return ((UpdateManyModel<?>) request).getFilter();
+        } else if (request instanceof DeleteOneModel) {
+            return ((DeleteOneModel<?>) request).getFilter();
+        } else if (request instanceof DeleteManyModel) {
+            return ((DeleteManyModel<?>) request).getFilter();
+        }
+        return null;
+    }
+
+    private void invalidate(MongoCollection<?> collection, Bson filter) {
+        String name = collection.getNamespace().getCollectionName();
+        if (caches.get(name) == null) {
+            return;
+        }
+        caches.invalidate(name, filter);
+        if (transactional) {
+            synchronized (pending) {
+                pending.add(new Invalidation(name, filter));
+            }
+        }
+    }
+
+    private static class Invalidation {
+        private final String collection;
+        private final Bson filter;
+
+        Invalidation(String collection, Bson filter) {
+            this.collection = collection;
+            this.filter = filter;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.morphia.cache;
+
+import com.mongodb.lang.Nullable;
+
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+/**
+ * Holds the documents of one collection keyed by their {@code _id}. Documents rather than entities are cached so that each read
+ * decodes its own instance and runs the usual lifecycle events. Implementations must be safe to use from multiple threads.
+ *
+ * @see EntityCacheFactory
+ * @since 3.0
+ */
+public interface EntityCache {
+    /**
+     * Looks up a document and records a hit or a miss.
+     *
+     * @param id the document's ID
+     * @return the document or null if it is not cached
+     */
+    @Nullable
+    RawBsonDocument get(BsonValue id);
+
+    /**
+     * Caches a document
+     *
+     * @param id       the document's ID
+     * @param document the document
+     */
+    void put(BsonValue id, RawBsonDocument document);
+
+    /**
+     * Removes a document from the cache
+     *
+     * @param id the document's ID
+     */
+    void invalidate(BsonValue id);
+
+    /**
+     * Removes every document from the cache
+     */
+    void invalidateAll();
+
+    /**
+     * @return the statistics for this cache
+     */
+    CacheStats stats();
+}
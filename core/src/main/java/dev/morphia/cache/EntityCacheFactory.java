@@ -0,0 +1,23 @@
+package dev.morphia.cache;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.mapping.codec.pojo.EntityModel;
+
+/**
+ * Creates the caches for entities. The factory is set with {@link dev.morphia.config.MorphiaConfig#cacheFactory()} and is asked once
+ * for each mapped collection.
+ *
+ * @see dev.morphia.annotations.Cached
+ * @since 3.0
+ */
+public interface EntityCacheFactory {
+    /**
+     * Creates the cache for an entity
+     *
+     * @param model the entity's model
+     * @return the cache or null if the entity should not be cached
+     */
+    @Nullable
+    EntityCache create(EntityModel model);
+}
@@ -0,0 +1,317 @@
+package dev.morphia.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.Cached;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the entity caches of a datastore by collection name.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class EntityCaches {
+    private static final Logger LOG = LoggerFactory.getLogger(EntityCaches.class);
+
+    private final MorphiaDatastore datastore;
+    private final EntityCacheFactory factory;
+    private final Map<String, Holder> caches = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param datastore the datastore
+     * @param factory   the factory to create caches with
+     */
+    public EntityCaches(MorphiaDatastore datastore, EntityCacheFactory factory) {
+        this.datastore = datastore;
+        this.factory = factory;
+    }
+
+    /**
+     * Finds the ID of the one document a query can match if it only filters on {@code _id}.
+     *
+     * @param query the query
+     * @return the ID or null if the query is not an {@code _id} equality match
+     */
+    @Nullable
+    public static BsonValue idQuery(Bson query) {
+        if (!(query instanceof RawBsonDocument)) {
+            return null;
+        }
+        RawBsonDocument document = (RawBsonDocument) query;
+        if (document.size() != 1) {
+            return null;
+        }
+        BsonValue id = document.get("_id");
+        return id != null && !isOperator(id) ? id : null;
+    }
+
+    /**
+     * Finds the cache for an entity creating it if needed
+     *
+     * @param model the entity model
+     * @return the cache or null if the entity is not cached
+     */
+    @Nullable
+    public EntityCache get(EntityModel model) {
+        return caches.computeIfAbsent(model.collectionName(), name -> create(model)).cache;
+    }
+
+    /**
+     * Finds the cache for a collection if one has been created
+     *
+     * @param collection the collection name
+     * @return the cache or null if the collection is not cached
+     */
+    @Nullable
+    public EntityCache get(String collection) {
+        Holder holder = caches.get(collection);
+        return holder != null ? holder.cache : null;
+    }
+
+    /**
+     * Removes the documents a write might have changed
+     *
+     * @param collection the collection name
+     * @param filter     the filter of the write
+     */
+    public void invalidate(String collection, Bson filter) {
+        Holder holder = caches.get(collection);
+        if (holder == null || holder.cache == null) {
+            return;
+        }
+        List<BsonValue> ids = ids(filter, datastore.getCodecRegistry());
+        synchronized (holder) {
+            holder.stamp++;
+            if (ids == null) {
+                holder.cache.invalidateAll();
+            } else {
+                ids.forEach(holder.cache::invalidate);
+            }
+        }
+    }
+
+    /**
+     * Finds the IDs of the documents a filter can match
+     *
+     * @param filter   the filter
+     * @param registry the codec registry
+     * @return the IDs or null if the filter is not an {@code _id} equality or {@code $in} match
+     */
+    @Nullable
+    public static List<BsonValue> ids(Bson filter, CodecRegistry registry) {
+        BsonValue id = filter.toBsonDocument(BsonDocument.class, registry).get("_id");
+        if (id == null) {
+            return null;
+        } else if (!isOperator(id)) {
+            return List.of(id);
+        }
+        BsonDocument operator = id.asDocument();
+        if (operator.size() == 1 && operator.containsKey("$in") && operator.get("$in").isArray()) {
+            return operator.getArray("$in").getValues();
+        }
+        return null;
+    }
+
+    /**
+     * Encodes an ID to the form used as a cache key
+     *
+     * @param id the ID
+     * @return the encoded ID
+     */
+    public BsonValue key(Object id) {
+        if (id instanceof BsonValue) {
+            return (BsonValue) id;
+        }
+        BsonDocument document = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(document);
+        writer.writeStartDocument();
+        writer.writeName("_id");
+        Codec codec = datastore.getCodecRegistry().get(id.getClass());
+        EncoderContext.builder().build().encodeWithChildContext(codec, writer, id);
+        writer.writeEndDocument();
+        return document.get("_id");
+    }
+
+    /**
+     * Caches a document unless the collection has been written to since the given stamp was taken. Checking the stamp keeps a document
+     * read before a write from being cached after the write has removed it.
+     *
+     * @param collection the collection name
+     * @param id         the document's ID
+     * @param document   the document
+     * @param stamp      the stamp taken before the document was read
+     */
+    public void put(String collection, BsonValue id, RawBsonDocument document, long stamp) {
+        Holder holder = caches.get(collection);
+        if (holder != null && holder.cache != null) {
+            synchronized (holder) {
+                if (holder.stamp == stamp) {
+                    holder.cache.put(id, document);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param collection the collection name
+     * @return the current write stamp of the collection
+     * @see #put(String, BsonValue, RawBsonDocument, long)
+     */
+    public long stamp(String collection) {
+        Holder holder = caches.get(collection);
+        if (holder == null) {
+            return 0;
+        }
+        synchronized (holder) {
+            return holder.stamp;
+        }
+    }
+
+    /**
+     * Stops watching the cached collections for changes. The caches still serve reads and are still updated by this datastore's writes
+     * but changes made elsewhere are no longer seen so the caches are emptied as well.
+     */
+    public void close() {
+        closed = true;
+        for (Holder holder : caches.values()) {
+            Thread watcher = holder.watcher;
+            if (watcher != null) {
+                watcher.interrupt();
+                MongoChangeStreamCursor<?> cursor = holder.cursor;
+                if (cursor != null) {
+                    cursor.close();
+                }
+            }
+            if (holder.cache != null) {
+                invalidateAll(holder);
+            }
+        }
+    }
+
+    private static boolean isOperator(BsonValue value) {
+        if (!value.isDocument()) {
+            return false;
+        }
+        BsonDocument document = value.asDocument();
+        return !document.isEmpty() && document.getFirstKey().startsWith("$");
+    }
+
+    private Holder create(EntityModel model) {
+        EntityCache cache = factory.create(model);
+        Holder holder = new Holder(cache);
+        Cached cached = model.getAnnotation(Cached.class);
+        if (cache != null && cached != null && cached.watch() && !closed) {
+            Thread thread = new Thread(() -> watch(model.collectionName(), holder), "morphia-cache-" + model.collectionName());
+            thread.setDaemon(true);
+            holder.watcher = thread;
+            thread.start();
+        }
+        return holder;
+    }
+
+    private void watch(String collection, Holder holder) {
+        MongoCollection<Document> mongoCollection = datastore.getDatabase().getCollection(collection);
+        BsonDocument resumeToken = null;
+        while (!closed) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = resumeToken != null
+                    ? mongoCollection.watch().resumeAfter(resumeToken).cursor()
+                    : mongoCollection.watch().cursor()) {
+                holder.cursor = cursor;
+                if (closed) {
+                    return;
+                }
+                if (resumeToken == null) {
+                    invalidateAll(holder);
+                }
+                while (true) {
+                    ChangeStreamDocument<Document> event = cursor.next();
+                    BsonDocument key = event.getDocumentKey();
+                    if (key == null || !key.containsKey("_id")) {
+                        // drops, renames and invalidations end the stream so start over with an empty cache
+                        invalidateAll(holder);
+                        resumeToken = null;
+                        break;
+                    }
+                    resumeToken = event.getResumeToken();
+                    synchronized (holder) {
+                        holder.stamp++;
+                        holder.cache.invalidate(key.get("_id"));
+                    }
+                }
+            } catch (MongoCommandException e) {
+                LOG.warn("Could not watch {} for changes. Cached documents will only be removed by this datastore's writes: {}",
+                        collection, e.getMessage());
+                return;
+            } catch (MongoException e) {
+                if (closed) {
+                    return;
+                }
+                LOG.debug("Restarting the change stream on {}: {}", collection, e.getMessage());
+                invalidateAll(holder);
+                resumeToken = null;
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } catch (IllegalStateException e) {
+                if (closed) {
+                    return;
+                }
+                LOG.debug("Stopped watching {}: {}", collection, e.getMessage());
+                invalidateAll(holder);
+                return;
+            }
+        }
+    }
+
+    private void invalidateAll(Holder holder) {
+        synchronized (holder) {
+            holder.stamp++;
+            holder.cache.invalidateAll();
+        }
+    }
+
+    private static class Holder {
+        @Nullable
+        private final EntityCache cache;
+        private long stamp;
+        @Nullable
+        private volatile Thread watcher;
+        @Nullable
+        private volatile MongoChangeStreamCursor<?> cursor;
+
+        Holder(@Nullable EntityCache cache) {
+            this.cache = cache;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package dev.morphia.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mongodb.lang.Nullable;
+
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+/**
+ * A simple in memory cache which evicts the least recently used document once full and documents older than the configured age. A
+ * dedicated caching library can be used instead by providing an {@link EntityCacheFactory}.
+ *
+ * @since 3.0
+ */
+public class LocalEntityCache implements EntityCache {
+    private final int maximumSize;
+    private final long expireAfter;
+    private final Map<BsonValue, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize the maximum number of documents to keep
+     * @param expireAfter how long to keep a document or {@link Duration#ZERO} to keep documents until they are evicted
+     */
+    public LocalEntityCache(int maximumSize, Duration expireAfter) {
+        this.maximumSize = maximumSize;
+        this.expireAfter = expireAfter.toNanos();
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BsonValue, Entry> eldest) {
+                boolean full = size() > LocalEntityCache.this.maximumSize;
+                if (full) {
+                    evictions.increment();
+                }
+                return full;
+            }
+        };
+    }
+
+    @Override
+    @Nullable
+    public RawBsonDocument get(BsonValue id) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(id);
+            if (entry != null && entry.isExpired(expireAfter)) {
+                entries.remove(id);
+                evictions.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.document;
+    }
+
+    @Override
+    public void put(BsonValue id, RawBsonDocument document) {
+        synchronized (entries) {
+            entries.put(id, new Entry(document));
+        }
+    }
+
+    @Override
+    public void invalidate(BsonValue id) {
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public CacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private static class Entry {
+        private final RawBsonDocument document;
+        private final long created = System.nanoTime();
+
+        Entry(RawBsonDocument document) {
+            this.document = document;
+        }
+
+        boolean isExpired(long expireAfter) {
+            return expireAfter > 0 && System.nanoTime() - created > expireAfter;
+        }
+    }
+}
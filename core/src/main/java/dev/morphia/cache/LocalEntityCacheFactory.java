@@ -0,0 +1,24 @@
+package dev.morphia.cache;
+
+import java.time.Duration;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.Cached;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+
+/**
+ * Creates an in memory {@link LocalEntityCache} for each entity annotated with {@link Cached}.
+ *
+ * @since 3.0
+ */
+public class LocalEntityCacheFactory implements EntityCacheFactory {
+    @Override
+    @Nullable
+    public EntityCache create(EntityModel model) {
+        Cached cached = model.getAnnotation(Cached.class);
+        return cached != null
+                ? new LocalEntityCache(cached.size(), Duration.ofNanos(cached.unit().toNanos(cached.expireAfter())))
+                : null;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * Defines the types needed to cache entities by {@code _id}.
+ */
+@NonNullApi
+package dev.morphia.cache;
+
+import com.mongodb.lang.NonNullApi;
@@ -6,10 +6,14 @@ import java.util.Optional;
 
 import com.mongodb.lang.Nullable;
 
+import dev.morphia.cache.EntityCacheFactory;
+import dev.morphia.cache.LocalEntityCacheFactory;
 import dev.morphia.mapping.DateStorage;
 import dev.morphia.mapping.DiscriminatorFunction;
 import dev.morphia.mapping.NamingStrategy;
 import dev.morphia.mapping.PropertyDiscovery;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.metrics.NoOpMetrics;
 import dev.morphia.query.DefaultQueryFactory;
 import dev.morphia.query.QueryFactory;
 
@@ -32,6 +36,8 @@ public class ManualMorphiaConfig implements MorphiaConfig {
     Boolean applyDocumentValidations;
     Boolean applyIndexes;
 
+    EntityCacheFactory cacheFactory;
+
     Optional<CodecProvider> codecProvider;
 
     NamingStrategy collectionNaming;
@@ -43,7 +49,9 @@ public class ManualMorphiaConfig implements MorphiaConfig {
     String discriminatorKey;
     Boolean enablePolymorphicQueries;
     Boolean ignoreFinals;
+    MorphiaMetrics metrics;
     List<String> packages;
+    Boolean parallelMapping;
     PropertyDiscovery propertyDiscovery;
     List<PropertyAnnotationProvider<?>> propertyAnnotationProviders;
     NamingStrategy propertyNaming;
@@ -64,6 +72,7 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         applyCaps = base.applyCaps();
         applyDocumentValidations = base.applyDocumentValidations();
         applyIndexes = base.applyIndexes();
+        cacheFactory = base.cacheFactory();
         codecProvider = base.codecProvider();
         collectionNaming = base.collectionNaming();
         database = base.database();
@@ -72,7 +81,9 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         discriminatorKey = base.discriminatorKey();
         enablePolymorphicQueries = base.enablePolymorphicQueries();
         ignoreFinals = base.ignoreFinals();
+        metrics = base.metrics();
         packages = new ArrayList<>(base.packages());
+        parallelMapping = base.parallelMapping();
         propertyDiscovery = base.propertyDiscovery();
         propertyNaming = base.propertyNaming();
         queryFactory = base.queryFactory();
@@ -97,13 +108,14 @@ public class ManualMorphiaConfig implements MorphiaConfig {
 
     @Override
     public String toString() {
-        return ("MorphiaConfig{applyCaps=%s, applyDocumentValidations=%s, applyIndexes=%s, database='%s', codecProvider=%s, " +
-                "collectionNaming=%s, dateStorage=%s, discriminator=%s, discriminatorKey='%s', enablePolymorphicQueries=%s, " +
-                "ignoreFinals=%s, packages=%s, propertyDiscovery=%s, propertyNaming=%s, queryFactory=%s, " +
-                "storeEmpties=%s, storeNulls=%s}").formatted(
-                        applyCaps(), applyDocumentValidations(), applyIndexes(), database(), codecProvider(), collectionNaming(),
-                        dateStorage(), discriminator(), discriminatorKey(), enablePolymorphicQueries(), ignoreFinals(), packages(),
-                        propertyDiscovery(), propertyNaming(), queryFactory(), storeEmpties(), storeNulls());
+        return ("MorphiaConfig{applyCaps=%s, applyDocumentValidations=%s, applyIndexes=%s, cacheFactory=%s, database='%s', " +
+                "codecProvider=%s, collectionNaming=%s, dateStorage=%s, discriminator=%s, discriminatorKey='%s', " +
+                "enablePolymorphicQueries=%s, ignoreFinals=%s, metrics=%s, packages=%s, parallelMapping=%s, propertyDiscovery=%s, " +
+                "propertyNaming=%s, queryFactory=%s, storeEmpties=%s, storeNulls=%s}").formatted(
+                        applyCaps(), applyDocumentValidations(), applyIndexes(), cacheFactory(), database(), codecProvider(),
+                        collectionNaming(), dateStorage(), discriminator(), discriminatorKey(), enablePolymorphicQueries(), ignoreFinals(),
+                        metrics(), packages(), parallelMapping(), propertyDiscovery(), propertyNaming(), queryFactory(), storeEmpties(),
+                        storeNulls());
     }
 
     @Override
@@ -125,6 +137,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(applyIndexes, FALSE);
     }
 
+    @Override
+    public EntityCacheFactory cacheFactory() {
+        return orDefault(cacheFactory, new LocalEntityCacheFactory());
+    }
+
     @Override
     public Optional<CodecProvider> codecProvider() {
         return orDefault(codecProvider, Optional.empty());
@@ -160,11 +177,21 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(ignoreFinals, FALSE);
     }
 
+    @Override
+    public MorphiaMetrics metrics() {
+        return orDefault(metrics, new NoOpMetrics());
+    }
+
     @Override
     public List<String> packages() {
         return orDefault(packages, List.of());
     }
 
+    @Override
+    public Boolean parallelMapping() {
+        return orDefault(parallelMapping, FALSE);
+    }
+
     @Override
     public List<PropertyAnnotationProvider<?>> propertyAnnotationProviders() {
         return orDefault(propertyAnnotationProviders, List.of(new MorphiaPropertyAnnotationProvider()));
@@ -9,8 +9,11 @@ import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Validation;
 import dev.morphia.annotations.internal.MorphiaExperimental;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.EntityCacheFactory;
 import dev.morphia.config.converters.CodecProviderConverter;
 import dev.morphia.config.converters.DiscriminatorFunctionConverter;
+import dev.morphia.config.converters.EntityCacheFactoryConverter;
+import dev.morphia.config.converters.MorphiaMetricsConverter;
 import dev.morphia.config.converters.NamingStrategyConverter;
 import dev.morphia.config.converters.PropertyAnnotationProviderConverter;
 import dev.morphia.config.converters.QueryFactoryConverter;
@@ -18,6 +21,7 @@ import dev.morphia.mapping.DateStorage;
 import dev.morphia.mapping.DiscriminatorFunction;
 import dev.morphia.mapping.NamingStrategy;
 import dev.morphia.mapping.PropertyDiscovery;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.sofia.Sofia;
 
@@ -170,6 +174,31 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * Specifies the factory used to create the caches of entities. The default factory creates an in memory cache for each entity
+     * annotated with {@link dev.morphia.annotations.Cached}.
+     *
+     * @return the cache factory
+     * @since 3.0
+     */
+    @WithConverter(EntityCacheFactoryConverter.class)
+    @WithDefault("dev.morphia.cache.LocalEntityCacheFactory")
+    EntityCacheFactory cacheFactory();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig cacheFactory(EntityCacheFactory value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.cacheFactory = value;
+        return newConfig;
+    }
+
     /**
      * Specifies a {@code CodecProvider} to supply user defined codecs that Morphia should use.
      *
@@ -253,7 +282,7 @@ public interface MorphiaConfig {
      */
     @WithDefault("simpleName")
     @WithConverter(DiscriminatorFunctionConverter.class)
-    @PossibleValues({ "className", "lowerClassName", "lowerSimpleName", "simpleName", "fqcn" })
+    @PossibleValues({ "alias", "className", "lowerClassName", "lowerSimpleName", "simpleName", "fqcn" })
     DiscriminatorFunction discriminator();
 
     /**
@@ -357,6 +386,31 @@ public interface MorphiaConfig {
 
     }
 
+    /**
+     * Specifies where the timings of mapping and operations are reported. The default discards them without reading the clock.
+     *
+     * @return the metrics
+     * @see dev.morphia.metrics.InMemoryMetrics
+     * @since 3.0
+     */
+    @WithConverter(MorphiaMetricsConverter.class)
+    @WithDefault("dev.morphia.metrics.NoOpMetrics")
+    MorphiaMetrics metrics();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig metrics(MorphiaMetrics value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.metrics = value;
+        return newConfig;
+    }
+
     /**
      * A comma delimited list of packages that Morphia should map. If subpackages of a specific package should also be mapped, simply add
      * a '*' to the end of the package name. e.g., 'com.foo.bar.*'
@@ -380,6 +434,30 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * If true, the entity models for the configured packages are built concurrently on a fork-join pool when the datastore is created.
+     * This can shorten startup for applications with many entities. Any custom conventions must be thread safe when this is enabled.
+     *
+     * @return true if entity models should be built in parallel
+     * @since 3.0
+     */
+    @WithDefault("false")
+    Boolean parallelMapping();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig parallelMapping(Boolean value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.parallelMapping = value;
+        return newConfig;
+    }
+
     /**
      * Specifies the providers of any external annotations to use as markers for properties for Morphia to consider while mapping. This
      * method is marked as internal only to note that, as a relatively lower level hook in to Morphia functionality, the regular
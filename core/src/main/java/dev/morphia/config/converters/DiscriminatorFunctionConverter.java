@@ -6,6 +6,7 @@ import dev.morphia.mapping.MappingException;
 
 import org.eclipse.microprofile.config.spi.Converter;
 
+import static dev.morphia.mapping.DiscriminatorFunction.alias;
 import static dev.morphia.mapping.DiscriminatorFunction.className;
 import static dev.morphia.mapping.DiscriminatorFunction.lowerClassName;
 import static dev.morphia.mapping.DiscriminatorFunction.lowerSimpleName;
@@ -21,6 +22,7 @@ public class DiscriminatorFunctionConverter implements Converter<DiscriminatorFu
     public DiscriminatorFunction convert(String value) throws IllegalArgumentException, NullPointerException {
         try {
             return switch (value) {
+                case "alias" -> alias();
                 case "className" -> className();
                 case "lowerClassName" -> lowerClassName();
                 case "lowerSimpleName" -> lowerSimpleName();
@@ -0,0 +1,16 @@
+package dev.morphia.config.converters;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.EntityCacheFactory;
+
+/**
+ * @hidden
+ * @morphia.internal
+ */
+@MorphiaInternal
+public class EntityCacheFactoryConverter extends ClassNameConverter<EntityCacheFactory> {
+    @Override
+    public EntityCacheFactory convert(String value) {
+        return (EntityCacheFactory) super.convert(value);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.morphia.config.converters;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.metrics.MorphiaMetrics;
+
+/**
+ * @hidden
+ * @morphia.internal
+ */
+@MorphiaInternal
+public class MorphiaMetricsConverter extends ClassNameConverter<MorphiaMetrics> {
+    @Override
+    public MorphiaMetrics convert(String value) {
+        return (MorphiaMetrics) super.convert(value);
+    }
+}
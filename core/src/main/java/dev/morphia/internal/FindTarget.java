@@ -0,0 +1,289 @@
+package dev.morphia.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.cursor.TimeoutMode;
+import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+/**
+ * The find settings shared by the driver's {@code FindIterable} and its Reactive Streams counterpart so
+ * {@link dev.morphia.query.FindOptions} can be applied to either.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public interface FindTarget {
+    /**
+     * Wraps a {@link FindIterable}
+     *
+     * @param iterable the iterable to configure
+     * @return the target
+     */
+    static FindTarget of(FindIterable<?> iterable) {
+        return new FindTarget() {
+            @Override
+            public FindTarget allowDiskUse(@Nullable Boolean allowDiskUse) {
+                iterable.allowDiskUse(allowDiskUse);
+                return this;
+            }
+
+            @Override
+            public FindTarget batchSize(int batchSize) {
+                iterable.batchSize(batchSize);
+                return this;
+            }
+
+            @Override
+            public FindTarget collation(@Nullable Collation collation) {
+                iterable.collation(collation);
+                return this;
+            }
+
+            @Override
+            public FindTarget comment(@Nullable BsonValue comment) {
+                iterable.comment(comment);
+                return this;
+            }
+
+            @Override
+            public FindTarget cursorType(CursorType cursorType) {
+                iterable.cursorType(cursorType);
+                return this;
+            }
+
+            @Override
+            public FindTarget hint(@Nullable Bson hint) {
+                iterable.hint(hint);
+                return this;
+            }
+
+            @Override
+            public FindTarget hintString(@Nullable String hint) {
+                iterable.hintString(hint);
+                return this;
+            }
+
+            @Override
+            public FindTarget let(@Nullable Bson variables) {
+                iterable.let(variables);
+                return this;
+            }
+
+            @Override
+            public FindTarget limit(int limit) {
+                iterable.limit(limit);
+                return this;
+            }
+
+            @Override
+            public FindTarget max(@Nullable Bson max) {
+                iterable.max(max);
+                return this;
+            }
+
+            @Override
+            public FindTarget maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit) {
+                iterable.maxAwaitTime(maxAwaitTime, timeUnit);
+                return this;
+            }
+
+            @Override
+            public FindTarget maxTime(long maxTime, TimeUnit timeUnit) {
+                iterable.maxTime(maxTime, timeUnit);
+                return this;
+            }
+
+            @Override
+            public FindTarget min(@Nullable Bson min) {
+                iterable.min(min);
+                return this;
+            }
+
+            @Override
+            public FindTarget noCursorTimeout(boolean noCursorTimeout) {
+                iterable.noCursorTimeout(noCursorTimeout);
+                return this;
+            }
+
+            @Override
+            public FindTarget partial(boolean partial) {
+                iterable.partial(partial);
+                return this;
+            }
+
+            @Override
+            public FindTarget projection(@Nullable Bson projection) {
+                iterable.projection(projection);
+                return this;
+            }
+
+            @Override
+            public FindTarget returnKey(boolean returnKey) {
+                iterable.returnKey(returnKey);
+                return this;
+            }
+
+            @Override
+            public FindTarget showRecordId(boolean showRecordId) {
+                iterable.showRecordId(showRecordId);
+                return this;
+            }
+
+            @Override
+            public FindTarget skip(int skip) {
+                iterable.skip(skip);
+                return this;
+            }
+
+            @Override
+            public FindTarget sort(@Nullable Bson sort) {
+                iterable.sort(sort);
+                return this;
+            }
+
+            @Override
+            public FindTarget timeoutMode(TimeoutMode timeoutMode) {
+                iterable.timeoutMode(timeoutMode);
+                return this;
+            }
+        };
+    }
+
+    /**
+     * @param allowDiskUse whether the server may write temporary files
+     * @return this
+     */
+    FindTarget allowDiskUse(@Nullable Boolean allowDiskUse);
+
+    /**
+     * @param batchSize the batch size
+     * @return this
+     */
+    FindTarget batchSize(int batchSize);
+
+    /**
+     * @param collation the collation
+     * @return this
+     */
+    FindTarget collation(@Nullable Collation collation);
+
+    /**
+     * @param comment the comment
+     * @return this
+     */
+    FindTarget comment(@Nullable BsonValue comment);
+
+    /**
+     * @param cursorType the cursor type
+     * @return this
+     */
+    FindTarget cursorType(CursorType cursorType);
+
+    /**
+     * @param hint the index hint
+     * @return this
+     */
+    FindTarget hint(@Nullable Bson hint);
+
+    /**
+     * @param hint the name of the index to use
+     * @return this
+     */
+    FindTarget hintString(@Nullable String hint);
+
+    /**
+     * @param variables the variables available to the filter
+     * @return this
+     */
+    FindTarget let(@Nullable Bson variables);
+
+    /**
+     * @param limit the limit
+     * @return this
+     */
+    FindTarget limit(int limit);
+
+    /**
+     * @param max the exclusive upper bound for the index
+     * @return this
+     */
+    FindTarget max(@Nullable Bson max);
+
+    /**
+     * @param maxAwaitTime the time to wait for new documents on a tailable cursor
+     * @param timeUnit     the time unit
+     * @return this
+     */
+    FindTarget maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit);
+
+    /**
+     * @param maxTime  the maximum execution time
+     * @param timeUnit the time unit
+     * @return this
+     */
+    FindTarget maxTime(long maxTime, TimeUnit timeUnit);
+
+    /**
+     * @param min the inclusive lower bound for the index
+     * @return this
+     */
+    FindTarget min(@Nullable Bson min);
+
+    /**
+     * @param noCursorTimeout true to keep idle cursors open
+     * @return this
+     */
+    FindTarget noCursorTimeout(boolean noCursorTimeout);
+
+    /**
+     * @param partial true to return partial results from a sharded cluster
+     * @return this
+     */
+    FindTarget partial(boolean partial);
+
+    /**
+     * @param projection the projection
+     * @return this
+     */
+    FindTarget projection(@Nullable Bson projection);
+
+    /**
+     * @param returnKey true to return only the index keys
+     * @return this
+     */
+    FindTarget returnKey(boolean returnKey);
+
+    /**
+     * @param showRecordId true to include the record ID
+     * @return this
+     */
+    FindTarget showRecordId(boolean showRecordId);
+
+    /**
+     * @param skip the number of documents to skip
+     * @return this
+     */
+    FindTarget skip(int skip);
+
+    /**
+     * @param sort the sort
+     * @return this
+     */
+    FindTarget sort(@Nullable Bson sort);
+
+    /**
+     * @param timeoutMode the timeout mode
+     * @return this
+     */
+    FindTarget timeoutMode(TimeoutMode timeoutMode);
+}
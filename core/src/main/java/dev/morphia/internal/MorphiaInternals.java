@@ -33,7 +33,7 @@ public final class MorphiaInternals {
     public static boolean proxyClassesPresent() {
         if (proxyClassesPresent == null) {
             try {
-                Class.forName("net.bytebuddy.implementation.InvocationHandlerAdapter");
+                Class.forName("net.bytebuddy.implementation.MethodCall");
                 proxyClassesPresent = true;
             } catch (ClassNotFoundException e) {
                 LOG.warn("Lazy loading impossible due to missing dependencies.");
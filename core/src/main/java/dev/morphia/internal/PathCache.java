@@ -0,0 +1,126 @@
+package dev.morphia.internal;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+/**
+ * Caches the results of {@link PathTarget} resolution so that repeated uses of the same path against the same type do not need to
+ * walk the model again.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class PathCache {
+    /**
+     * Paths can embed map keys so the number of distinct paths is not bounded by the model. Once this many paths are cached, new
+     * paths are resolved without being cached.
+     */
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<Key, Resolution> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Looks up a previous resolution
+     *
+     * @param root          the root model
+     * @param path          the untranslated path
+     * @param validateNames true if names were validated
+     * @return the resolution or null if the path has not been cached
+     */
+    @Nullable
+    public Resolution get(EntityModel root, String path, boolean validateNames) {
+        return cache.get(new Key(root, path, validateNames));
+    }
+
+    /**
+     * Caches a resolution
+     *
+     * @param root           the root model
+     * @param path           the untranslated path
+     * @param validateNames  true if names were validated
+     * @param translatedPath the translated path
+     * @param target         the target property, if any
+     */
+    public void put(EntityModel root, String path, boolean validateNames, String translatedPath, @Nullable PropertyModel target) {
+        if (cache.size() < MAX_ENTRIES) {
+            cache.put(new Key(root, path, validateNames), new Resolution(translatedPath, target));
+        }
+    }
+
+    /**
+     * Discards all cached resolutions. This is necessary when new types are mapped since paths might then resolve against new
+     * subtypes.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * The result of resolving a path
+     */
+    public static final class Resolution {
+        private final String translatedPath;
+        @Nullable
+        private final PropertyModel target;
+
+        Resolution(String translatedPath, @Nullable PropertyModel target) {
+            this.translatedPath = translatedPath;
+            this.target = target;
+        }
+
+        /**
+         * @return the translated path
+         */
+        public String translatedPath() {
+            return translatedPath;
+        }
+
+        /**
+         * @return the target property, if any
+         */
+        @Nullable
+        public PropertyModel target() {
+            return target;
+        }
+    }
+
+    private static final class Key {
+        private final EntityModel root;
+        private final String path;
+        private final boolean validateNames;
+        private final int hash;
+
+        Key(EntityModel root, String path, boolean validateNames) {
+            this.root = root;
+            this.path = path;
+            this.validateNames = validateNames;
+            hash = Objects.hash(System.identityHashCode(root), path, validateNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return root == that.root && validateNames == that.validateNames && path.equals(that.path);
+        }
+    }
+}
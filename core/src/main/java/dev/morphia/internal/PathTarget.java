@@ -41,7 +41,8 @@ import static java.util.Arrays.asList;
  */
 @MorphiaInternal
 public class PathTarget {
-    private final List<String> segments;
+    private final String path;
+    private List<String> segments;
     private final boolean validateNames;
     private int position;
     private final Mapper mapper;
@@ -49,6 +50,7 @@ public class PathTarget {
     private EntityModel context;
     private PropertyModel target;
     private boolean resolved;
+    private String translatedPath;
 
     /**
      * Creates a resolution context for the given root and path.
@@ -71,7 +73,7 @@ public class PathTarget {
      */
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public PathTarget(Mapper mapper, @Nullable EntityModel root, String path, boolean validateNames) {
-        segments = asList(path.split("\\."));
+        this.path = path;
         this.root = root;
         this.mapper = mapper;
         this.validateNames = validateNames;
@@ -124,9 +126,12 @@ public class PathTarget {
         if (!resolved) {
             resolve();
         }
-        StringJoiner joiner = new StringJoiner(".");
-        segments.forEach(joiner::add);
-        return joiner.toString();
+        if (translatedPath == null) {
+            StringJoiner joiner = new StringJoiner(".");
+            segments().forEach(joiner::add);
+            translatedPath = joiner.toString();
+        }
+        return translatedPath;
     }
 
     /**
@@ -144,11 +149,38 @@ public class PathTarget {
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments, target);
+        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments(), target);
     }
 
     private boolean hasNext() {
-        return position < segments.size();
+        return position < segments().size();
+    }
+
+    private List<String> segments() {
+        if (segments == null) {
+            segments = asList(path.split("\\."));
+        }
+        return segments;
+    }
+
+    /**
+     * Checks for the positional operators and numeric indexes which can appear in a path but do not name a property.
+     */
+    private static boolean isArrayOperator(String segment) {
+        if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]"))) {
+            return true;
+        }
+        int length = segment.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     private void failValidation(String pathElement) {
@@ -157,6 +189,16 @@ public class PathTarget {
     }
 
     private void resolve() {
+        PathCache cache = root != null ? mapper.getPathCache() : null;
+        if (cache != null) {
+            PathCache.Resolution resolution = cache.get(root, path, validateNames);
+            if (resolution != null) {
+                translatedPath = resolution.translatedPath();
+                target = resolution.target();
+                resolved = true;
+                return;
+            }
+        }
         context = this.root;
         position = 0;
         PropertyModel property = null;
@@ -164,7 +206,7 @@ public class PathTarget {
             String segment = next();
 
             // array operator
-            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || segment.matches("[0-9]+")) {
+            if (isArrayOperator(segment)) {
                 if (!hasNext()) {
                     break;
                 }
@@ -188,10 +230,13 @@ public class PathTarget {
         }
         target = property;
         resolved = true;
+        if (cache != null) {
+            cache.put(root, path, validateNames, translatedPath(), target);
+        }
     }
 
     private void translate(String nameToStore) {
-        segments.set(position - 1, nameToStore);
+        segments().set(position - 1, nameToStore);
     }
 
     @Nullable
@@ -220,6 +265,6 @@ public class PathTarget {
     }
 
     String next() {
-        return segments.get(position++);
+        return segments().get(position++);
     }
 }
@@ -1,5 +1,6 @@
 package dev.morphia.mapping;
 
+import dev.morphia.mapping.discriminator.AliasDiscriminator;
 import dev.morphia.mapping.discriminator.ClassNameDiscriminator;
 import dev.morphia.mapping.discriminator.LowerClassNameDiscriminator;
 import dev.morphia.mapping.discriminator.LowerSimpleNameDiscriminator;
@@ -11,6 +12,18 @@ import dev.morphia.mapping.discriminator.SimpleNameDiscriminator;
  */
 @SuppressWarnings("deprecation")
 public abstract class DiscriminatorFunction {
+    /**
+     * Defines a function to use a short alias derived from the class name for the discriminator value. This keeps the discriminator
+     * values stored in each document, and sent with each polymorphic query, to a few characters.
+     *
+     * @return the function
+     * @see AliasDiscriminator
+     * @since 3.0
+     */
+    public static DiscriminatorFunction alias() {
+        return new AliasDiscriminator();
+    }
+
     /**
      * Defines a function to use the class name for the discriminator value
      *
@@ -40,6 +40,11 @@ import static java.lang.String.format;
 @MorphiaInternal
 public final class DiscriminatorLookup {
     private final Map<String, Class<?>> discriminatorClassMap = new ConcurrentHashMap<>();
+    /**
+     * Classes found by name for discriminators that do not belong to a mapped entity. These are kept apart from the mapped values so
+     * that mapping the type later is not reported as a duplicate.
+     */
+    private final Map<String, Class<?>> resolved = new ConcurrentHashMap<>();
     private final Set<String> packages = new ConcurrentSkipListSet<>();
     private final ClassLoader classLoader;
 
@@ -73,11 +78,16 @@ public final class DiscriminatorLookup {
      * @return the mapped class
      */
     public Class<?> lookup(String discriminator) {
-        if (discriminatorClassMap.containsKey(discriminator)) {
-            return discriminatorClassMap.get(discriminator);
+        Class<?> clazz = discriminatorClassMap.get(discriminator);
+        if (clazz != null) {
+            return clazz;
+        }
+        clazz = resolved.get(discriminator);
+        if (clazz != null) {
+            return clazz;
         }
 
-        Class<?> clazz = getClassForName(discriminator);
+        clazz = getClassForName(discriminator);
         if (clazz == null) {
             clazz = searchPackages(discriminator);
         }
@@ -85,6 +95,7 @@ public final class DiscriminatorLookup {
         if (clazz == null) {
             throw new CodecConfigurationException(format("A class could not be found for the discriminator: '%s'.", discriminator));
         }
+        resolved.put(discriminator, clazz);
         return clazz;
     }
 
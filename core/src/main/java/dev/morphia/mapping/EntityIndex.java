@@ -0,0 +1,256 @@
+package dev.morphia.mapping;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.jar.Attributes.Name;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+/**
+ * Reads the entity indexes generated at build time by the critter annotation processor. Each index lists, for every package compiled
+ * in to an artifact, the {@code @Entity} and {@code @ExternalEntity} classes found in it so that those packages can be mapped without
+ * scanning the classpath. A package is only read from the indexes when no classpath entry without an index holds classes in it. A
+ * package split across artifacts where one of them was built without the processor is scanned instead, as is every package when the
+ * class loader's classpath can not be listed.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class EntityIndex {
+    /**
+     * The location of the generated indexes
+     */
+    public static final String LOCATION = "META-INF/morphia/entity-index";
+
+    private final ClassLoader loader;
+    private final Map<String, Set<String>> packages = new LinkedHashMap<>();
+    private final Set<Path> indexed = new HashSet<>();
+    private final Map<Path, Set<String>> unindexed = new HashMap<>();
+    @Nullable
+    private List<Path> classpath;
+
+    /**
+     * Loads every index visible to the class loader
+     *
+     * @param loader the class loader to search
+     */
+    public EntityIndex(ClassLoader loader) {
+        this.loader = loader;
+        try {
+            Enumeration<URL> resources = loader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                Path root = root(resource);
+                if (root != null) {
+                    indexed.add(root);
+                }
+                Properties properties = new Properties();
+                try (InputStream stream = resource.openStream()) {
+                    properties.load(stream);
+                }
+                properties.stringPropertyNames().forEach(packageName -> {
+                    Set<String> classes = packages.computeIfAbsent(packageName, k -> new LinkedHashSet<>());
+                    for (String name : properties.getProperty(packageName).split(",")) {
+                        if (!name.isBlank()) {
+                            classes.add(name.trim());
+                        }
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Finds the indexed classes for a package. A name ending in {@code .*} includes subpackages just as it does when scanning.
+     *
+     * @param packageName the package to look up
+     * @return the class names or null if the indexes do not fully cover the package and the classpath must be scanned instead
+     */
+    @Nullable
+    public List<String> classes(String packageName) {
+        boolean recursive = packageName.endsWith(".*");
+        String base = recursive ? packageName.substring(0, packageName.length() - 2) : packageName;
+        List<String> classes = null;
+        for (Map.Entry<String, Set<String>> entry : packages.entrySet()) {
+            String name = entry.getKey();
+            if (name.equals(base) || recursive && (base.isEmpty() || name.startsWith(base + "."))) {
+                if (classes == null) {
+                    classes = new ArrayList<>();
+                }
+                classes.addAll(entry.getValue());
+            }
+        }
+        return classes != null && covers(base, recursive) ? classes : null;
+    }
+
+    /**
+     * @return true if no indexes were found
+     */
+    public boolean isEmpty() {
+        return packages.isEmpty();
+    }
+
+    /**
+     * Checks that no classpath entry without an index holds classes in the package, or in its subpackages if recursive. The entries'
+     * contents are listed from their files so jars without directory entries are seen as well. The unnamed package is never covered.
+     */
+    private boolean covers(String packageName, boolean recursive) {
+        if (packageName.isEmpty()) {
+            return false;
+        }
+        List<Path> elements = classpath();
+        if (elements == null) {
+            return false;
+        }
+        for (Path element : elements) {
+            if (!indexed.contains(element)) {
+                for (String name : unindexed.computeIfAbsent(element, EntityIndex::packages)) {
+                    if (name.equals(packageName) || recursive && name.startsWith(packageName + ".")) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists the classpath of the loader and its parents, following the {@code Class-Path} of jar manifests.
+     *
+     * @return the classpath or null if a loader's classpath can not be listed
+     */
+    @Nullable
+    private List<Path> classpath() {
+        if (classpath == null) {
+            List<Path> roots = new ArrayList<>();
+            for (ClassLoader current = loader; current != null; current = current.getParent()) {
+                if (current instanceof URLClassLoader) {
+                    for (URL url : ((URLClassLoader) current).getURLs()) {
+                        Path path = path(url);
+                        if (path == null) {
+                            return null;
+                        }
+                        roots.add(path);
+                    }
+                } else if (current == ClassLoader.getSystemClassLoader()) {
+                    for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                        if (!entry.isEmpty()) {
+                            roots.add(Path.of(entry).toAbsolutePath().normalize());
+                        }
+                    }
+                } else if (current != ClassLoader.getPlatformClassLoader()) {
+                    return null;
+                }
+            }
+            Set<Path> seen = new LinkedHashSet<>();
+            roots.forEach(root -> expand(root, seen));
+            classpath = new ArrayList<>(seen);
+        }
+        return classpath;
+    }
+
+    private static void expand(Path root, Set<Path> seen) {
+        if (!seen.add(root) || !Files.isRegularFile(root)) {
+            return;
+        }
+        try (JarFile jar = new JarFile(root.toFile())) {
+            Manifest manifest = jar.getManifest();
+            String entries = manifest != null ? manifest.getMainAttributes().getValue(Name.CLASS_PATH) : null;
+            if (entries != null) {
+                for (String entry : entries.trim().split("\\s+")) {
+                    Path path = path(new URL(root.toUri().toURL(), entry));
+                    if (path != null) {
+                        expand(path, seen);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lists the packages holding classes in a classpath entry
+     */
+    private static Set<String> packages(Path element) {
+        Set<String> found = new HashSet<>();
+        try {
+            if (Files.isDirectory(element)) {
+                try (Stream<Path> files = Files.walk(element)) {
+                    files.filter(file -> file.getFileName().toString().endsWith(".class"))
+                            .map(file -> packageOf(element.relativize(file).toString().replace(File.separatorChar, '/')))
+                            .forEach(found::add);
+                }
+            } else if (Files.isRegularFile(element)) {
+                try (JarFile jar = new JarFile(element.toFile())) {
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        String name = entries.nextElement().getName();
+                        if (name.endsWith(".class")) {
+                            found.add(packageOf(name));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+        return found;
+    }
+
+    private static String packageOf(String classFile) {
+        int slash = classFile.lastIndexOf('/');
+        return slash < 0 ? "" : classFile.substring(0, slash).replace('/', '.');
+    }
+
+    /**
+     * Finds the classpath entry an index was read from
+     */
+    @Nullable
+    private static Path root(URL resource) throws IOException {
+        if ("jar".equals(resource.getProtocol())) {
+            return path(((JarURLConnection) resource.openConnection()).getJarFileURL());
+        }
+        String location = resource.toString();
+        return path(new URL(location.substring(0, location.length() - LOCATION.length())));
+    }
+
+    @Nullable
+    private static Path path(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return Path.of(url.toURI()).toAbsolutePath().normalize();
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
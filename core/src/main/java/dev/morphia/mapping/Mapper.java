@@ -1,15 +1,21 @@
 package dev.morphia.mapping;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.stream.Collectors;
 
 import com.mongodb.WriteConcern;
@@ -24,9 +30,11 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.internal.PathCache;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.mapping.codec.references.ReferenceProxyFactory;
 import dev.morphia.mapping.validation.MappingValidator;
 import dev.morphia.sofia.Sofia;
 
@@ -38,7 +46,7 @@ import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
 
-import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * @morphia.internal
@@ -64,15 +72,50 @@ public class Mapper {
             PostPersist.class,
             PostLoad.class);
 
+    /**
+     * Whether a type, or the type behind a proxy, is annotated for mapping. This doesn't depend on any mapper so it is shared.
+     */
+    private static final ClassValue<Boolean> MAPPABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Class<?> actual = actualType(type);
+            return actual != null && hasAnnotation(actual, MAPPING_ANNOTATIONS);
+        }
+    };
+
     /**
      * Set of classes that registered by this mapper
      */
     private final Map<String, EntityModel> mappedEntities = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Set<EntityModel>> mappedEntitiesByCollection = new ConcurrentHashMap<>();
+    /**
+     * The registered models by the names of their superclass and interfaces. This lets models be linked to their parents and children
+     * as they are registered without searching every mapped entity.
+     */
+    private final Map<String, Set<EntityModel>> childrenByParent = new HashMap<>();
+    /**
+     * The discriminator values to query for by entity type name. These depend on the mapped subtypes so are cleared when an entity is
+     * registered.
+     */
+    private final Map<String, List<String>> discriminators = new ConcurrentHashMap<>();
     private final List<EntityListener<?>> listeners = new ArrayList<>();
     private final MorphiaConfig config;
     private final DiscriminatorLookup discriminatorLookup;
     private final ClassLoader contextClassLoader;
+    private final PathCache pathCache = new PathCache();
+    /**
+     * The models by type. Models are held weakly since they reference this mapper and would otherwise keep it alive for as long as the
+     * type is loaded.
+     */
+    private final ClassValue<WeakReference<EntityModel>> models = new ClassValue<>() {
+        @Override
+        protected WeakReference<EntityModel> computeValue(Class<?> type) {
+            Class<?> actual = actualType(type);
+            return new WeakReference<>(actual != null ? mappedEntities.get(actual.getName()) : null);
+        }
+    };
+    private final ReferenceProxyFactory referenceProxyFactory;
+    private final Map<ClassLoader, EntityIndex> entityIndexes = new HashMap<>();
 
     /**
      * Creates a Mapper with the given options.
@@ -86,6 +129,7 @@ public class Mapper {
         this.config = config;
         contextClassLoader = Thread.currentThread().getContextClassLoader();
         discriminatorLookup = new DiscriminatorLookup();
+        referenceProxyFactory = new ReferenceProxyFactory();
     }
 
     /**
@@ -97,7 +141,9 @@ public class Mapper {
     public Mapper(Mapper other) {
         config = other.config;
         contextClassLoader = other.contextClassLoader;
+        entityIndexes.putAll(other.entityIndexes);
         discriminatorLookup = new DiscriminatorLookup();
+        referenceProxyFactory = other.referenceProxyFactory;
         other.mappedEntities.values().forEach(entity -> {
             clone(entity);
         });
@@ -231,6 +277,27 @@ public class Mapper {
         return new ArrayList<>(entities);
     }
 
+    /**
+     * Reports how many stored values have been converted to their property's type while decoding. This happens when documents hold a
+     * different type than the mapped property, e.g. after a property's type has been changed, and is much slower than a direct decode.
+     * The counts are cumulative for the life of the mapper.
+     *
+     * @return the counts keyed by the properties' full names. Properties with no conversions are omitted.
+     * @since 3.0
+     */
+    public Map<String, Long> getConversionCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (EntityModel model : mappedEntities.values()) {
+            for (PropertyModel property : model.getProperties()) {
+                long count = property.getConversionCount();
+                if (count != 0) {
+                    counts.put(property.getFullName(), count);
+                }
+            }
+        }
+        return counts;
+    }
+
     /**
      * @return the DiscriminatorLookup in use
      * @hidden
@@ -241,6 +308,28 @@ public class Mapper {
         return discriminatorLookup;
     }
 
+    /**
+     * @return the cache of resolved paths for the types mapped by this mapper
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
+    /**
+     * @return the factory for the proxies of lazy references
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public ReferenceProxyFactory getReferenceProxyFactory() {
+        return referenceProxyFactory;
+    }
+
     /**
      * Gets the {@link EntityModel} for the object (type). If it isn't mapped, create a new class and cache it (without validating).
      *
@@ -252,11 +341,17 @@ public class Mapper {
     @Nullable
     @MorphiaInternal
     public EntityModel getEntityModel(Class type) {
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
+        EntityModel model = models.get(type).get();
+        if (model != null) {
+            return model;
+        }
+        models.remove(type);
+
+        final Class actual = actualType(type);
         if (actual == null && MorphiaProxy.class.equals(type)) {
             throw new NotMappableException(type);
         }
-        EntityModel model = mappedEntities.get(actual.getName());
+        model = mappedEntities.get(actual.getName());
 
         if (model == null) {
             if (!isMappable(actual)) {
@@ -372,8 +467,7 @@ public class Mapper {
      */
     @MorphiaInternal
     public <T> boolean isMappable(@Nullable Class<T> type) {
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
-        return actual != null && hasAnnotation(actual, MAPPING_ANNOTATIONS);
+        return type != null && MAPPABLE.get(type);
     }
 
     /**
@@ -445,6 +539,78 @@ public class Mapper {
         }
     }
 
+    /**
+     * Maps the entities in the configured packages. The classes are found first, then the entity models are built, in parallel if
+     * {@link MorphiaConfig#parallelMapping()} is enabled, and only then registered and validated. The time spent in each phase is
+     * logged at debug level.
+     *
+     * @param packages the packages to map
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public synchronized void mapPackages(List<String> packages) {
+        long start = System.nanoTime();
+        Set<Class> classes = new LinkedHashSet<>();
+        for (String packageName : packages) {
+            Sofia.logMappingPackage(packageName);
+            try {
+                classes.addAll(getClasses(contextClassLoader, packageName));
+            } catch (ClassNotFoundException e) {
+                throw new MappingException("Could not get map classes from package " + packageName, e);
+            }
+        }
+        List<Class> unmapped = classes.stream()
+                .filter(type -> isMappable(type) && !isMapped(type))
+                .collect(Collectors.toList());
+        long scanned = System.nanoTime();
+
+        List<EntityModel> models = config.parallelMapping()
+                ? buildInParallel(unmapped)
+                : unmapped.stream()
+                        .map(type -> new EntityModel(this, type))
+                        .collect(Collectors.toList());
+        long built = System.nanoTime();
+
+        List<EntityModel> registered = new ArrayList<>();
+        for (EntityModel model : models) {
+            if (register(model, false) == model) {
+                registered.add(model);
+            }
+        }
+        long linked = System.nanoTime();
+
+        MappingValidator validator = new MappingValidator();
+        registered.stream()
+                .filter(model -> !model.isInterface())
+                .forEach(model -> validator.validate(this, model));
+        long validated = System.nanoTime();
+
+        Sofia.logMappingBootstrap(registered.size(), millis(start, validated), millis(start, scanned), millis(scanned, built),
+                millis(built, linked), millis(linked, validated), config.parallelMapping());
+    }
+
+    private List<EntityModel> buildInParallel(List<Class> types) {
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }, null, false);
+        try {
+            return pool.submit(() -> types.parallelStream()
+                    .map(type -> new EntityModel(this, type))
+                    .collect(Collectors.toList()))
+                    .join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long millis(long start, long end) {
+        return NANOSECONDS.toMillis(end - start);
+    }
+
     /**
      * Tries to map all classes in the package specified.
      *
@@ -490,10 +656,32 @@ public class Mapper {
      */
     @MorphiaInternal
     public void updateQueryWithDiscriminators(EntityModel model, Document query) {
+        if (!query.containsKey("_id") && !query.containsKey(model.discriminatorKey())) {
+            List<String> values = getDiscriminators(model);
+            if (values != null) {
+                query.put(model.discriminatorKey(),
+                        new Document("$in", new ArrayList<>(values)));
+            }
+        }
+    }
+
+    /**
+     * Lists the discriminator values a query against the given model should match including those of any subtypes if polymorphic
+     * queries are enabled.
+     *
+     * @param model the query model
+     * @return the discriminator values or null if the model does not use a discriminator
+     * @hidden
+     * @morphia.internal
+     */
+    @Nullable
+    @MorphiaInternal
+    public List<String> getDiscriminators(EntityModel model) {
         Entity annotation = model.getEntityAnnotation();
-        if (annotation != null && annotation.useDiscriminator()
-                && !query.containsKey("_id")
-                && !query.containsKey(model.discriminatorKey())) {
+        if (annotation == null || !annotation.useDiscriminator()) {
+            return null;
+        }
+        return discriminators.computeIfAbsent(model.getType().getName(), name -> {
             List<String> values = new ArrayList<>();
             values.add(model.discriminator());
             if (config.enablePolymorphicQueries()) {
@@ -501,9 +689,8 @@ public class Mapper {
                     values.add(subtype.discriminator());
                 }
             }
-            query.put(model.discriminatorKey(),
-                    new Document("$in", values));
-        }
+            return List.copyOf(values);
+        });
     }
 
     /**
@@ -520,11 +707,10 @@ public class Mapper {
 
     @MorphiaInternal
     private EntityModel register(EntityModel model, boolean validate) {
-        var existing = mappedEntities.get(model.getType().getName());
+        var existing = mappedEntities.putIfAbsent(model.getType().getName(), model);
         if (existing != null) {
             return existing;
         }
-        mappedEntities.put(model.getType().getName(), model);
         if (validate && !model.isInterface()) {
             new MappingValidator()
                     .validate(this, model);
@@ -534,27 +720,47 @@ public class Mapper {
         mappedEntitiesByCollection.computeIfAbsent(model.collectionName(), s -> new CopyOnWriteArraySet<>())
                 .add(model);
 
-        mappedEntities.values().forEach(mapped -> {
-            if (isParent(mapped, model)) {
-                mapped.addSubtype(model);
-            } else if (isParent(model, mapped)) {
-                model.addSubtype(mapped);
-            }
-        });
+        link(model);
+        discriminators.clear();
+        pathCache.clear();
         return model;
     }
 
-    private static boolean isParent(EntityModel parent, EntityModel child) {
-        Class<?> parentType = parent.getType();
-        return parentType.equals(child.getType().getSuperclass())
-                || parentType.isInterface()
-                        && asList(child.getType().getInterfaces()).contains(parentType);
+    private void link(EntityModel model) {
+        Class<?> type = model.getType();
+        List<String> parents = new ArrayList<>();
+        for (Class<?> anInterface : type.getInterfaces()) {
+            parents.add(anInterface.getName());
+        }
+        if (type.getSuperclass() != null) {
+            parents.add(type.getSuperclass().getName());
+        }
+        synchronized (childrenByParent) {
+            for (String parentName : parents) {
+                EntityModel parent = mappedEntities.get(parentName);
+                if (parent != null) {
+                    parent.addSubtype(model);
+                }
+                childrenByParent.computeIfAbsent(parentName, k -> new LinkedHashSet<>()).add(model);
+            }
+            childrenByParent.getOrDefault(type.getName(), Set.of())
+                    .forEach(model::addSubtype);
+        }
     }
 
     private List<Class> getClasses(ClassLoader loader, String packageName)
             throws ClassNotFoundException {
         final Set<Class> classes = new HashSet<>();
 
+        List<String> indexed = entityIndexes.computeIfAbsent(loader, EntityIndex::new).classes(packageName);
+        if (indexed != null) {
+            Sofia.logMappingIndexedPackage(packageName);
+            for (String name : indexed) {
+                classes.add(Class.forName(name, true, loader));
+            }
+            return new ArrayList<>(classes);
+        }
+
         ClassGraph classGraph = new ClassGraph()
                 .addClassLoader(loader)
                 .enableAllInfo();
@@ -579,7 +785,12 @@ public class Mapper {
         return new ArrayList<>(classes);
     }
 
-    private <T> boolean hasAnnotation(Class<T> clazz, List<Class<? extends Annotation>> annotations) {
+    @Nullable
+    private static Class<?> actualType(Class<?> type) {
+        return MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
+    }
+
+    private static <T> boolean hasAnnotation(Class<T> clazz, List<Class<? extends Annotation>> annotations) {
         for (Class<? extends Annotation> annotation : annotations) {
             if (clazz.getAnnotation(annotation) != null) {
                 return true;
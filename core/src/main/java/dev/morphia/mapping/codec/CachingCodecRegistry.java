@@ -0,0 +1,156 @@
+package dev.morphia.mapping.codec;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Remembers the codec resolved for each class so that encoding values one at a time does not go through the full provider lookup for
+ * every value. The providers are handed this registry rather than the wrapped one so the codecs they create look up the codecs of their
+ * properties and elements through the cache as well.
+ * <p>
+ * Codecs are held weakly by the class since they reference the datastore and would otherwise keep it alive for as long as the class is
+ * loaded. This registry keeps its own references to the codecs it resolves so they are only collected along with it. A type requested
+ * again while its own codec is still being created, as happens with recursive types, gets a codec which resolves the real one when
+ * first used.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+@SuppressWarnings("unchecked")
+public class CachingCodecRegistry implements CodecRegistry {
+    private final CodecRegistry registry;
+    private final Map<Object, Codec<?>> resolved = new ConcurrentHashMap<>();
+    private final ThreadLocal<Set<Class<?>>> resolving = ThreadLocal.withInitial(HashSet::new);
+    private final AtomicInteger pending = new AtomicInteger();
+    private final ClassValue<WeakReference<Codec<?>>> codecs = new ClassValue<>() {
+        @Override
+        protected WeakReference<Codec<?>> computeValue(Class<?> type) {
+            return new WeakReference<>(resolve(type, List.of()));
+        }
+    };
+
+    /**
+     * Creates the registry
+     *
+     * @param registry the registry to resolve codecs with
+     */
+    public CachingCodecRegistry(CodecRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public <T> Codec<T> get(Class<T> clazz) {
+        if (isResolving(clazz)) {
+            return new LazyCodec<>(this, clazz, List.of());
+        }
+        return (Codec<T>) codecs.get(clazz).get();
+    }
+
+    @Override
+    public <T> Codec<T> get(Class<T> clazz, List<Type> typeArguments) {
+        if (typeArguments.isEmpty()) {
+            return get(clazz);
+        }
+        Codec<T> codec = (Codec<T>) resolved.get(List.of(clazz, typeArguments));
+        if (codec != null) {
+            return codec;
+        }
+        return isResolving(clazz) ? new LazyCodec<>(this, clazz, typeArguments) : resolve(clazz, typeArguments);
+    }
+
+    @Override
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        return this.registry.get(clazz, registry);
+    }
+
+    @Override
+    public <T> Codec<T> get(Class<T> clazz, List<Type> typeArguments, CodecRegistry registry) {
+        return this.registry.get(clazz, typeArguments, registry);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CachingCodecRegistry{registry=%s}", registry);
+    }
+
+    private boolean isResolving(Class<?> clazz) {
+        return pending.get() != 0 && resolving.get().contains(clazz);
+    }
+
+    private <T> Codec<T> resolve(Class<T> clazz, List<Type> typeArguments) {
+        Set<Class<?>> types = resolving.get();
+        boolean added = types.add(clazz);
+        pending.incrementAndGet();
+        try {
+            Codec<T> codec = typeArguments.isEmpty()
+                    ? registry.get(clazz, this)
+                    : registry.get(clazz, typeArguments, this);
+            if (codec == null) {
+                throw new CodecConfigurationException(String.format("Can't find a codec for %s.", clazz));
+            }
+            Object key = typeArguments.isEmpty() ? clazz : List.of(clazz, typeArguments);
+            Codec<T> existing = (Codec<T>) resolved.putIfAbsent(key, codec);
+            return existing != null ? existing : codec;
+        } finally {
+            pending.decrementAndGet();
+            if (added) {
+                types.remove(clazz);
+            }
+        }
+    }
+
+    private static class LazyCodec<T> implements Codec<T> {
+        private final CachingCodecRegistry registry;
+        private final Class<T> type;
+        private final List<Type> typeArguments;
+        private volatile Codec<T> codec;
+
+        LazyCodec(CachingCodecRegistry registry, Class<T> type, List<Type> typeArguments) {
+            this.registry = registry;
+            this.type = type;
+            this.typeArguments = typeArguments;
+        }
+
+        @Override
+        public T decode(BsonReader reader, DecoderContext decoderContext) {
+            return codec().decode(reader, decoderContext);
+        }
+
+        @Override
+        public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+            codec().encode(writer, value, encoderContext);
+        }
+
+        @Override
+        public Class<T> getEncoderClass() {
+            return type;
+        }
+
+        private Codec<T> codec() {
+            Codec<T> current = codec;
+            if (current == null) {
+                current = registry.get(type, typeArguments);
+                codec = current;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dev.morphia.mapping.codec;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.mapping.MappingException;
+
+/**
+ * The template for the hidden classes defined by {@link FieldAccessor#of(Field)}. Each definition is handed the getter and setter of one
+ * field, and whether it is primitive, as its class data and keeps them in static final fields so the JIT can treat them as constants.
+ * The template itself is only read as bytes and never initialized.
+ */
+final class ConstantFieldAccessor extends FieldAccessor {
+    private static final MethodHandle GETTER;
+    private static final MethodHandle SETTER;
+    private static final boolean PRIMITIVE;
+
+    static {
+        try {
+            List<?> data = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, List.class);
+            GETTER = (MethodHandle) data.get(0);
+            SETTER = (MethodHandle) data.get(1);
+            PRIMITIVE = (Boolean) data.get(2);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    ConstantFieldAccessor(Field field) {
+        super(field, null, null);
+    }
+
+    @Override
+    @Nullable
+    public Object get(@Nullable Object instance) {
+        if (instance == null) {
+            return null;
+        }
+        try {
+            return (Object) GETTER.invokeExact(instance);
+        } catch (ClassCastException ignored) {
+            // let reflection report the mismatch as it always has
+            return super.get(instance);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void set(Object instance, Object value) {
+        // a null can not be unboxed into a primitive so let reflection reject it
+        if (PRIMITIVE && value == null) {
+            super.set(instance, null);
+            return;
+        }
+        try {
+            SETTER.invokeExact(instance, value);
+        } catch (ClassCastException ignored) {
+            // widening conversions and invalid values are left to reflection
+            super.set(instance, value);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+}
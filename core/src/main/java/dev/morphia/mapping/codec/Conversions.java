@@ -5,23 +5,34 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.time.Instant;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
+import com.mongodb.MongoClientSettings;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.MappingException;
 
+import org.bson.BsonType;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.types.Binary;
 import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static java.lang.Boolean.FALSE;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 /**
  * Defines basic type conversions. This class is mostly intended for internal use only but its methods are public so that when cases
@@ -36,6 +47,23 @@ public final class Conversions {
 
     private static final Map<Class<?>, Map<Class<?>, Function<?, ?>>> CONVERSIONS = new ConcurrentHashMap<>();
 
+    private static final BsonTypeClassMap BSON_TYPE_CLASSES = new BsonTypeClassMap();
+
+    /**
+     * The stored types considered when precomputing the conversions for a property
+     */
+    private static final List<BsonType> SOURCE_TYPES = List.of(BsonType.BOOLEAN, BsonType.DATE_TIME, BsonType.DECIMAL128,
+            BsonType.DOUBLE, BsonType.INT32, BsonType.INT64, BsonType.OBJECT_ID, BsonType.STRING);
+
+    /**
+     * The stored types the default codecs for these types read without help
+     */
+    private static final Map<Class<?>, Set<BsonType>> DIRECT_TYPES = new HashMap<>();
+
+    private static final CodecRegistry DEFAULT_CODECS = fromRegistries(
+            new PrimitiveCodecRegistry(MongoClientSettings.getDefaultCodecRegistry()),
+            MongoClientSettings.getDefaultCodecRegistry());
+
     static {
         registerStringConversions();
 
@@ -79,6 +107,18 @@ public final class Conversions {
                 throw new MappingException("Could not convert URI: " + u);
             }
         });
+
+        Set<BsonType> numbers = EnumSet.of(BsonType.DECIMAL128, BsonType.DOUBLE, BsonType.INT32, BsonType.INT64);
+        List.of(byte.class, Byte.class, double.class, Double.class, float.class, Float.class, int.class, Integer.class,
+                long.class, Long.class, short.class, Short.class)
+                .forEach(type -> DIRECT_TYPES.put(type, numbers));
+        DIRECT_TYPES.put(boolean.class, EnumSet.of(BsonType.BOOLEAN));
+        DIRECT_TYPES.put(Boolean.class, EnumSet.of(BsonType.BOOLEAN));
+        DIRECT_TYPES.put(char.class, EnumSet.of(BsonType.STRING));
+        DIRECT_TYPES.put(Character.class, EnumSet.of(BsonType.STRING));
+        DIRECT_TYPES.put(BigDecimal.class, EnumSet.of(BsonType.DECIMAL128));
+        DIRECT_TYPES.put(ObjectId.class, EnumSet.of(BsonType.OBJECT_ID));
+        DIRECT_TYPES.put(String.class, EnumSet.of(BsonType.STRING, BsonType.SYMBOL));
     }
 
     private Conversions() {
@@ -175,6 +215,59 @@ public final class Conversions {
         return (T) function.apply(value);
     }
 
+    /**
+     * Finds the conversions to apply when a value of the target type is stored as a BSON type its default codec can not read. This
+     * lets the decoder convert such values up front rather than waiting for the codec to fail. Only the basic types with known codecs
+     * are considered so any other type gets an empty map.
+     *
+     * @param target the target type
+     * @return the conversions keyed by the stored type they apply to
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    @SuppressWarnings("unchecked")
+    public static Map<BsonType, Function<Object, Object>> conversions(Class<?> target) {
+        Set<BsonType> direct = DIRECT_TYPES.get(target);
+        if (direct == null) {
+            return Map.of();
+        }
+        Map<BsonType, Function<Object, Object>> conversions = new EnumMap<>(BsonType.class);
+        for (BsonType type : SOURCE_TYPES) {
+            if (!direct.contains(type)) {
+                Map<Class<?>, Function<?, ?>> functions = CONVERSIONS.get(BSON_TYPE_CLASSES.get(type));
+                Function<Object, Object> function = functions != null ? (Function<Object, Object>) functions.get(target) : null;
+                if (function != null) {
+                    conversions.put(type, function);
+                } else if (target.equals(String.class)) {
+                    conversions.put(type, Object::toString);
+                }
+            }
+        }
+        return conversions;
+    }
+
+    /**
+     * Checks whether a codec is the one Morphia uses by default for a type. The conversions found by {@link #conversions(Class)} only
+     * describe what the default codecs can read, so they must not be applied in front of a codec registered by the application.
+     *
+     * @param type  the type
+     * @param codec the codec resolved for the type
+     * @return true if the codec is the default codec for the type
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public static boolean isDefaultCodec(Class<?> type, Codec<?> codec) {
+        try {
+            return DEFAULT_CODECS.get(type).getClass().equals(codec.getClass());
+        } catch (CodecConfigurationException e) {
+            return false;
+        }
+    }
+
     @Nullable
     private static Object convertNull(Class<?> toType) {
         if (isNumber(toType)) {
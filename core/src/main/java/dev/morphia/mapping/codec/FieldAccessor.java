@@ -1,6 +1,13 @@
 package dev.morphia.mapping.codec;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.util.List;
 
 import com.mongodb.lang.Nullable;
 
@@ -8,14 +15,35 @@ import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.MappingException;
 
 import org.bson.codecs.pojo.PropertyAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
+ * Accesses a field through method handles created when the property is discovered. If the handles can not be created, the field is
+ * accessed reflectively instead.
+ * <p>
+ * Handles held in instance fields are not constants to the JIT since every field shares this class, so each call goes through the
+ * handle's generic invoker. {@link #of(Field)} instead defines a hidden subclass per field holding its handles in static final fields
+ * which the JIT inlines down to a plain field read or write.
+ *
  * @hidden
  * @morphia.internal
  */
 @MorphiaInternal
 public class FieldAccessor implements PropertyAccessor<Object> {
+    private static final Logger LOG = LoggerFactory.getLogger(FieldAccessor.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, Field.class);
+    @Nullable
+    private static final byte[] TEMPLATE = template();
+
     private final Field field;
+    private final boolean primitive;
+    @Nullable
+    private final MethodHandle getter;
+    @Nullable
+    private final MethodHandle setter;
 
     /**
      * Creates the accessor for a field
@@ -23,8 +51,38 @@ public class FieldAccessor implements PropertyAccessor<Object> {
      * @param field the field itself
      */
     public FieldAccessor(Field field) {
+        this(accessible(field), getter(field), setter(field));
+    }
+
+    FieldAccessor(Field field, @Nullable MethodHandle getter, @Nullable MethodHandle setter) {
         this.field = field;
-        field.setAccessible(true);
+        primitive = field.getType().isPrimitive();
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Creates the accessor for a field with its handles bound as constants in a class of its own. If that class can not be defined,
+     * this is the same as {@link #FieldAccessor(Field)}.
+     *
+     * @param field the field itself
+     * @return the accessor
+     * @since 3.0
+     */
+    public static FieldAccessor of(Field field) {
+        accessible(field);
+        MethodHandle getter = getter(field);
+        MethodHandle setter = setter(field);
+        if (TEMPLATE != null && getter != null && setter != null) {
+            try {
+                Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(TEMPLATE,
+                        List.of(getter, setter, field.getType().isPrimitive()), true);
+                return (FieldAccessor) lookup.findConstructor(lookup.lookupClass(), CONSTRUCTOR_TYPE).invoke(field);
+            } catch (Throwable e) {
+                LOG.debug("Falling back to shared handles to access {}: {}", field, e.getMessage());
+            }
+        }
+        return new FieldAccessor(field, getter, setter);
     }
 
     protected Field getField() {
@@ -34,8 +92,20 @@ public class FieldAccessor implements PropertyAccessor<Object> {
     @Override
     @Nullable
     public Object get(@Nullable Object instance) {
+        if (instance == null) {
+            return null;
+        }
+        if (getter != null) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (ClassCastException ignored) {
+                // let reflection report the mismatch as it always has
+            } catch (Throwable e) {
+                throw new MappingException(e.getMessage(), e);
+            }
+        }
         try {
-            return instance != null ? field.get(instance) : null;
+            return field.get(instance);
         } catch (IllegalAccessException e) {
             throw new MappingException(e.getMessage(), e);
         }
@@ -43,10 +113,56 @@ public class FieldAccessor implements PropertyAccessor<Object> {
 
     @Override
     public void set(Object instance, Object value) {
+        // a null can not be unboxed into a primitive so let reflection reject it
+        if (setter != null && !(primitive && value == null)) {
+            try {
+                setter.invokeExact(instance, value);
+                return;
+            } catch (ClassCastException ignored) {
+                // widening conversions and invalid values are left to reflection
+            } catch (Throwable e) {
+                throw new MappingException(e.getMessage(), e);
+            }
+        }
         try {
             field.set(instance, value);
         } catch (ReflectiveOperationException e) {
             throw new MappingException(e.getMessage(), e);
         }
     }
+
+    private static Field accessible(Field field) {
+        field.setAccessible(true);
+        return field;
+    }
+
+    @Nullable
+    private static byte[] template() {
+        try (InputStream stream = FieldAccessor.class.getResourceAsStream(ConstantFieldAccessor.class.getSimpleName() + ".class")) {
+            return stream != null ? stream.readAllBytes() : null;
+        } catch (IOException e) {
+            LOG.debug("Could not read the accessor template: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle getter(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debug("Falling back to reflection to read {}: {}", field, e.getMessage());
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle setter(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.debug("Falling back to reflection to write {}: {}", field, e.getMessage());
+            return null;
+        }
+    }
 }
@@ -1,10 +1,10 @@
 package dev.morphia.mapping.codec;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.mongodb.lang.Nullable;
 
@@ -35,7 +35,7 @@ import org.bson.codecs.pojo.PropertyCodecProvider;
  */
 @MorphiaInternal
 public class MorphiaCodecProvider implements CodecProvider {
-    private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+    private final Map<Class<?>, Codec<?>> codecs = new ConcurrentHashMap<>();
     private final Mapper mapper;
     private final List<PropertyCodecProvider> propertyCodecProviders = new ArrayList<>();
     private MorphiaDatastore datastore;
@@ -72,7 +72,10 @@ public class MorphiaCodecProvider implements CodecProvider {
             if (model.hasLifecycle(PreLoad.class) || model.hasLifecycle(PostLoad.class) || mapper.hasListeners()) {
                 codec.setDecoder(new LifecycleDecoder(codec));
             }
-            codecs.put(type, codec);
+            MorphiaCodec<T> existing = (MorphiaCodec<T>) codecs.putIfAbsent(type, codec);
+            if (existing != null) {
+                codec = existing;
+            }
         }
 
         return codec;
@@ -30,7 +30,9 @@ public class MorphiaCollectionPropertyCodecProvider extends MorphiaPropertyCodec
             TypeWithTypeParameters<?> valueType = getType(typeParameters, 0);
 
             try {
-                return new MorphiaCollectionCodec(registry.get(valueType), type.getType());
+                Codec<?> valueCodec = registry.get(valueType);
+                Codec<T> numbers = NumberCollectionCodec.of(valueCodec, type.getType());
+                return numbers != null ? numbers : new MorphiaCollectionCodec(valueCodec, type.getType());
             } catch (CodecConfigurationException e) {
                 if (valueType.getType().equals(Object.class)) {
                     try {
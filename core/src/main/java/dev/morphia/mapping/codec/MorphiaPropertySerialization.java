@@ -1,8 +1,6 @@
 package dev.morphia.mapping.codec;
 
-import java.lang.annotation.Annotation;
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 
 import com.mongodb.lang.Nullable;
@@ -17,8 +15,8 @@ import org.bson.codecs.pojo.PropertySerialization;
  * Determines if a property should be serialized or not
  */
 public class MorphiaPropertySerialization implements PropertySerialization<Object> {
-    private final List<Annotation> annotations;
     private final MorphiaConfig config;
+    private final boolean loadOnly;
 
     private final PropertyModel property;
 
@@ -28,8 +26,8 @@ public class MorphiaPropertySerialization implements PropertySerialization<Objec
      */
     public MorphiaPropertySerialization(MorphiaConfig config, PropertyModel property) {
         this.config = config;
-        annotations = property.getAnnotations();
         this.property = property;
+        loadOnly = property.getAnnotations().stream().anyMatch(a -> a.annotationType().equals(LoadOnly.class));
     }
 
     @Override
@@ -46,10 +44,6 @@ public class MorphiaPropertySerialization implements PropertySerialization<Objec
                 return false;
             }
         }
-        return isNotLoadOnly();
-    }
-
-    private boolean isNotLoadOnly() {
-        return annotations.stream().noneMatch(a -> a.annotationType().equals(LoadOnly.class));
+        return !loadOnly;
     }
 }
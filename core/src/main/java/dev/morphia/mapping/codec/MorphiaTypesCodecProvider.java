@@ -6,6 +6,13 @@ import java.util.List;
 import java.util.Map;
 
 import dev.morphia.MorphiaDatastore;
+import dev.morphia.mapping.codec.PrimitiveArrayCodec.BooleanArrayCodec;
+import dev.morphia.mapping.codec.PrimitiveArrayCodec.CharArrayCodec;
+import dev.morphia.mapping.codec.PrimitiveArrayCodec.DoubleArrayCodec;
+import dev.morphia.mapping.codec.PrimitiveArrayCodec.FloatArrayCodec;
+import dev.morphia.mapping.codec.PrimitiveArrayCodec.IntArrayCodec;
+import dev.morphia.mapping.codec.PrimitiveArrayCodec.LongArrayCodec;
+import dev.morphia.mapping.codec.PrimitiveArrayCodec.ShortArrayCodec;
 import dev.morphia.mapping.codec.expressions.FieldsCodec;
 
 import org.bson.codecs.Codec;
@@ -33,6 +40,7 @@ public class MorphiaTypesCodecProvider implements CodecProvider {
         addCodec(new PolygonCoordinatesCodec());
         addCodec(new ClassCodec());
         addCodec(new LocaleCodec());
+        addCodec(new ParameterCodec());
         addCodec(new ObjectCodec(datastore));
         //        addCodec(new PatternCodec());
         addCodec(new URICodec());
@@ -41,13 +49,16 @@ public class MorphiaTypesCodecProvider implements CodecProvider {
         addCodec(new FieldsCodec(datastore));
         addCodec(new TypeCodec());
 
-        List.of(boolean.class, Boolean.class,
-                char.class, Character.class,
-                double.class, Double.class,
-                float.class, Float.class,
-                int.class, Integer.class,
-                long.class, Long.class,
-                short.class, Short.class).forEach(c -> addCodec(new TypedArrayCodec(datastore, c)));
+        addCodec(new BooleanArrayCodec(datastore));
+        addCodec(new CharArrayCodec(datastore));
+        addCodec(new DoubleArrayCodec(datastore));
+        addCodec(new FloatArrayCodec(datastore));
+        addCodec(new IntArrayCodec(datastore));
+        addCodec(new LongArrayCodec(datastore));
+        addCodec(new ShortArrayCodec(datastore));
+
+        List.of(Boolean.class, Character.class, Double.class, Float.class, Integer.class, Long.class, Short.class)
+                .forEach(c -> addCodec(new TypedArrayCodec(datastore, c)));
     }
 
     protected <T> void addCodec(Codec<T> codec) {
@@ -0,0 +1,137 @@
+package dev.morphia.mapping.codec;
+
+import java.util.Collection;
+
+import com.mongodb.lang.Nullable;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DoubleCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.IntegerCodec;
+import org.bson.codecs.LongCodec;
+
+/**
+ * Reads and writes collections of boxed numbers directly rather than going through the element codec for each value. Values stored
+ * as a different BSON type are still handed to the element codec so they convert as they always have.
+ *
+ * @param <T> the element type
+ */
+abstract class NumberCollectionCodec<T extends Number> extends MorphiaCollectionCodec<T> {
+    private final BsonType bsonType;
+
+    NumberCollectionCodec(Codec<T> codec, Class<T> type, BsonType bsonType) {
+        super(codec, type);
+        this.bsonType = bsonType;
+    }
+
+    /**
+     * Creates a codec for the collection if its elements are one of the supported numeric types using the default codec.
+     *
+     * @param codec the element codec
+     * @param type  the collection type
+     * @return the new codec or null if the elements are not supported
+     */
+    @Nullable
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static <T> Codec<T> of(Codec<?> codec, Class<T> type) {
+        if (codec instanceof IntegerCodec) {
+            return (Codec<T>) new IntegerCollectionCodec((Codec<Integer>) codec, type);
+        } else if (codec instanceof LongCodec) {
+            return (Codec<T>) new LongCollectionCodec((Codec<Long>) codec, type);
+        } else if (codec instanceof DoubleCodec) {
+            return (Codec<T>) new DoubleCollectionCodec((Codec<Double>) codec, type);
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<T> decode(BsonReader reader, DecoderContext decoderContext) {
+        if (!reader.getCurrentBsonType().equals(BsonType.ARRAY)) {
+            return super.decode(reader, decoderContext);
+        }
+        Collection<T> collection = getInstance();
+        reader.readStartArray();
+        BsonType type;
+        while ((type = reader.readBsonType()) != BsonType.END_OF_DOCUMENT) {
+            if (type == bsonType) {
+                collection.add(read(reader));
+            } else if (type == BsonType.NULL) {
+                reader.readNull();
+                collection.add(null);
+            } else {
+                collection.add(getCodec().decode(reader, decoderContext));
+            }
+        }
+        reader.readEndArray();
+        return collection;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Collection<T> collection, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (T value : collection) {
+            if (value == null) {
+                writer.writeNull();
+            } else {
+                write(writer, value);
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    abstract T read(BsonReader reader);
+
+    abstract void write(BsonWriter writer, T value);
+
+    private static class DoubleCollectionCodec extends NumberCollectionCodec<Double> {
+        DoubleCollectionCodec(Codec<Double> codec, Class type) {
+            super(codec, type, BsonType.DOUBLE);
+        }
+
+        @Override
+        Double read(BsonReader reader) {
+            return reader.readDouble();
+        }
+
+        @Override
+        void write(BsonWriter writer, Double value) {
+            writer.writeDouble(value);
+        }
+    }
+
+    private static class IntegerCollectionCodec extends NumberCollectionCodec<Integer> {
+        IntegerCollectionCodec(Codec<Integer> codec, Class type) {
+            super(codec, type, BsonType.INT32);
+        }
+
+        @Override
+        Integer read(BsonReader reader) {
+            return reader.readInt32();
+        }
+
+        @Override
+        void write(BsonWriter writer, Integer value) {
+            writer.writeInt32(value);
+        }
+    }
+
+    private static class LongCollectionCodec extends NumberCollectionCodec<Long> {
+        LongCollectionCodec(Codec<Long> codec, Class type) {
+            super(codec, type, BsonType.INT64);
+        }
+
+        @Override
+        Long read(BsonReader reader) {
+            return reader.readInt64();
+        }
+
+        @Override
+        void write(BsonWriter writer, Long value) {
+            writer.writeInt64(value);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.query.Parameter;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Writes query parameters as placeholder symbols to be replaced by the bound values when a prepared query is run.
+ *
+ * @hidden
+ * @morphia.internal
+ */
+@MorphiaInternal
+public class ParameterCodec implements Codec<Parameter> {
+    @Override
+    public Parameter decode(BsonReader reader, DecoderContext decoderContext) {
+        throw new UnsupportedOperationException(Sofia.encodingOnly());
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Parameter value, EncoderContext encoderContext) {
+        writer.writeSymbol(value.placeholder());
+    }
+
+    @Override
+    public Class<Parameter> getEncoderClass() {
+        return Parameter.class;
+    }
+}
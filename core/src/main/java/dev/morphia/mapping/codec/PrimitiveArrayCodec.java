@@ -0,0 +1,336 @@
+package dev.morphia.mapping.codec;
+
+import java.util.Arrays;
+
+import dev.morphia.MorphiaDatastore;
+
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import static java.lang.String.format;
+
+/**
+ * Encodes arrays of primitives without boxing the elements. Elements are written directly and read into a buffer of the primitive
+ * type which grows as needed. Values stored as a different BSON type than the one this codec writes are handed to the element type's
+ * codec so they convert the same way a single value would. Null elements are read as the primitive's default value.
+ *
+ * @param <A> the array type
+ */
+abstract class PrimitiveArrayCodec<A> implements Codec<A> {
+    private static final int INITIAL_SIZE = 16;
+
+    private final MorphiaDatastore datastore;
+    private final Class<A> arrayType;
+    private final Class<?> elementType;
+    private Codec<?> codec;
+
+    PrimitiveArrayCodec(MorphiaDatastore datastore, Class<A> arrayType, Class<?> elementType) {
+        this.datastore = datastore;
+        this.arrayType = arrayType;
+        this.elementType = elementType;
+    }
+
+    @Override
+    public A decode(BsonReader reader, DecoderContext decoderContext) {
+        reader.readStartArray();
+
+        A array = newArray(INITIAL_SIZE);
+        int capacity = INITIAL_SIZE;
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == capacity) {
+                capacity *= 2;
+                array = copyOf(array, capacity);
+            }
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                size++;
+            } else {
+                read(reader, decoderContext, array, size++);
+            }
+        }
+
+        reader.readEndArray();
+
+        return size == capacity ? array : copyOf(array, size);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, A value, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        write(writer, value);
+        writer.writeEndArray();
+    }
+
+    @Override
+    public Class<A> getEncoderClass() {
+        return arrayType;
+    }
+
+    @Override
+    public String toString() {
+        return format("%s<%s>", getClass().getName(), elementType.getSimpleName());
+    }
+
+    abstract A copyOf(A array, int length);
+
+    abstract A newArray(int length);
+
+    abstract void read(BsonReader reader, DecoderContext decoderContext, A array, int index);
+
+    abstract void write(BsonWriter writer, A value);
+
+    /**
+     * Decodes an element stored as an unexpected type using the element's codec.
+     */
+    Object element(BsonReader reader, DecoderContext decoderContext) {
+        if (codec == null) {
+            codec = datastore.getCodecRegistry().get(elementType);
+        }
+        return codec.decode(reader, decoderContext);
+    }
+
+    static class BooleanArrayCodec extends PrimitiveArrayCodec<boolean[]> {
+        BooleanArrayCodec(MorphiaDatastore datastore) {
+            super(datastore, boolean[].class, boolean.class);
+        }
+
+        @Override
+        boolean[] copyOf(boolean[] array, int length) {
+            return Arrays.copyOf(array, length);
+        }
+
+        @Override
+        boolean[] newArray(int length) {
+            return new boolean[length];
+        }
+
+        @Override
+        void read(BsonReader reader, DecoderContext decoderContext, boolean[] array, int index) {
+            array[index] = reader.getCurrentBsonType() == BsonType.BOOLEAN
+                    ? reader.readBoolean()
+                    : (Boolean) element(reader, decoderContext);
+        }
+
+        @Override
+        void write(BsonWriter writer, boolean[] value) {
+            for (boolean element : value) {
+                writer.writeBoolean(element);
+            }
+        }
+    }
+
+    static class CharArrayCodec extends PrimitiveArrayCodec<char[]> {
+        CharArrayCodec(MorphiaDatastore datastore) {
+            super(datastore, char[].class, char.class);
+        }
+
+        @Override
+        char[] copyOf(char[] array, int length) {
+            return Arrays.copyOf(array, length);
+        }
+
+        @Override
+        char[] newArray(int length) {
+            return new char[length];
+        }
+
+        @Override
+        void read(BsonReader reader, DecoderContext decoderContext, char[] array, int index) {
+            if (reader.getCurrentBsonType() == BsonType.STRING) {
+                String value = reader.readString();
+                if (value.length() != 1) {
+                    throw new BsonInvalidOperationException(format("Attempting to decode the string '%s' to a character, but its "
+                            + "length is not equal to one", value));
+                }
+                array[index] = value.charAt(0);
+            } else {
+                array[index] = (Character) element(reader, decoderContext);
+            }
+        }
+
+        @Override
+        void write(BsonWriter writer, char[] value) {
+            for (char element : value) {
+                writer.writeString(String.valueOf(element));
+            }
+        }
+    }
+
+    static class DoubleArrayCodec extends PrimitiveArrayCodec<double[]> {
+        DoubleArrayCodec(MorphiaDatastore datastore) {
+            super(datastore, double[].class, double.class);
+        }
+
+        @Override
+        double[] copyOf(double[] array, int length) {
+            return Arrays.copyOf(array, length);
+        }
+
+        @Override
+        double[] newArray(int length) {
+            return new double[length];
+        }
+
+        @Override
+        void read(BsonReader reader, DecoderContext decoderContext, double[] array, int index) {
+            BsonType type = reader.getCurrentBsonType();
+            if (type == BsonType.DOUBLE) {
+                array[index] = reader.readDouble();
+            } else if (type == BsonType.INT32) {
+                array[index] = reader.readInt32();
+            } else {
+                array[index] = (Double) element(reader, decoderContext);
+            }
+        }
+
+        @Override
+        void write(BsonWriter writer, double[] value) {
+            for (double element : value) {
+                writer.writeDouble(element);
+            }
+        }
+    }
+
+    static class FloatArrayCodec extends PrimitiveArrayCodec<float[]> {
+        FloatArrayCodec(MorphiaDatastore datastore) {
+            super(datastore, float[].class, float.class);
+        }
+
+        @Override
+        float[] copyOf(float[] array, int length) {
+            return Arrays.copyOf(array, length);
+        }
+
+        @Override
+        float[] newArray(int length) {
+            return new float[length];
+        }
+
+        @Override
+        void read(BsonReader reader, DecoderContext decoderContext, float[] array, int index) {
+            if (reader.getCurrentBsonType() == BsonType.DOUBLE) {
+                double value = reader.readDouble();
+                if (value < -Float.MAX_VALUE || value > Float.MAX_VALUE) {
+                    throw new BsonInvalidOperationException(format("%s can not be converted into a Float.", value));
+                }
+                array[index] = (float) value;
+            } else {
+                array[index] = (Float) element(reader, decoderContext);
+            }
+        }
+
+        @Override
+        void write(BsonWriter writer, float[] value) {
+            for (float element : value) {
+                writer.writeDouble(element);
+            }
+        }
+    }
+
+    static class IntArrayCodec extends PrimitiveArrayCodec<int[]> {
+        IntArrayCodec(MorphiaDatastore datastore) {
+            super(datastore, int[].class, int.class);
+        }
+
+        @Override
+        int[] copyOf(int[] array, int length) {
+            return Arrays.copyOf(array, length);
+        }
+
+        @Override
+        int[] newArray(int length) {
+            return new int[length];
+        }
+
+        @Override
+        void read(BsonReader reader, DecoderContext decoderContext, int[] array, int index) {
+            array[index] = reader.getCurrentBsonType() == BsonType.INT32
+                    ? reader.readInt32()
+                    : (Integer) element(reader, decoderContext);
+        }
+
+        @Override
+        void write(BsonWriter writer, int[] value) {
+            for (int element : value) {
+                writer.writeInt32(element);
+            }
+        }
+    }
+
+    static class LongArrayCodec extends PrimitiveArrayCodec<long[]> {
+        LongArrayCodec(MorphiaDatastore datastore) {
+            super(datastore, long[].class, long.class);
+        }
+
+        @Override
+        long[] copyOf(long[] array, int length) {
+            return Arrays.copyOf(array, length);
+        }
+
+        @Override
+        long[] newArray(int length) {
+            return new long[length];
+        }
+
+        @Override
+        void read(BsonReader reader, DecoderContext decoderContext, long[] array, int index) {
+            BsonType type = reader.getCurrentBsonType();
+            if (type == BsonType.INT64) {
+                array[index] = reader.readInt64();
+            } else if (type == BsonType.INT32) {
+                array[index] = reader.readInt32();
+            } else {
+                array[index] = (Long) element(reader, decoderContext);
+            }
+        }
+
+        @Override
+        void write(BsonWriter writer, long[] value) {
+            for (long element : value) {
+                writer.writeInt64(element);
+            }
+        }
+    }
+
+    static class ShortArrayCodec extends PrimitiveArrayCodec<short[]> {
+        ShortArrayCodec(MorphiaDatastore datastore) {
+            super(datastore, short[].class, short.class);
+        }
+
+        @Override
+        short[] copyOf(short[] array, int length) {
+            return Arrays.copyOf(array, length);
+        }
+
+        @Override
+        short[] newArray(int length) {
+            return new short[length];
+        }
+
+        @Override
+        void read(BsonReader reader, DecoderContext decoderContext, short[] array, int index) {
+            if (reader.getCurrentBsonType() == BsonType.INT32) {
+                int value = reader.readInt32();
+                if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+                    throw new BsonInvalidOperationException(format("%s can not be converted into a Short.", value));
+                }
+                array[index] = (short) value;
+            } else {
+                array[index] = (Short) element(reader, decoderContext);
+            }
+        }
+
+        @Override
+        void write(BsonWriter writer, short[] value) {
+            for (short element : value) {
+                writer.writeInt32(element);
+            }
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package dev.morphia.mapping.codec.pojo;
 
+import java.util.Set;
+import java.util.function.Function;
+
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.metrics.MorphiaMetrics;
 
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
@@ -19,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static dev.morphia.mapping.codec.Conversions.convert;
+import static dev.morphia.metrics.MetricEvent.DECODE;
 import static java.lang.String.format;
 
 /**
@@ -40,39 +45,61 @@ public class EntityDecoder<T> implements Decoder<T> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        T entity;
+        return decode(reader, decoderContext, null);
+    }
+
+    /**
+     * Decodes an entity reading only the given properties. Once each of them has been read the rest of the document is skipped
+     * without being decoded. Properties not read keep the values given them when the entity was created.
+     *
+     * @param reader         the reader
+     * @param decoderContext the context
+     * @param fields         the mapped names of the top level properties to read or null to read them all
+     * @return the entity
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    public T decode(BsonReader reader, DecoderContext decoderContext, @Nullable Set<String> fields) {
         if (decoderContext.hasCheckedDiscriminator()) {
-            LOG.debug(format("Decoding document using codec for %s'", morphiaCodec.getEntityModel().getType().getName()));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(format("Decoding document using codec for %s'", morphiaCodec.getEntityModel().getType().getName()));
+            }
             MorphiaInstanceCreator instanceCreator = getInstanceCreator();
-            decodeProperties(reader, decoderContext, instanceCreator, classModel);
+            decodeProperties(reader, decoderContext, instanceCreator, classModel, fields);
             return (T) instanceCreator.getInstance();
-        } else {
-            entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.discriminatorKey(),
-                    morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
-                    .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
         }
-
-        return entity;
+        Codec<T> codec = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.discriminatorKey(),
+                morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec);
+        DecoderContext checked = DecoderContext.builder().checkedDiscriminator(true).build();
+        return codec instanceof MorphiaCodec
+                ? ((MorphiaCodec<T>) codec).decode(reader, checked, fields)
+                : codec.decode(reader, checked);
     }
 
     protected void decodeModel(BsonReader reader, DecoderContext decoderContext,
             MorphiaInstanceCreator instanceCreator, @Nullable PropertyModel model) {
 
         if (model != null) {
-            final BsonReaderMark mark = reader.getMark();
-            try {
-                if (reader.getCurrentBsonType() == BsonType.NULL) {
-                    reader.readNull();
-                } else {
+            BsonType bsonType = reader.getCurrentBsonType();
+            Function<Object, Object> conversion = model.getConversions().get(bsonType);
+            if (bsonType == BsonType.NULL) {
+                reader.readNull();
+            } else if (conversion != null) {
+                final Object value = morphiaCodec.getRegistry().get(Object.class).decode(reader, decoderContext);
+                instanceCreator.set(conversion.apply(value), model);
+                model.recordConversion();
+            } else {
+                final BsonReaderMark mark = reader.getMark();
+                try {
                     Object value = decoderContext.decodeWithChildContext(model.getCodec(), reader);
                     instanceCreator.set(value, model);
+                } catch (BsonInvalidOperationException e) {
+                    mark.reset();
+                    final Object value = morphiaCodec.getRegistry().get(Object.class).decode(reader, decoderContext);
+                    instanceCreator.set(convert(value, model.getTypeData().getType()), model);
+                    model.recordConversion();
                 }
-            } catch (BsonInvalidOperationException e) {
-                mark.reset();
-                final Object value = morphiaCodec.getRegistry().get(Object.class).decode(reader, decoderContext);
-                instanceCreator.set(convert(value, model.getTypeData().getType()), model);
             }
         } else {
             reader.skipValue();
@@ -81,9 +108,29 @@ public class EntityDecoder<T> implements Decoder<T> {
 
     protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
             MorphiaInstanceCreator instanceCreator, EntityModel classModel) {
+        decodeProperties(reader, decoderContext, instanceCreator, classModel, null);
+    }
+
+    protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
+            MorphiaInstanceCreator instanceCreator, EntityModel classModel, @Nullable Set<String> fields) {
+        MorphiaMetrics metrics = morphiaCodec.getDatastore().getMetrics();
+        long start = metrics.start();
         reader.readStartDocument();
+        int remaining = fields != null ? fields.size() : -1;
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (remaining == 0) {
+                reader.skipName();
+                reader.skipValue();
+                continue;
+            }
             String name = reader.readName();
+            if (fields != null) {
+                if (!fields.contains(name)) {
+                    reader.skipValue();
+                    continue;
+                }
+                remaining--;
+            }
             if (classModel.useDiscriminator() && classModel.discriminatorKey().equals(name)) {
                 reader.readString();
             } else {
@@ -91,6 +138,8 @@ public class EntityDecoder<T> implements Decoder<T> {
             }
         }
         reader.readEndDocument();
+        String collection = classModel.getEntityAnnotation() != null ? classModel.collectionName() : null;
+        metrics.stop(DECODE, classModel.getType(), collection, 1, start);
     }
 
     protected Codec<T> getCodecFromDocument(BsonReader reader, boolean useDiscriminator, String discriminatorKey,
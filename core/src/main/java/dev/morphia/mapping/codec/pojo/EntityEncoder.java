@@ -6,6 +6,7 @@ import java.util.Map;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.metrics.MorphiaMetrics;
 
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
@@ -17,6 +18,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static dev.morphia.mapping.codec.CodecHelper.document;
+import static dev.morphia.metrics.MetricEvent.ENCODE;
 import static java.lang.String.format;
 
 /**
@@ -42,24 +44,31 @@ public class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
     public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
         EntityModel model = morphiaCodec.getEntityModel();
         if (areEquivalentTypes(value.getClass(), model.getType())) {
-            LOG.debug(format("Encoding document using codec for %s'", morphiaCodec.getEntityModel().getType().getName()));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(format("Encoding document using codec for %s'", model.getType().getName()));
+            }
 
+            MorphiaMetrics metrics = morphiaCodec.getDatastore().getMetrics();
+            long start = metrics.start();
             document(writer, () -> {
-
+                PropertyModel[] properties = model.getEncodedProperties();
+                int first = 0;
                 PropertyModel idModel = model.getIdProperty();
-                encodeIdProperty(writer, value, encoderContext, idModel);
+                if (idModel != null) {
+                    encodeIdProperty(writer, value, encoderContext, idModel);
+                    first = 1;
+                }
 
                 if (model.useDiscriminator()) {
                     encodeDiscriminator(writer, model);
                 }
 
-                for (PropertyModel propertyModel : model.getProperties()) {
-                    if (propertyModel.equals(idModel)) {
-                        continue;
-                    }
-                    encodeProperty(writer, propertyModel, value, encoderContext);
+                for (int i = first; i < properties.length; i++) {
+                    encodeProperty(writer, properties[i], value, encoderContext);
                 }
             });
+            String collection = model.getEntityAnnotation() != null ? model.collectionName() : null;
+            metrics.stop(ENCODE, model.getType(), collection, 1, start);
         } else {
             morphiaCodec.getRegistry()
                     .get((Class) value.getClass())
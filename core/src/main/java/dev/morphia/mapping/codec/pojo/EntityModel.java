@@ -30,6 +30,7 @@ import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.EntityListeners;
 import dev.morphia.annotations.ExternalEntity;
 import dev.morphia.annotations.Id;
+import dev.morphia.annotations.LoadOnly;
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PreLoad;
@@ -52,6 +53,8 @@ import dev.morphia.mapping.lifecycle.OnEntityListenerAdapter;
 import dev.morphia.mapping.lifecycle.UntypedEntityListenerAdapter;
 import dev.morphia.sofia.Sofia;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
 import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -92,7 +95,9 @@ public class EntityModel {
     public EntityModel superClass;
     private PropertyModel idProperty;
     private PropertyModel versionProperty;
+    private volatile PropertyModel[] encodedProperties;
     private final List<EntityListener<?>> listeners = new ArrayList<>();
+    private boolean loadUsesDocument;
     private final Set<Class<?>> classes = new LinkedHashSet<>();
 
     public EntityModel(Class<?> type) {
@@ -152,16 +157,16 @@ public class EntityModel {
         if (entityLisAnn != null) {
             for (Class<?> aClass : entityLisAnn.value()) {
                 if (EntityListener.class.isAssignableFrom(aClass)) {
-                    listeners.add(new EntityListenerAdapter(aClass));
+                    addListener(new EntityListenerAdapter(aClass));
                 } else {
-                    listeners.add(new UntypedEntityListenerAdapter(aClass));
+                    addListener(new UntypedEntityListenerAdapter(aClass));
                 }
             }
         }
 
         OnEntityListenerAdapter adapter = OnEntityListenerAdapter.listen(getType());
         if (adapter != null) {
-            listeners.add(adapter);
+            addListener(adapter);
         }
     }
 
@@ -170,6 +175,7 @@ public class EntityModel {
         added &= propertyModelsByMappedName.put(property.getMappedName(), property) == null;
 
         if (added) {
+            encodedProperties = null;
             if (property.hasAnnotation(Id.class)) {
                 idProperty = property;
             } else if (property.hasAnnotation(Version.class)) {
@@ -298,6 +304,7 @@ public class EntityModel {
     @Nullable
     public void setIdProperty(PropertyModel model) {
         idProperty = model;
+        encodedProperties = null;
     }
 
     /**
@@ -335,6 +342,37 @@ public class EntityModel {
         return new ArrayList<>(propertyModelsByName.values());
     }
 
+    /**
+     * Returns the properties written when encoding an entity. The ID property, if any, is always first and is followed by the
+     * remaining properties in declaration order. {@link LoadOnly} properties are never written and are left out. The array is
+     * built once and shared by every encode so it must not be modified.
+     *
+     * @return the properties to encode
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public PropertyModel[] getEncodedProperties() {
+        PropertyModel[] properties = encodedProperties;
+        if (properties == null) {
+            List<PropertyModel> list = new ArrayList<>(propertyModelsByName.size());
+            PropertyModel id = getIdProperty();
+            if (id != null) {
+                list.add(id);
+            }
+            for (PropertyModel property : propertyModelsByName.values()) {
+                if (!property.equals(id) && !property.hasAnnotation(LoadOnly.class)) {
+                    list.add(property);
+                }
+            }
+            properties = list.toArray(new PropertyModel[0]);
+            encodedProperties = properties;
+        }
+        return properties;
+    }
+
     /**
      * @param name the property name
      * @return the named PropertyModel or null if it does not exist
@@ -477,6 +515,31 @@ public class EntityModel {
         return getType().isInterface();
     }
 
+    /**
+     * Checks whether any listener for the load events might read the document. Listeners implementing {@link EntityListener} directly
+     * always receive the document so they are assumed to read it.
+     *
+     * @param mapper the mapper holding any global listeners
+     * @return true if the document needs to be built for the {@link PreLoad} and {@link PostLoad} listeners
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean loadUsesDocument(Mapper mapper) {
+        if (loadUsesDocument) {
+            return true;
+        }
+        if (mapper.hasListeners()) {
+            for (EntityListener<?> listener : mapper.getListeners()) {
+                if (listener.hasAnnotation(PreLoad.class) || listener.hasAnnotation(PostLoad.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * @return true if the discriminator should be used
      */
@@ -484,6 +547,17 @@ public class EntityModel {
         return discriminatorEnabled;
     }
 
+    private void addListener(EntityListener<?> listener) {
+        listeners.add(listener);
+        for (Class<? extends Annotation> event : List.of(PreLoad.class, PostLoad.class)) {
+            if (listener instanceof EntityListenerAdapter adapter
+                    ? adapter.usesDocument(event)
+                    : listener.hasAnnotation(event)) {
+                loadUsesDocument = true;
+            }
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     private void invokeLifecycleEvent(Class<? extends Annotation> event,
             Object entity,
@@ -553,16 +627,16 @@ public class EntityModel {
             if (entityLisAnn != null) {
                 for (Class<?> aClass : entityLisAnn.value()) {
                     if (EntityListener.class.isAssignableFrom(aClass)) {
-                        listeners.add(new EntityListenerAdapter(aClass));
+                        addListener(new EntityListenerAdapter(aClass));
                     } else {
-                        listeners.add(new UntypedEntityListenerAdapter(aClass));
+                        addListener(new UntypedEntityListenerAdapter(aClass));
                     }
                 }
             }
 
             OnEntityListenerAdapter adapter = OnEntityListenerAdapter.listen(getType());
             if (adapter != null) {
-                listeners.add(adapter);
+                addListener(adapter);
             }
 
         }
@@ -1,8 +1,14 @@
 package dev.morphia.mapping.codec.pojo;
 
+import java.util.Set;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 
@@ -33,27 +39,36 @@ public class LifecycleDecoder<T> extends EntityDecoder<T> {
 
     @Override
     @SuppressWarnings("unchecked")
-    public T decode(BsonReader reader, DecoderContext decoderContext) {
-        Document document = getMorphiaCodec().getRegistry().get(Document.class).decode(reader, decoderContext);
-        EntityModel model = getMorphiaCodec().getEntityModel();
-        if (model.useDiscriminator()) {
-            String discriminator = document.getString(model.discriminatorKey());
-            if (discriminator != null) {
-                Class<?> discriminatorClass = getMorphiaCodec().getDiscriminatorLookup().lookup(discriminator);
-                // need to load the codec to initialize cachedCodecs in field models
-                Codec<?> codec = getMorphiaCodec().getRegistry().get(discriminatorClass);
-                if (codec instanceof MorphiaCodec) {
-                    model = ((MorphiaCodec<?>) codec).getEntityModel();
-                } else {
-                    throw new CodecConfigurationException(format("Non-entity class used as discriminator: '%s'.", discriminator));
-                }
+    public T decode(BsonReader reader, DecoderContext decoderContext, @Nullable Set<String> fields) {
+        MorphiaCodec<T> morphiaCodec = getMorphiaCodec();
+        EntityModel model = morphiaCodec.getEntityModel();
+        if (!decoderContext.hasCheckedDiscriminator() && model.useDiscriminator()) {
+            Codec<T> codec = getCodecFromDocument(reader, true, model.discriminatorKey(), morphiaCodec.getRegistry(),
+                    morphiaCodec.getDiscriminatorLookup(), morphiaCodec);
+            if (codec instanceof MorphiaCodec) {
+                model = ((MorphiaCodec<?>) codec).getEntityModel();
+            } else {
+                throw new CodecConfigurationException(format("Non-entity class used as discriminator: '%s'.",
+                        codec.getEncoderClass().getName()));
             }
         }
+        MorphiaDatastore datastore = morphiaCodec.getDatastore();
+        Mapper mapper = datastore.getMapper();
+        Document document;
+        BsonReader source;
+        if (model.loadUsesDocument(mapper)) {
+            document = morphiaCodec.getRegistry().get(Document.class).decode(reader, decoderContext);
+            source = new DocumentReader(document);
+        } else {
+            // nothing will look at the document so decode straight from the reader
+            document = new Document();
+            source = reader;
+        }
         final MorphiaInstanceCreator instanceCreator = model.getInstanceCreator();
         T entity = (T) instanceCreator.getInstance();
-        model.callLifecycleMethods(PreLoad.class, entity, document, getMorphiaCodec().getDatastore());
-        decodeProperties(new DocumentReader(document), decoderContext, instanceCreator, model);
-        model.callLifecycleMethods(PostLoad.class, entity, document, getMorphiaCodec().getDatastore());
+        model.callLifecycleMethods(PreLoad.class, entity, document, datastore);
+        decodeProperties(source, decoderContext, instanceCreator, model, fields);
+        model.callLifecycleMethods(PostLoad.class, entity, document, datastore);
 
         return entity;
     }
@@ -1,6 +1,9 @@
 package dev.morphia.mapping.codec.pojo;
 
 import java.util.List;
+import java.util.Set;
+
+import com.mongodb.lang.Nullable;
 
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaInternal;
@@ -46,6 +49,7 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private final PropertyCodecRegistry propertyCodecRegistry;
     private final DiscriminatorLookup discriminatorLookup;
     private EntityEncoder<T> encoder;
+    private EntityEncoder<T> plainEncoder;
     private EntityDecoder<T> decoder;
     private MorphiaDatastore datastore;
 
@@ -76,6 +80,20 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return getDecoder().decode(reader, decoderContext);
     }
 
+    /**
+     * Decodes an entity reading only the given top level properties.
+     *
+     * @param reader         the reader
+     * @param decoderContext the context
+     * @param fields         the mapped names of the properties to read or null to read them all
+     * @return the entity
+     * @see EntityDecoder#decode(BsonReader, DecoderContext, Set)
+     * @since 3.0
+     */
+    public T decode(BsonReader reader, DecoderContext decoderContext, @Nullable Set<String> fields) {
+        return getDecoder().decode(reader, decoderContext, fields);
+    }
+
     @Override
     public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
         getEncoder().encode(writer, value, encoderContext);
@@ -139,6 +157,23 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return encoder;
     }
 
+    /**
+     * Finds an encoder which writes entities as they are without calling their lifecycle methods whatever encoder this codec has been
+     * given.
+     *
+     * @return the encoder
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public EntityEncoder<T> getPlainEncoder() {
+        if (plainEncoder == null) {
+            plainEncoder = new EntityEncoder<>(this);
+        }
+        return plainEncoder;
+    }
+
     /**
      * Sets the encoder
      *
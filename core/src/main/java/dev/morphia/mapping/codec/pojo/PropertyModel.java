@@ -27,6 +27,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import com.mongodb.DBRef;
 import com.mongodb.lang.NonNull;
@@ -43,6 +45,7 @@ import dev.morphia.mapping.codec.Conversions;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.mapping.experimental.MorphiaReference;
 
+import org.bson.BsonType;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.pojo.PropertyAccessor;
@@ -72,6 +75,8 @@ public class PropertyModel {
     private final EntityModel entityModel;
     private Codec<? super Object> codec;
     private Class<?> normalizedType;
+    private Map<BsonType, Function<Object, Object>> conversions;
+    private final LongAdder conversionCount = new LongAdder();
 
     public PropertyModel(EntityModel entityModel) {
         this.entityModel = entityModel;
@@ -187,6 +192,52 @@ public class PropertyModel {
         return document.get(loadFromDocument(document));
     }
 
+    /**
+     * Gets the conversions to apply when a value is stored as a BSON type this property's codec can not read directly. Only properties
+     * whose codec is Morphia's default codec for their type get conversions so that custom codecs always see the stored values. Until
+     * the codec is resolved there are none.
+     *
+     * @return the conversions keyed by the stored type
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public Map<BsonType, Function<Object, Object>> getConversions() {
+        Map<BsonType, Function<Object, Object>> current = conversions;
+        if (current == null) {
+            if (codec == null) {
+                return Map.of();
+            }
+            current = Conversions.conversions(getType());
+            if (!current.isEmpty() && !Conversions.isDefaultCodec(getType(), codec)) {
+                current = Map.of();
+            }
+            conversions = current;
+        }
+        return current;
+    }
+
+    /**
+     * @return the number of stored values converted to this property's type while decoding
+     * @since 3.0
+     */
+    public long getConversionCount() {
+        return conversionCount.sum();
+    }
+
+    /**
+     * Records that a stored value had to be converted to this property's type
+     *
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void recordConversion() {
+        conversionCount.increment();
+    }
+
     /**
      * @return the entity model owner of this field
      * @since 2.1
@@ -456,6 +507,7 @@ public class PropertyModel {
 
     void codec(Codec<? super Object> codec) {
         this.codec = codec;
+        conversions = null;
     }
 
 }
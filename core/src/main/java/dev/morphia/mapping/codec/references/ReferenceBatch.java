@@ -0,0 +1,181 @@
+package dev.morphia.mapping.codec.references;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.EntityCache;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.transactions.MorphiaSession;
+
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+
+import static dev.morphia.metrics.MetricEvent.REFERENCES;
+import static dev.morphia.query.filters.Filters.in;
+
+/**
+ * Collects the referenced IDs for a page of decoded entities and resolves them with one {@code $in} query per collection. While a
+ * batch is bound to the current thread, non-lazy references consult it before issuing their own queries.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class ReferenceBatch {
+    private static final ThreadLocal<ReferenceBatch> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Map<EntityModel, Set<Object>>> pending = new LinkedHashMap<>();
+    private final Map<String, Map<Object, Object>> resolved = new HashMap<>();
+
+    /**
+     * Binds a batch to the current thread.
+     *
+     * @param batch the batch to bind or null to clear the binding
+     * @return the previously bound batch, if any
+     */
+    @Nullable
+    public static ReferenceBatch bind(@Nullable ReferenceBatch batch) {
+        ReferenceBatch previous = CURRENT.get();
+        if (batch != null) {
+            CURRENT.set(batch);
+        } else {
+            CURRENT.remove();
+        }
+        return previous;
+    }
+
+    /**
+     * @return the batch bound to the current thread, if any
+     */
+    @Nullable
+    public static ReferenceBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Registers an ID to fetch. The referenced documents are decoded with the codec of the reference's declared type so a
+     * collection mapped by several types, or by none, still resolves to the right entities.
+     *
+     * @param model the model of the reference's declared type
+     * @param id    the ID or {@link DBRef} of the referenced entity
+     */
+    public void collect(EntityModel model, Object id) {
+        String collection = model.collectionName();
+        if (id instanceof DBRef) {
+            DBRef dbRef = (DBRef) id;
+            collection = dbRef.getCollectionName();
+            id = dbRef.getId();
+        }
+        if (!contains(collection, id)) {
+            pending.computeIfAbsent(collection, k -> new LinkedHashMap<>())
+                    .computeIfAbsent(model, k -> new LinkedHashSet<>())
+                    .add(id);
+        }
+    }
+
+    /**
+     * @param collection the collection name
+     * @param id         the ID
+     * @return true if this ID has been fetched by this batch. The entity might still be missing from the database.
+     */
+    public boolean contains(String collection, Object id) {
+        Map<Object, Object> entities = resolved.get(collection);
+        return entities != null && entities.containsKey(id);
+    }
+
+    /**
+     * @param collection the collection name
+     * @param ids        the IDs
+     * @return true if all the IDs have been fetched by this batch
+     */
+    public boolean containsAll(String collection, Collection<?> ids) {
+        Map<Object, Object> entities = resolved.get(collection);
+        return entities != null && entities.keySet().containsAll(ids);
+    }
+
+    /**
+     * @param collection the collection name
+     * @param id         the ID
+     * @return the fetched entity or null if it was not found
+     */
+    @Nullable
+    public Object get(String collection, Object id) {
+        Map<Object, Object> entities = resolved.get(collection);
+        return entities != null ? entities.get(id) : null;
+    }
+
+    /**
+     * Fetches all the pending IDs using one query per collection and referenced type. IDs found in the collection's entity cache are not queried.
+     *
+     * @param datastore the datastore to use
+     */
+    public void resolve(MorphiaDatastore datastore) {
+        for (Entry<String, Map<EntityModel, Set<Object>>> entry : pending.entrySet()) {
+            Map<Object, Object> entities = resolved.computeIfAbsent(entry.getKey(), k -> new HashMap<>());
+            for (Entry<EntityModel, Set<Object>> models : entry.getValue().entrySet()) {
+                resolve(datastore, entry.getKey(), models.getKey(), models.getValue(), entities);
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * Discards all the fetched entities.
+     */
+    public void clear() {
+        pending.clear();
+        resolved.clear();
+    }
+
+    private void resolve(MorphiaDatastore datastore, String collection, EntityModel model, Set<Object> pendingIds,
+            Map<Object, Object> entities) {
+        Class<?> type = model.getType();
+        EntityCache cache = datastore instanceof MorphiaSession || !model.collectionName().equals(collection)
+                ? null
+                : datastore.getCaches().get(model);
+        Codec<?> codec = datastore.getCodecRegistry().get(type);
+        List<Object> ids = new ArrayList<>();
+        for (Object id : pendingIds) {
+            if (entities.containsKey(id)) {
+                continue;
+            }
+            RawBsonDocument document = cache != null ? cache.get(datastore.getCaches().key(id)) : null;
+            if (document != null) {
+                entities.put(id, document.decode(codec));
+            } else {
+                entities.put(id, null);
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        MorphiaMetrics metrics = datastore.getMetrics();
+        long start = metrics.start();
+        try (MongoCursor<?> cursor = datastore.find(collection, type)
+                .disableValidation()
+                .filter(in("_id", ids))
+                .iterator()) {
+            while (cursor.hasNext()) {
+                Object entity = cursor.next();
+                entities.put(datastore.getMapper().getId(entity), entity);
+            }
+        }
+        metrics.stop(REFERENCES, type, collection, ids.size(), start);
+    }
+}
@@ -1,7 +1,5 @@
 package dev.morphia.mapping.codec.references;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationHandler;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -47,17 +45,6 @@ import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.TypeCache;
-import net.bytebuddy.TypeCache.Sort;
-import net.bytebuddy.description.ByteCodeElement;
-import net.bytebuddy.description.modifier.Visibility;
-import net.bytebuddy.dynamic.DynamicType.Builder;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
-import net.bytebuddy.matcher.ElementMatcher.Junction;
-import net.bytebuddy.matcher.ElementMatchers;
-
 import static dev.morphia.mapping.codec.CodecHelper.document;
 import static java.lang.String.format;
 
@@ -72,14 +59,6 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
     private final Mapper mapper;
 
-    /**
-     * Name of instance field that holds the invocation handler of the proxy object.
-     */
-    private static final String FIELD_INVOCATION_HANDLER = "handler";
-    /**
-     * Type-cache for proxy classes generated w/ Byte Buddy.
-     */
-    private final TypeCache<TypeCache.SimpleKey> typeCache = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
     private MorphiaDatastore datastore;
 
     /**
@@ -183,8 +162,35 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
         return fetch(decode);
     }
 
-    private static TypeCache.SimpleKey getCacheKey(Class<?> type) {
-        return new TypeCache.SimpleKey(type, Arrays.asList(type.getInterfaces()));
+    /**
+     * Reads the referenced IDs of the current value and registers them with the batch without resolving them.
+     *
+     * @param reader the reader positioned at the reference value
+     * @param batch  the batch to register the IDs with
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public void collectIds(BsonReader reader, ReferenceBatch batch) {
+        if (annotation.lazy()) {
+            reader.skipValue();
+            return;
+        }
+        DecoderContext decoderContext = DecoderContext.builder().build();
+        Object decode = getDatastore().getCodecRegistry()
+                .get(bsonTypeClassMap.get(reader.getCurrentBsonType()))
+                .decode(reader, decoderContext);
+        collectIds(processId(getDatastore(), decode, decoderContext), batch);
+    }
+
+    private void collectIds(@Nullable Object value, ReferenceBatch batch) {
+        if (value instanceof Collection) {
+            ((Collection<?>) value).forEach(v -> collectIds(v, batch));
+        } else if (value instanceof Map) {
+            ((Map<?, ?>) value).values().forEach(v -> collectIds(v, batch));
+        } else if (value != null && !(value instanceof Document) && !mapper.isMappable(value.getClass())) {
+            batch.collect(getEntityModelForField(), value);
+        }
     }
 
     @Override
@@ -255,22 +261,7 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
     }
 
     private <T> T createProxy(MorphiaReference<?> reference) {
-        ReferenceProxy referenceProxy = new ReferenceProxy(reference);
-        PropertyModel propertyModel = getPropertyModel();
-        try {
-            Class<?> type = propertyModel.getType();
-            // Get or create proxy class
-            Class<T> proxyClass = (Class<T>) typeCache.findOrInsert(type.getClassLoader(), getCacheKey(type), this::makeProxy, typeCache);
-            //... instantiate it
-            final T proxy = proxyClass.getDeclaredConstructor().newInstance();
-            // .. and set the invocation handler
-            final Field field = proxyClass.getDeclaredField(FIELD_INVOCATION_HANDLER);
-            field.setAccessible(true);
-            field.set(proxy, referenceProxy);
-            return proxy;
-        } catch (ReflectiveOperationException | IllegalArgumentException e) {
-            throw new MappingException(e.getMessage(), e);
-        }
+        return mapper.getReferenceProxyFactory().create(getPropertyModel().getType(), reference);
     }
 
     /**
@@ -299,32 +290,6 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
         return idValue;
     }
 
-    private <T> Class<T> makeProxy() {
-        PropertyModel propertyModel = getPropertyModel();
-        Class<?> type = propertyModel.getType();
-        Builder<?> builder = new ByteBuddy()
-                .subclass(type)
-                .implement(MorphiaProxy.class)
-                .name(format("%s$%s$$ReferenceProxy", propertyModel.getEntityModel().getName(), propertyModel.getName()));
-
-        Junction<ByteCodeElement> matcher = ElementMatchers.isDeclaredBy(type);
-        if (!type.isInterface()) {
-            type = type.getSuperclass();
-            while (type != null && !type.equals(Object.class)) {
-                matcher = matcher.or(ElementMatchers.isDeclaredBy(type));
-                type = type.getSuperclass();
-            }
-        }
-
-        return (Class<T>) builder
-                .invokable(matcher.or(ElementMatchers.isDeclaredBy(MorphiaProxy.class)))
-                .intercept(InvocationHandlerAdapter.toField(FIELD_INVOCATION_HANDLER))
-                .defineField(FIELD_INVOCATION_HANDLER, InvocationHandler.class, Visibility.PRIVATE)
-                .make()
-                .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER)
-                .getLoaded();
-    }
-
     @Nullable
     private Object fetch(Object value) {
         MorphiaReference<?> reference;
@@ -1,47 +1,45 @@
 package dev.morphia.mapping.codec.references;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
 
 import com.mongodb.lang.Nullable;
 
-import dev.morphia.annotations.IdGetter;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.experimental.MorphiaReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.sofia.Sofia;
 
 /**
- * The proxy for lazy references.
+ * The handler behind the proxies for lazy references. The methods here are called directly by the proxies generated by
+ * {@link ReferenceProxyFactory}.
  *
  * @hidden
  * @morphia.internal
  */
 @MorphiaInternal
-public class ReferenceProxy implements MorphiaProxy, InvocationHandler {
-    private static final List<String> NONFETCHES = List.of("isEmpty", "size");
+public class ReferenceProxy implements MorphiaProxy {
+    // lazy references are still loaded through MorphiaReference internally, see ReferenceProxyFactory.create()
+    @SuppressWarnings("removal")
     private final MorphiaReference<?> reference;
 
+    @SuppressWarnings("removal")
     ReferenceProxy(MorphiaReference<?> reference) {
         this.reference = reference;
     }
 
-    @Override
-    public Object invoke(Object proxy, Method method, Object[] args) throws InvocationTargetException, IllegalAccessException {
-        if (method.getName().equals("isFetched")) {
-            return isFetched();
-        } else if (method.getAnnotation(IdGetter.class) != null) {
-            return reference.getIds().get(0);
-        } else if ("isEmpty".equals(method.getName())) {
-            return isFetched() ? invoke(method, args) : reference.getIds().isEmpty();
-        } else if ("size".equals(method.getName())) {
-            return isFetched() ? invoke(method, args) : reference.getIds().size();
-        } else {
-            fetch(method);
-            return invoke(method, args);
-        }
+    /**
+     * @return the ID of the referenced entity without fetching it
+     */
+    public Object id() {
+        return reference.getIds().get(0);
+    }
+
+    /**
+     * @return true if the referenced collection is empty, fetching it only if that has already been done
+     */
+    public boolean isEmpty() {
+        return size() == 0;
     }
 
     @Override
@@ -49,33 +47,35 @@ public class ReferenceProxy implements MorphiaProxy, InvocationHandler {
         return reference.isResolved();
     }
 
-    @Override
-    @SuppressWarnings("unchecked")
-    public <T> T unwrap() {
-        return (T) reference.get();
+    /**
+     * @return the size of the referenced collection, fetching it only if that has already been done
+     */
+    public int size() {
+        if (!isFetched()) {
+            return reference.getIds().size();
+        }
+        Object target = target();
+        return target instanceof Map ? ((Map<?, ?>) target).size() : ((Collection<?>) target).size();
     }
 
-    @Nullable
-    private Object invoke(Method method, Object[] args) throws InvocationTargetException, IllegalAccessException {
-        if (method.getDeclaringClass().isAssignableFrom(getClass())) {
-            return method.invoke(this, args);
-        } else {
-            if (isFetched()) {
-                Object target = reference.get();
-                if (target == null) {
-                    throw new ReferenceException(Sofia.missingReferencedEntity(reference.getType()));
-                } else {
-                    return method.invoke(target, args);
-                }
-            } else {
-                return method.invoke(reference.getIds(), args);
-            }
+    /**
+     * Fetches the referenced entity if needed
+     *
+     * @return the referenced entity
+     * @throws ReferenceException if the entity does not exist
+     */
+    public Object target() {
+        Object target = reference.get();
+        if (target == null) {
+            throw new ReferenceException(Sofia.missingReferencedEntity(reference.getType()));
         }
+        return target;
     }
 
-    private void fetch(Method method) {
-        if (!isFetched() && !NONFETCHES.contains(method.getName())) {
-            reference.get();
-        }
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap() {
+        return (T) reference.get();
     }
 }
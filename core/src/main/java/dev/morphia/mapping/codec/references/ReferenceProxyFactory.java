@@ -0,0 +1,142 @@
+package dev.morphia.mapping.codec.references;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import dev.morphia.annotations.IdGetter;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.experimental.MorphiaReference;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType.Builder;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+import net.bytebuddy.implementation.bytecode.assign.Assigner.Typing;
+import net.bytebuddy.matcher.ElementMatcher.Junction;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
+import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.isStatic;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+import static net.bytebuddy.matcher.ElementMatchers.takesNoArguments;
+
+/**
+ * Creates the proxies used for lazy references. One proxy class is generated per referenced type and its constructor is kept as a
+ * {@code MethodHandle} so creating a proxy is a single constructor call. The generated methods call the {@link ReferenceProxy} handler
+ * or the referenced entity directly. Which methods return the ID, report the fetch state, or need the entity is decided once when the
+ * class is generated.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class ReferenceProxyFactory {
+    private static final String HANDLER = "handler";
+    private static final String TARGET = "$$target";
+    private static final MethodType CONSTRUCTOR = methodType(Object.class, ReferenceProxy.class);
+
+    private final Map<Class<?>, MethodHandle> constructors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a proxy for a reference
+     *
+     * @param type      the type to proxy
+     * @param reference the reference to load when needed
+     * @param <T>       the proxy type
+     * @return the proxy
+     */
+    // MorphiaReference is only deprecated as a user facing property type. ReferenceCodec still builds one for every lazy reference
+    // so the proxies take what the codec hands them until that type is removed.
+    @SuppressWarnings({ "unchecked", "removal" })
+    public <T> T create(Class<?> type, MorphiaReference<?> reference) {
+        MethodHandle constructor = constructors.computeIfAbsent(type, this::generate);
+        try {
+            return (T) (Object) constructor.invokeExact(new ReferenceProxy(reference));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    private MethodHandle generate(Class<?> type) {
+        try {
+            Class<?> proxy = define(type);
+            return MethodHandles.publicLookup()
+                    .findConstructor(proxy, methodType(void.class, ReferenceProxy.class))
+                    .asType(CONSTRUCTOR);
+        } catch (ReflectiveOperationException | IllegalArgumentException | IllegalStateException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    private Class<?> define(Class<?> type) throws NoSuchMethodException {
+        Class<?> parent = type.isInterface() ? Object.class : type;
+        String name = format("%s$$ReferenceProxy", type.getName());
+
+        Junction<MethodDescription> declared = isDeclaredBy(type);
+        for (Class<?> superType = parent.getSuperclass(); superType != null && !superType.equals(Object.class);
+                superType = superType.getSuperclass()) {
+            declared = declared.or(isDeclaredBy(superType));
+        }
+        Junction<MethodDescription> proxied = declared.and(isPublic()).and(not(isStatic()));
+
+        Builder<?> builder = new ByteBuddy()
+                .subclass(type, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                .implement(MorphiaProxy.class)
+                .name(name.startsWith("java.") ? "dev.morphia." + name : name)
+                .defineField(HANDLER, ReferenceProxy.class, Visibility.PRIVATE, FieldManifestation.FINAL)
+                .defineConstructor(Visibility.PUBLIC)
+                .withParameters(ReferenceProxy.class)
+                .intercept(MethodCall.invoke(parent.getDeclaredConstructor())
+                        .andThen(FieldAccessor.ofField(HANDLER).setsArgumentAt(0)))
+                .defineMethod(TARGET, type, Visibility.PRIVATE)
+                .intercept(handler("target"))
+                .method(proxied)
+                .intercept(MethodCall.invokeSelf()
+                        .onMethodCall(MethodCall.invoke(named(TARGET)))
+                        .withAllArguments());
+
+        if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            builder = builder
+                    .method(proxied.and(named("size")).and(takesNoArguments()))
+                    .intercept(handler("size"))
+                    .method(proxied.and(named("isEmpty")).and(takesNoArguments()))
+                    .intercept(handler("isEmpty"));
+        }
+
+        return builder
+                .method(proxied.and(isAnnotatedWith(IdGetter.class)))
+                .intercept(handler("id"))
+                .method(named("isFetched").and(takesNoArguments()))
+                .intercept(handler("isFetched"))
+                .method(isDeclaredBy(MorphiaProxy.class).and(named("unwrap")))
+                .intercept(handler("unwrap"))
+                .make()
+                .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER)
+                .getLoaded();
+    }
+
+    private static Implementation handler(String method) throws NoSuchMethodException {
+        return MethodCall.invoke(ReferenceProxy.class.getMethod(method))
+                .onField(HANDLER)
+                .withAssigner(Assigner.DEFAULT, Typing.DYNAMIC);
+    }
+}
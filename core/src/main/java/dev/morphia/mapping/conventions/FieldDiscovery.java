@@ -104,6 +104,6 @@ public class FieldDiscovery implements MorphiaConvention {
     private PropertyAccessor<? super Object> getAccessor(Field field, TypeData<?> typeData) {
         return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
                 ? new ArrayFieldAccessor(typeData, field)
-                : new FieldAccessor(field);
+                : FieldAccessor.of(field);
     }
 }
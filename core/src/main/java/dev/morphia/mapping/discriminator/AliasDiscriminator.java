@@ -0,0 +1,29 @@
+package dev.morphia.mapping.discriminator;
+
+import dev.morphia.mapping.DiscriminatorFunction;
+
+/**
+ * Computes a short alias from the fully qualified class name. The alias is the base 36 form of a 32-bit FNV-1a hash of the name so it is
+ * at most 7 characters long and is the same on every run without storing it anywhere. Should two mapped types ever produce the same
+ * alias, mapping fails with a duplicate discriminator error and one of them can be given an explicit discriminator in its annotation.
+ *
+ * @since 3.0
+ */
+public class AliasDiscriminator extends DiscriminatorFunction {
+    private static final int OFFSET_BASIS = 0x811c9dc5;
+    private static final int PRIME = 0x01000193;
+
+    @Override
+    public String compute(Class<?> type) {
+        return alias(type.getName());
+    }
+
+    static String alias(String name) {
+        int hash = OFFSET_BASIS;
+        for (int i = 0; i < name.length(); i++) {
+            hash ^= name.charAt(i);
+            hash *= PRIME;
+        }
+        return Integer.toUnsignedString(hash, Character.MAX_RADIX);
+    }
+}
@@ -18,10 +18,13 @@ import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.codec.references.ReferenceCodec;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.sofia.Sofia;
 
+import static dev.morphia.metrics.MetricEvent.REFERENCES;
 import static dev.morphia.query.filters.Filters.in;
 import static java.util.Arrays.asList;
 
@@ -161,6 +164,22 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
     Map<Object, Object> query(String collection, List<Object> collectionIds) {
 
         final Map<Object, Object> idMap = new HashMap<>();
+        ReferenceBatch batch = ReferenceBatch.current();
+        if (batch != null && batch.containsAll(collection, collectionIds)) {
+            for (Object id : collectionIds) {
+                Object entity = batch.get(collection, id);
+                if (entity != null) {
+                    idMap.put(id, entity);
+                }
+            }
+            if (!ignoreMissing() && idMap.size() != new HashSet<>(collectionIds).size()) {
+                throw new ReferenceException(
+                        Sofia.missingReferencedEntities(entityModel.getType().getSimpleName()));
+            }
+            return idMap;
+        }
+        MorphiaMetrics metrics = getDatastore().getMetrics();
+        long start = metrics.start();
         try (MongoCursor<?> cursor = getDatastore().find(collection)
                 .disableValidation()
                 .filter(in("_id", collectionIds)).iterator()) {
@@ -168,6 +187,7 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
                 final Object entity = cursor.next();
                 idMap.put(getMapper().getId(entity), entity);
             }
+            metrics.stop(REFERENCES, entityModel.getType(), collection, collectionIds.size(), start);
 
             if (!ignoreMissing() && idMap.size() != new HashSet<>(collectionIds).size()) {
                 throw new ReferenceException(
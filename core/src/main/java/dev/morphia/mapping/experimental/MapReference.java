@@ -16,10 +16,15 @@ import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.codec.references.ReferenceCodec;
+import dev.morphia.mapping.lazy.proxy.ReferenceException;
+import dev.morphia.metrics.MorphiaMetrics;
+import dev.morphia.sofia.Sofia;
 
 import org.bson.Document;
 
+import static dev.morphia.metrics.MetricEvent.REFERENCES;
 import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.filters.Filters.in;
 
@@ -124,12 +129,25 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
     }
 
     private void mergeReads() {
+        ReferenceBatch batch = ReferenceBatch.current();
         for (Entry<String, Object> entry : ids.entrySet()) {
             DBRef id = normalizeId(entry.getValue());
+            if (batch != null && batch.contains(id.getCollectionName(), id.getId())) {
+                T value = (T) batch.get(id.getCollectionName(), id.getId());
+                if (value != null) {
+                    values.put(entry.getKey(), value);
+                } else if (!ignoreMissing()) {
+                    throw new ReferenceException(Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
+                }
+                continue;
+            }
+            MorphiaMetrics metrics = getDatastore().getMetrics();
+            long start = metrics.start();
             try (MongoCursor<T> cursor = (MongoCursor<T>) getDatastore().find(id.getCollectionName())
                     .filter(eq("_id", id.getId())).iterator()) {
                 values.put(entry.getKey(), cursor.next());
             }
+            metrics.stop(REFERENCES, entityModel.getType(), id.getCollectionName(), 1, start);
         }
 
         resolve();
@@ -143,7 +161,8 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
 
     @SuppressWarnings("unchecked")
     private void readFromSingleCollection(String collection, List<Object> collectionIds) {
-
+        MorphiaMetrics metrics = getDatastore().getMetrics();
+        long start = metrics.start();
         try (MongoCursor<T> cursor = (MongoCursor<T>) getDatastore().find(collection)
                 .filter(in("_id", collectionIds)).iterator()) {
             final Map<Object, T> idMap = new HashMap<>();
@@ -151,6 +170,7 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
                 final T entity = cursor.next();
                 idMap.put(getDatastore().getMapper().getId(entity), entity);
             }
+            metrics.stop(REFERENCES, entityModel.getType(), collection, collectionIds.size(), start);
 
             for (Entry<String, Object> entry : ids.entrySet()) {
                 final Object id = entry.getValue();
@@ -11,12 +11,15 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.Query;
 import dev.morphia.sofia.Sofia;
 
 import org.bson.Document;
 
+import static dev.morphia.metrics.MetricEvent.REFERENCES;
 import static dev.morphia.query.filters.Filters.eq;
 
 /**
@@ -83,7 +86,16 @@ public class SingleReference<T> extends MorphiaReference<T> {
     @Override
     public T get() {
         if (!isResolved() && value == null && id != null) {
-            value = (T) buildQuery().iterator().tryNext();
+            ReferenceBatch batch = ReferenceBatch.current();
+            String collection = id instanceof DBRef ? ((DBRef) id).getCollectionName() : entityModel.collectionName();
+            if (batch != null && batch.contains(collection, getId())) {
+                value = (T) batch.get(collection, getId());
+            } else {
+                MorphiaMetrics metrics = getDatastore().getMetrics();
+                long start = metrics.start();
+                value = (T) buildQuery().first();
+                metrics.stop(REFERENCES, entityModel.getType(), collection, 1, start);
+            }
             if (value == null && !ignoreMissing()) {
                 throw new ReferenceException(
                         Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
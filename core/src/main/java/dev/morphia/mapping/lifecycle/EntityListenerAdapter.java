@@ -6,8 +6,10 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.mongodb.lang.NonNull;
 
@@ -33,6 +35,7 @@ import static dev.morphia.mapping.Mapper.LIFECYCLE_ANNOTATIONS;
 @MorphiaInternal
 public class EntityListenerAdapter implements EntityListener<Object> {
     private final Map<Class<? extends Annotation>, List<Method>> methods = new HashMap<>();
+    private final Set<Class<? extends Annotation>> documentEvents = new HashSet<>();
     private final Class<?> listenerType;
     private Object listener;
 
@@ -41,6 +44,11 @@ public class EntityListenerAdapter implements EntityListener<Object> {
             methods.put(annotationClass, new ArrayList<>());
         });
         mapAnnotationsToMethods(listenerType);
+        methods.forEach((event, handlers) -> {
+            if (handlers.stream().anyMatch(method -> List.of(method.getParameterTypes()).contains(Document.class))) {
+                documentEvents.add(event);
+            }
+        });
         this.listenerType = listenerType;
     }
 
@@ -49,6 +57,15 @@ public class EntityListenerAdapter implements EntityListener<Object> {
         return !methods.get(type).isEmpty();
     }
 
+    /**
+     * @param type the lifecycle event
+     * @return true if any method handling the event takes the document as a parameter
+     * @since 3.0
+     */
+    public boolean usesDocument(Class<? extends Annotation> type) {
+        return documentEvents.contains(type);
+    }
+
     Map<Class<? extends Annotation>, List<Method>> getMethods() {
         return methods;
     }
@@ -0,0 +1,115 @@
+package dev.morphia.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mongodb.lang.Nullable;
+
+import static java.lang.String.format;
+
+/**
+ * The timings recorded for one event and type. Timings are counted in power of two buckets so percentiles are accurate to within a
+ * factor of two.
+ *
+ * @since 3.0
+ */
+public class Histogram {
+    private final MetricEvent event;
+    @Nullable
+    private final Class<?> type;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder documents = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+
+    Histogram(MetricEvent event, @Nullable Class<?> type) {
+        this.event = event;
+        this.type = type;
+    }
+
+    /**
+     * @return the number of timings recorded
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return the total number of documents involved
+     */
+    public long documents() {
+        return documents.sum();
+    }
+
+    /**
+     * @return the event
+     */
+    public MetricEvent event() {
+        return event;
+    }
+
+    /**
+     * @return the longest time recorded in nanoseconds
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean time in nanoseconds
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) total() / count;
+    }
+
+    /**
+     * Estimates a percentile of the recorded times
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the upper bound of the bucket holding the percentile in nanoseconds
+     */
+    public long percentile(double percentile) {
+        long target = (long) Math.ceil(count() * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= target && seen != 0) {
+                return Math.min((1L << i) - 1, max());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return the total time recorded in nanoseconds
+     */
+    public long total() {
+        return total.sum();
+    }
+
+    /**
+     * @return the type involved or null if the event has no type
+     */
+    @Nullable
+    public Class<?> type() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return format("Histogram{event=%s, type=%s, count=%d, documents=%d, mean=%.0f, p50=%d, p99=%d, max=%d}", event,
+                type != null ? type.getName() : null, count(), documents(), mean(), percentile(50), percentile(99), max());
+    }
+
+    void record(long documents, long nanos) {
+        long value = Math.max(nanos, 0);
+        count.increment();
+        this.documents.add(documents);
+        total.add(value);
+        max.accumulate(value);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+    }
+}
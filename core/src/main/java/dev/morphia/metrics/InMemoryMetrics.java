@@ -0,0 +1,79 @@
+package dev.morphia.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * Keeps a {@link Histogram} of the timings of each event and type in memory. This is mostly useful in tests and when looking for
+ * hot spots.
+ *
+ * @since 3.0
+ */
+public class InMemoryMetrics implements MorphiaMetrics {
+    private final Map<Key, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Finds the timings of an event
+     *
+     * @param event the event
+     * @param type  the type involved
+     * @return the histogram or null if nothing has been recorded
+     */
+    @Nullable
+    public Histogram histogram(MetricEvent event, @Nullable Class<?> type) {
+        return histograms.get(new Key(event, type));
+    }
+
+    /**
+     * @return every histogram recorded so far
+     */
+    public List<Histogram> histograms() {
+        return new ArrayList<>(histograms.values());
+    }
+
+    @Override
+    public void record(MetricEvent event, @Nullable Class<?> type, @Nullable String collection, long documents, long nanos) {
+        histograms.computeIfAbsent(new Key(event, type), key -> new Histogram(event, type))
+                .record(documents, nanos);
+    }
+
+    /**
+     * Discards every timing recorded so far
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    private static class Key {
+        private final MetricEvent event;
+        @Nullable
+        private final Class<?> type;
+
+        Key(MetricEvent event, @Nullable Class<?> type) {
+            this.event = event;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return event == key.event && Objects.equals(type, key.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(event, type);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package dev.morphia.metrics;
+
+import java.util.List;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.client.result.UpdateResult;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.ModifyOptions;
+import dev.morphia.MorphiaDatastore.BsonOperations;
+import dev.morphia.MorphiaDatastore.DatastoreOperations;
+import dev.morphia.ReplaceOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindAndDeleteOptions;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import static dev.morphia.metrics.MetricEvent.BULK_WRITE;
+import static dev.morphia.metrics.MetricEvent.COUNT;
+import static dev.morphia.metrics.MetricEvent.DELETE;
+import static dev.morphia.metrics.MetricEvent.FIND_AND_DELETE;
+import static dev.morphia.metrics.MetricEvent.FIND_AND_UPDATE;
+import static dev.morphia.metrics.MetricEvent.INSERT;
+import static dev.morphia.metrics.MetricEvent.REPLACE;
+import static dev.morphia.metrics.MetricEvent.RUN_COMMAND;
+import static dev.morphia.metrics.MetricEvent.UPDATE;
+
+/**
+ * Times each operation sent to the server. Finds only create the iterable here so they are timed when their cursor is opened instead.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class MeasuringOperations extends BsonOperations {
+    private final DatastoreOperations operations;
+    private final MorphiaMetrics metrics;
+
+    private MeasuringOperations(DatastoreOperations operations, MorphiaMetrics metrics) {
+        this.operations = operations;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Wraps operations so that they are timed. Nothing is wrapped when the metrics discard their timings.
+     *
+     * @param operations the operations to time
+     * @param metrics    the metrics to report to
+     * @return the operations to use
+     */
+    public static DatastoreOperations measure(DatastoreOperations operations, MorphiaMetrics metrics) {
+        return metrics instanceof NoOpMetrics ? operations : new MeasuringOperations(operations, metrics);
+    }
+
+    @Override
+    public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+            BulkWriteOptions options) {
+        long start = metrics.start();
+        BulkWriteResult result = operations.bulkWrite(collection, requests, options);
+        stop(BULK_WRITE, collection, requests.size(), start);
+        return result;
+    }
+
+    @Override
+    public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
+        long start = metrics.start();
+        long count = operations.countDocuments(collection, query, options);
+        stop(COUNT, collection, count, start);
+        return count;
+    }
+
+    @Override
+    public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        long start = metrics.start();
+        DeleteResult result = operations.deleteMany(collection, query, options);
+        stop(DELETE, collection, result.wasAcknowledged() ? result.getDeletedCount() : 0, start);
+        return result;
+    }
+
+    @Override
+    public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        long start = metrics.start();
+        DeleteResult result = operations.deleteOne(collection, query, options);
+        stop(DELETE, collection, result.wasAcknowledged() ? result.getDeletedCount() : 0, start);
+        return result;
+    }
+
+    @Override
+    public <T> FindIterable<T> find(MongoCollection<T> collection, Bson query) {
+        return operations.find(collection, query);
+    }
+
+    @Override
+    public <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options) {
+        long start = metrics.start();
+        T result = operations.findOneAndDelete(collection, query, options);
+        stop(FIND_AND_DELETE, collection, result != null ? 1 : 0, start);
+        return result;
+    }
+
+    @Override
+    public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
+        long start = metrics.start();
+        T result = operations.findOneAndUpdate(collection, query, update, options);
+        stop(FIND_AND_UPDATE, collection, result != null ? 1 : 0, start);
+        return result;
+    }
+
+    @Override
+    public <T> InsertManyResult insertMany(MongoCollection<T> collection, List<T> list, InsertManyOptions options) {
+        long start = metrics.start();
+        InsertManyResult result = operations.insertMany(collection, list, options);
+        stop(INSERT, collection, list.size(), start);
+        return result;
+    }
+
+    @Override
+    public <T> InsertOneResult insertOne(MongoCollection<T> collection, T entity, InsertOneOptions options) {
+        long start = metrics.start();
+        InsertOneResult result = operations.insertOne(collection, entity, options);
+        stop(INSERT, collection, 1, start);
+        return result;
+    }
+
+    @Override
+    public <T> UpdateResult replaceOne(MongoCollection<T> collection, T entity, Document filter, ReplaceOptions options) {
+        long start = metrics.start();
+        UpdateResult result = operations.replaceOne(collection, entity, filter, options);
+        stop(REPLACE, collection, 1, start);
+        return result;
+    }
+
+    @Override
+    public Document runCommand(Document command) {
+        long start = metrics.start();
+        Document result = operations.runCommand(command);
+        metrics.stop(RUN_COMMAND, null, null, 0, start);
+        return result;
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+        long start = metrics.start();
+        return updated(collection, operations.updateMany(collection, query, updates, options), start);
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+        long start = metrics.start();
+        return updated(collection, operations.updateMany(collection, query, updates, options), start);
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+        long start = metrics.start();
+        return updated(collection, operations.updateOne(collection, query, updates, options), start);
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+        long start = metrics.start();
+        return updated(collection, operations.updateOne(collection, query, updates, options), start);
+    }
+
+    private void stop(MetricEvent event, MongoCollection<?> collection, long documents, long start) {
+        metrics.stop(event, collection.getDocumentClass(), collection.getNamespace().getCollectionName(), documents, start);
+    }
+
+    private UpdateResult updated(MongoCollection<?> collection, UpdateResult result, long start) {
+        stop(UPDATE, collection, result.wasAcknowledged() ? result.getModifiedCount() : 0, start);
+        return result;
+    }
+}
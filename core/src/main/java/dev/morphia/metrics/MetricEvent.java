@@ -0,0 +1,69 @@
+package dev.morphia.metrics;
+
+/**
+ * The events reported to {@link MorphiaMetrics}
+ *
+ * @since 3.0
+ */
+public enum MetricEvent {
+    /**
+     * An entity was encoded to BSON
+     */
+    ENCODE,
+    /**
+     * An entity was decoded from BSON
+     */
+    DECODE,
+    /**
+     * The filters of a query were converted to a query document
+     */
+    QUERY_DOCUMENT,
+    /**
+     * The operators of an update were converted to an update document
+     */
+    UPDATE_DOCUMENT,
+    /**
+     * Referenced entities were fetched
+     */
+    REFERENCES,
+    /**
+     * A bulk write was run
+     */
+    BULK_WRITE,
+    /**
+     * Documents were counted
+     */
+    COUNT,
+    /**
+     * Documents were deleted
+     */
+    DELETE,
+    /**
+     * A query was run and its first batch of results read
+     */
+    FIND,
+    /**
+     * A document was found and deleted
+     */
+    FIND_AND_DELETE,
+    /**
+     * A document was found and updated
+     */
+    FIND_AND_UPDATE,
+    /**
+     * Documents were inserted
+     */
+    INSERT,
+    /**
+     * A document was replaced
+     */
+    REPLACE,
+    /**
+     * A command was run
+     */
+    RUN_COMMAND,
+    /**
+     * Documents were updated
+     */
+    UPDATE
+}
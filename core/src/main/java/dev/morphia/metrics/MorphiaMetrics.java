@@ -0,0 +1,46 @@
+package dev.morphia.metrics;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * Receives the timings of the work Morphia does when mapping entities and running operations. Implementations are called from every
+ * thread using the datastore and so need to be thread safe and fast.
+ * <p>
+ * Timings are taken by calling {@link #start()} before the work and {@link #stop(MetricEvent, Class, String, long, long)} after it.
+ * {@link NoOpMetrics}, the default, overrides both to do nothing so that no clock is read when metrics are not wanted.
+ *
+ * @see dev.morphia.config.MorphiaConfig#metrics()
+ * @since 3.0
+ */
+public interface MorphiaMetrics {
+    /**
+     * Records a timing
+     *
+     * @param event      the event
+     * @param type       the entity or document type involved, if known
+     * @param collection the collection involved, if known
+     * @param documents  the number of documents involved
+     * @param nanos      the time taken in nanoseconds
+     */
+    void record(MetricEvent event, @Nullable Class<?> type, @Nullable String collection, long documents, long nanos);
+
+    /**
+     * @return the time the work is starting to be passed to {@link #stop(MetricEvent, Class, String, long, long)}
+     */
+    default long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time taken since a call to {@link #start()}
+     *
+     * @param event      the event
+     * @param type       the entity or document type involved, if known
+     * @param collection the collection involved, if known
+     * @param documents  the number of documents involved
+     * @param start      the value returned by {@link #start()}
+     */
+    default void stop(MetricEvent event, @Nullable Class<?> type, @Nullable String collection, long documents, long start) {
+        record(event, type, collection, documents, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,23 @@
+package dev.morphia.metrics;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * Discards every timing without reading the clock.
+ *
+ * @since 3.0
+ */
+public class NoOpMetrics implements MorphiaMetrics {
+    @Override
+    public void record(MetricEvent event, @Nullable Class<?> type, @Nullable String collection, long documents, long nanos) {
+    }
+
+    @Override
+    public long start() {
+        return 0;
+    }
+
+    @Override
+    public void stop(MetricEvent event, @Nullable Class<?> type, @Nullable String collection, long documents, long start) {
+    }
+}
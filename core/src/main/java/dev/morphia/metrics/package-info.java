@@ -0,0 +1,7 @@
+/**
+ * Defines the types needed to measure the time Morphia spends mapping entities and running operations.
+ */
+@NonNullApi
+package dev.morphia.metrics;
+
+import com.mongodb.lang.NonNullApi;
@@ -2,6 +2,7 @@ package dev.morphia.query;
 
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
 
@@ -12,9 +13,12 @@ import com.mongodb.assertions.Assertions;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.cursor.TimeoutMode;
 import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
 
+import dev.morphia.annotations.internal.MorphiaExperimental;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.internal.CollectionConfigurable;
+import dev.morphia.internal.FindTarget;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.mapping.Mapper;
@@ -43,6 +47,8 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
     private Boolean allowDiskUse;
     private int batchSize;
 
+    private boolean batchReferences;
+
     private Collation collation;
 
     private String collection;
@@ -115,33 +121,49 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
      */
     @MorphiaInternal
     public <T> FindIterable<T> apply(FindIterable<T> iterable, Mapper mapper, Class<?> type) {
+        apply(FindTarget.of(iterable), mapper, type);
+        return iterable;
+    }
+
+    /**
+     * Applies these options to the driver's find settings
+     *
+     * @param target the settings to update
+     * @param mapper the mapper to use
+     * @param type   the result type
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void apply(FindTarget target, Mapper mapper, Class<?> type) {
         if (isLogQuery()) {
             logQuery(); //  reset to a new ID
         }
         if (projection != null) {
             projection.disableValidation(disableValidation);
-            iterable.projection(projection.map(mapper, type));
+            target.projection(projection.map(mapper, type));
         }
 
-        tryInvoke(v4_1_0, () -> iterable.allowDiskUse(allowDiskUse));
-        iterable.batchSize(batchSize);
-        iterable.collation(collation);
-        tryInvoke(v4_6_0, () -> iterable.comment(comment));
+        tryInvoke(v4_1_0, () -> target.allowDiskUse(allowDiskUse));
+        target.batchSize(batchSize);
+        target.collation(collation);
+        tryInvoke(v4_6_0, () -> target.comment(comment));
         if (cursorType != null) {
-            iterable.cursorType(cursorType);
+            target.cursorType(cursorType);
         }
-        iterable.hint(hint);
-        iterable.hintString(hintString);
-        iterable.limit(limit);
-        iterable.max(max);
-        iterable.maxAwaitTime(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
-        iterable.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
-        iterable.min(min);
-        iterable.noCursorTimeout(noCursorTimeout);
-        iterable.partial(partial);
-        iterable.returnKey(returnKey);
-        iterable.showRecordId(showRecordId);
-        iterable.skip(skip);
+        target.hint(hint);
+        target.hintString(hintString);
+        target.limit(limit);
+        target.max(max);
+        target.maxAwaitTime(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
+        target.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
+        target.min(min);
+        target.noCursorTimeout(noCursorTimeout);
+        target.partial(partial);
+        target.returnKey(returnKey);
+        target.showRecordId(showRecordId);
+        target.skip(skip);
         if (sort != null) {
             Document mapped = new Document();
             EntityModel model = null;
@@ -155,13 +177,12 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
                 boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
                 mapped.put(new PathTarget(mapper, model, entry.getKey(), model != null && !metaScore).translatedPath(), value);
             }
-            iterable.sort(mapped);
+            target.sort(mapped);
         }
-        iterable.let(variables);
+        target.let(variables);
         if (timeoutMode != null) {
-            iterable.timeoutMode(timeoutMode);
+            target.timeoutMode(timeoutMode);
         }
-        return iterable;
     }
 
     /**
@@ -177,9 +198,45 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
     }
 
     /**
+     * @return true if a whole document can be served from an entity cache for these options
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean isCacheable() {
+        return skip == 0 && projection == null && collation == null && collection == null && min == null && max == null
+                && cursorType == null && readConcern == null && !returnKey && !showRecordId && !isLogQuery();
+    }
+
+    /**
+     * @return true if these options return whole entities from their own collection
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean isTrackable() {
+        return projection == null && collection == null && !returnKey && !showRecordId;
+    }
+
+    /**
+     * @return true if results can be read in {@code _id} ranges without changing which documents are returned
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean isPartitionable() {
+        return limit == 0 && skip == 0 && sort == null && min == null && max == null && cursorType == null && !returnKey
+                && !isLogQuery();
+    }
+
+    /**
+     * Tags the query so that the command sent to the server can be read back with {@link Query#getLoggedQuery()}. The command is
+     * captured on the client by {@link QueryLog} which must be registered as a command listener on the {@code MongoClient}.
+     * <p>
      * This is an experimental method. It's implementation and presence are subject to change.
      *
      * @return this
+     * @see QueryLog
      */
     public FindOptions logQuery() {
         queryLogId = new ObjectId().toString();
@@ -209,6 +266,42 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         return this;
     }
 
+    /**
+     * Resolves the non-lazy {@link dev.morphia.annotations.Reference} properties of the results a page at a time. Instead of one query
+     * per referenced entity, the referenced IDs of up to {@link #batchSize(int)} results are collected and fetched with one {@code $in}
+     * query per referenced collection before those results are returned. Entities referenced more than once in a page will share the
+     * same instance.
+     *
+     * @param batchReferences true to resolve references in batches
+     * @return this
+     * @since 3.0
+     */
+    @MorphiaExperimental
+    public FindOptions batchReferences(boolean batchReferences) {
+        this.batchReferences = batchReferences;
+        return this;
+    }
+
+    /**
+     * @return true if references should be resolved in batches
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean isBatchReferences() {
+        return batchReferences;
+    }
+
+    /**
+     * @return the batch size
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public int batchSize() {
+        return batchSize;
+    }
+
     /**
      * Sets the collation to use
      *
@@ -269,6 +362,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
     public FindOptions copy(FindOptions original) {
         this.allowDiskUse = original.allowDiskUse;
         this.batchSize = original.batchSize;
+        this.batchReferences = original.batchReferences;
         this.collection = original.collection;
         this.limit = original.limit;
         this.maxTimeMS = original.maxTimeMS;
@@ -322,7 +416,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
     @MorphiaInternal
     @Override
     public int hashCode() {
-        return Objects.hash(allowDiskUse, batchSize, limit, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout,
+        return Objects.hash(allowDiskUse, batchSize, batchReferences, limit, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout,
                 partial, collation, comment, hint, hintString, max, min, returnKey, showRecordId, readConcern, readPreference, projection,
                 queryLogId);
     }
@@ -341,7 +435,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
             return false;
         }
         FindOptions that = (FindOptions) o;
-        return batchSize == that.batchSize && limit == that.limit && maxTimeMS == that.maxTimeMS && maxAwaitTimeMS == that.maxAwaitTimeMS
+        return batchSize == that.batchSize && batchReferences == that.batchReferences && limit == that.limit && maxTimeMS == that.maxTimeMS && maxAwaitTimeMS == that.maxAwaitTimeMS
                 && skip == that.skip && noCursorTimeout == that.noCursorTimeout
                 && partial == that.partial
                 && returnKey == that.returnKey && showRecordId == that.showRecordId && Objects.equals(allowDiskUse, that.allowDiskUse)
@@ -362,6 +456,7 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         return new StringJoiner(", ", FindOptions.class.getSimpleName() + "[", "]")
                 .add("allowDiskUse=" + allowDiskUse)
                 .add("batchSize=" + batchSize)
+                .add("batchReferences=" + batchReferences)
                 .add("limit=" + limit)
                 .add("maxTimeMS=" + maxTimeMS)
                 .add("maxAwaitTimeMS=" + maxAwaitTimeMS)
@@ -432,6 +527,37 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         return this;
     }
 
+    /**
+     * @return the limit
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of documents to skip
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public int skip() {
+        return skip;
+    }
+
+    /**
+     * @return the sort or null if none is set
+     * @hidden
+     * @morphia.internal
+     */
+    @Nullable
+    @MorphiaInternal
+    public Document sort() {
+        return sort;
+    }
+
     /**
      * Sets the limit
      *
@@ -614,6 +740,17 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         return sort(meta.toDatabase());
     }
 
+    /**
+     * @param mapper the Mapper to use
+     * @param type   the entity type
+     * @return the mapped names of the top level fields the projection returns or null if all fields are returned
+     * @see Projection#fields(Mapper, Class)
+     */
+    @Nullable
+    Set<String> projectedFields(Mapper mapper, Class<?> type) {
+        return projection != null ? projection.fields(mapper, type) : null;
+    }
+
     /**
      * @return the projection
      * @hidden
@@ -0,0 +1,101 @@
+package dev.morphia.query;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map.Entry;
+
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonNull;
+import org.bson.BsonSerializationException;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * Builds the continuation tokens and range filters used for keyset pagination. A token holds the sort it was created for and the
+ * values of the sort keys of the last result of a page encoded as BSON.
+ */
+final class Keyset {
+    private static final BsonDocumentCodec CODEC = new BsonDocumentCodec();
+
+    private Keyset() {
+    }
+
+    /**
+     * Creates the filter matching the documents sorting after the position in the token.
+     *
+     * @param keys  the translated sort keys
+     * @param token the token
+     * @return the filter
+     */
+    static Document after(Document keys, String token) {
+        List<BsonValue> values = values(keys, token);
+        List<Entry<String, Object>> entries = new ArrayList<>(keys.entrySet());
+        List<Document> or = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Document clause = new Document();
+            for (int j = 0; j < i; j++) {
+                clause.put(entries.get(j).getKey(), values.get(j));
+            }
+            Entry<String, Object> entry = entries.get(i);
+            clause.put(entry.getKey(), new Document((Integer) entry.getValue() < 0 ? "$lt" : "$gt", values.get(i)));
+            or.add(clause);
+        }
+        return or.size() == 1 ? or.get(0) : new Document("$or", or);
+    }
+
+    /**
+     * Creates the token for the position of the given result.
+     *
+     * @param keys the translated sort keys
+     * @param last the last result of a page
+     * @return the token
+     */
+    static String token(Document keys, RawBsonDocument last) {
+        BsonArray values = new BsonArray();
+        for (String path : keys.keySet()) {
+            values.add(value(last, path));
+        }
+        RawBsonDocument token = new RawBsonDocument(new BsonDocument("k", new BsonString(keys.toJson()))
+                .append("v", values), CODEC);
+        ByteBuffer buffer = token.getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static BsonValue value(BsonDocument document, String path) {
+        BsonValue value = document;
+        for (String segment : path.split("\\.")) {
+            if (!value.isDocument() || !value.asDocument().containsKey(segment)) {
+                return BsonNull.VALUE;
+            }
+            value = value.asDocument().get(segment);
+        }
+        return value;
+    }
+
+    private static List<BsonValue> values(Document keys, String token) {
+        String sort;
+        List<BsonValue> values;
+        try {
+            RawBsonDocument document = new RawBsonDocument(Base64.getUrlDecoder().decode(token));
+            sort = document.getString("k").getValue();
+            values = document.getArray("v").getValues();
+        } catch (IllegalArgumentException | BsonInvalidOperationException | BsonSerializationException e) {
+            throw new IllegalArgumentException(Sofia.invalidPageToken(), e);
+        }
+        if (!sort.equals(keys.toJson()) || values.size() != keys.size()) {
+            throw new IllegalArgumentException(Sofia.invalidPageToken());
+        }
+        return values;
+    }
+}
@@ -1,10 +1,15 @@
 package dev.morphia.query;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.mongodb.ExplainVerbosity;
 import com.mongodb.client.FindIterable;
@@ -22,24 +27,45 @@ import dev.morphia.MorphiaDatastore;
 import dev.morphia.UpdateOptions;
 import dev.morphia.aggregation.stages.Stage;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.EntityCache;
+import dev.morphia.cache.EntityCaches;
+import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.filters.Filter;
+import dev.morphia.query.internal.QueryDocument;
 import dev.morphia.query.updates.UpdateOperator;
 import dev.morphia.sofia.Sofia;
+import dev.morphia.transactions.MorphiaSession;
+import dev.morphia.transactions.SessionDatastore;
+import dev.morphia.transactions.UnitOfWork;
 
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static dev.morphia.mapping.codec.CodecHelper.array;
 import static dev.morphia.mapping.codec.CodecHelper.coalesce;
 import static dev.morphia.mapping.codec.CodecHelper.document;
+import static dev.morphia.metrics.MetricEvent.FIND;
+import static dev.morphia.metrics.MetricEvent.QUERY_DOCUMENT;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 /**
  * @param <T> the type
@@ -55,6 +81,8 @@ public class MorphiaQuery<T> implements Query<T> {
     private final Mapper mapper;
     private final List<Filter> filters = new ArrayList<>();
     private final Document seedQuery;
+    @Nullable
+    private final RawBsonDocument prepared;
     private String collectionName;
     private MongoCollection<T> collection;
 
@@ -73,6 +101,7 @@ public class MorphiaQuery<T> implements Query<T> {
         this.datastore = (MorphiaDatastore) datastore;
         mapper = this.datastore.getMapper();
         seedQuery = null;
+        prepared = null;
         this.collectionName = collectionName;
         if (collectionName != null) {
             collection = datastore.getDatabase().getCollection(collectionName, type);
@@ -91,11 +120,23 @@ public class MorphiaQuery<T> implements Query<T> {
         this.type = type;
         this.datastore = (MorphiaDatastore) datastore;
         this.seedQuery = query;
+        prepared = null;
         mapper = this.datastore.getMapper();
         collection = datastore.getCollection(type);
         collectionName = collection.getNamespace().getCollectionName();
     }
 
+    private MorphiaQuery(MorphiaQuery<T> query, RawBsonDocument prepared) {
+        type = query.type;
+        datastore = query.datastore;
+        mapper = query.mapper;
+        seedQuery = null;
+        this.prepared = prepared;
+        collection = query.collection;
+        collectionName = query.collectionName;
+        validate = query.validate;
+    }
+
     @Override
     public Query<T> filter(Filter... additional) {
         for (Filter filter : additional) {
@@ -114,16 +155,16 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public long count(CountOptions options) {
         MongoCollection<T> collection = datastore.configureCollection(options, this.collection);
-        return datastore.operations().countDocuments(collection, getQueryDocument(), options);
+        return datastore.operations().countDocuments(collection, getQueryBson(), options);
     }
 
     @Override
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = datastore.configureCollection(options, this.collection);
         if (options.multi()) {
-            return datastore.operations().deleteMany(collection, getQueryDocument(), options);
+            return datastore.operations().deleteMany(collection, getQueryBson(), options);
         } else {
-            return datastore.operations().deleteOne(collection, getQueryDocument(), options);
+            return datastore.operations().deleteOne(collection, getQueryBson(), options);
         }
     }
 
@@ -149,21 +190,12 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public String getLoggedQuery() {
         if (lastOptions != null && lastOptions.isLogQuery()) {
-            String json = "{}";
-            Document filter = new Document("command.comment", Sofia.loggedQuery(lastOptions.queryLogId()));
-            Document first = datastore.getDatabase()
-                    .getCollection("system.profile")
-                    .find(filter, Document.class)
-                    .projection(new Document("command.filter", 1))
-                    .first();
-            if (first != null) {
-                Document command = (Document) first.get("command");
-                filter = (Document) command.get("filter");
-                if (filter != null) {
-                    json = filter.toJson(datastore.getCodecRegistry().get(Document.class));
-                }
+            BsonDocument filter = QueryLog.instance().filter(lastOptions.queryLogId());
+            if (filter == null) {
+                Sofia.logQueryNotCaptured();
+                return "{}";
             }
-            return json;
+            return filter.toJson();
         } else {
             throw new IllegalStateException(Sofia.queryNotLogged());
         }
@@ -172,7 +204,7 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = datastore.configureCollection(options, collection);
-        return datastore.operations().findOneAndDelete(mongoCollection, getQueryDocument(), options);
+        return datastore.operations().findOneAndDelete(mongoCollection, getQueryBson(), options);
     }
 
     @Override
@@ -182,6 +214,21 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public T first(FindOptions options) {
+        UnitOfWork unitOfWork = unitOfWork(options);
+        if (unitOfWork != null) {
+            BsonValue id = EntityCaches.idQuery(getQueryBson());
+            T tracked = id != null ? unitOfWork.find(collectionName, id) : null;
+            if (type.isInstance(tracked)) {
+                return tracked;
+            }
+        }
+        EntityCache cache = cache(options);
+        if (cache != null) {
+            BsonValue id = EntityCaches.idQuery(getQueryBson());
+            if (id != null) {
+                return cached(cache, id, options);
+            }
+        }
         try (MongoCursor<T> it = iterator(options.copy().limit(1))) {
             return it.tryNext();
         }
@@ -198,7 +245,7 @@ public class MorphiaQuery<T> implements Query<T> {
         Operations value = new Operations(datastore, entityModel, coalesce(first, updates), validate);
 
         return datastore.operations().findOneAndUpdate(datastore.configureCollection(options, collection),
-                toDocument(), value.toDocument(datastore), options);
+                getQueryBson(), value.toDocument(datastore), options);
     }
 
     @MorphiaInternal
@@ -208,7 +255,87 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(@Nullable FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options != null ? options : new FindOptions(), collection));
+        FindOptions findOptions = options != null ? options : new FindOptions();
+        UnitOfWork unitOfWork = unitOfWork(findOptions);
+        if (findOptions.isBatchReferences() && mapper.isMappable(type)) {
+            MongoCursor<RawBsonDocument> cursor = prepareCursor(findOptions, collection.withDocumentClass(RawBsonDocument.class));
+            MongoCursor<T> batching = new ReferenceBatchingCursor<>(cursor, datastore, type, findOptions.batchSize());
+            return new MorphiaCursor<>(unitOfWork != null ? unitOfWork.trackAll(collectionName, batching) : batching);
+        }
+        Set<String> fields = mapper.isMappable(type) ? findOptions.projectedFields(mapper, type) : null;
+        Codec<T> codec = fields != null ? datastore.getCodecRegistry().get(type) : null;
+        if (codec instanceof MorphiaCodec) {
+            ProjectionCodec<T> projecting = new ProjectionCodec<>((MorphiaCodec<T>) codec, fields);
+            return new MorphiaCursor<>(prepareCursor(findOptions, collection
+                    .withCodecRegistry(fromRegistries(fromCodecs(projecting), collection.getCodecRegistry()))));
+        }
+        MongoCursor<T> cursor = prepareCursor(findOptions, collection);
+        return new MorphiaCursor<>(unitOfWork != null ? unitOfWork.trackAll(collectionName, cursor) : cursor);
+    }
+
+    @Override
+    public Page<T> page(PageRequest request) {
+        FindOptions options = request.options().copy();
+        if (options.limit() != 0) {
+            throw new IllegalArgumentException(Sofia.keysetOptionsNotAllowed("limit"));
+        }
+        if (options.skip() != 0) {
+            throw new IllegalArgumentException(Sofia.keysetOptionsNotAllowed("skip"));
+        }
+        EntityModel model = mapper.getEntityModel(type);
+        Document sort = options.sort() != null ? new Document(options.sort()) : new Document();
+        Document keys = new Document();
+        for (Entry<String, Object> entry : sort.entrySet()) {
+            if (entry.getKey().equals(Sort.NATURAL) || !(entry.getValue() instanceof Number)) {
+                throw new IllegalArgumentException(Sofia.keysetOptionsNotAllowed(entry.getKey() + ": " + entry.getValue()));
+            }
+            String path = new PathTarget(mapper, model, entry.getKey(), isValidate()).translatedPath();
+            keys.put(path, ((Number) entry.getValue()).intValue() < 0 ? -1 : 1);
+        }
+        if (!keys.containsKey("_id")) {
+            keys.put("_id", 1);
+            sort.put("_id", 1);
+        }
+        options.sort(sort).limit(request.size() + 1);
+
+        String token = request.token();
+        MorphiaQuery<T> query = token != null ? restrict(Keyset.after(keys, token)) : this;
+        Codec<T> codec = datastore.getCodecRegistry().get(type);
+        List<T> results = new ArrayList<>();
+        RawBsonDocument last = null;
+        boolean more;
+        try (MongoCursor<RawBsonDocument> cursor = query.prepareCursor(options, collection.withDocumentClass(RawBsonDocument.class))) {
+            while (results.size() < request.size() && cursor.hasNext()) {
+                last = cursor.next();
+                results.add(last.decode(codec));
+            }
+            more = cursor.hasNext();
+        }
+
+        return new Page<>(results, more ? Keyset.token(keys, last) : null);
+    }
+
+    @Override
+    public PreparedQuery<T> prepare() {
+        Bson query = getQueryBson();
+        CodecRegistry registry = datastore.getCodecRegistry();
+        return new PreparedQuery<>(this, query instanceof RawBsonDocument
+                ? (RawBsonDocument) query
+                : new RawBsonDocument((Document) query, registry.get(Document.class)), registry);
+    }
+
+    /**
+     * Streams the results. The stream can be split in to {@code _id} ranges, each read with its own cursor, when run in parallel.
+     * Closing the stream closes any cursors still open.
+     *
+     * @param options the options to apply
+     * @return the stream
+     */
+    @Override
+    public Stream<T> stream(FindOptions options) {
+        QuerySpliterator<T> spliterator = new QuerySpliterator<>(this, options);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(spliterator::close);
     }
 
     /**
@@ -233,11 +360,13 @@ public class MorphiaQuery<T> implements Query<T> {
         Operations operations = new Operations(datastore, entityModel, asList(updates), isValidate());
         Document updateOperations = operations.toDocument(datastore);
 
-        final Document queryObject = toDocument();
-        if (options.isUpsert()) {
-            if (entityModel.useDiscriminator()) {
-                queryObject.put(entityModel.discriminatorKey(), entityModel.discriminator());
-            }
+        final Bson queryObject;
+        if (options.isUpsert() && entityModel != null && entityModel.useDiscriminator()) {
+            Document document = toDocument();
+            document.put(entityModel.discriminatorKey(), entityModel.discriminator());
+            queryObject = document;
+        } else {
+            queryObject = getQueryBson();
         }
 
         MongoCollection<T> mongoCollection = options.prepare(collection, datastore.getDatabase());
@@ -260,7 +389,7 @@ public class MorphiaQuery<T> implements Query<T> {
                     return writer.getDocument();
                 })
                 .collect(toList());
-        final Document queryObject = toDocument();
+        final Bson queryObject = getQueryBson();
 
         MongoCollection<T> mongoCollection = datastore.configureCollection(options, datastore.configureCollection(options, collection));
         return options.multi()
@@ -295,13 +424,51 @@ public class MorphiaQuery<T> implements Query<T> {
                 .toString();
     }
 
+    /**
+     * Finds the lowest or highest {@code _id} matching this query.
+     */
+    @Nullable
+    Object idBound(FindOptions options, boolean highest) {
+        Document first = datastore.configureCollection(options, collection.withDocumentClass(Document.class))
+                .find(getQueryDocument())
+                .projection(new Document("_id", 1))
+                .sort(new Document("_id", highest ? -1 : 1))
+                .limit(1)
+                .first();
+        return first != null ? first.get("_id") : null;
+    }
+
+    /**
+     * @return true if this query can be split in to {@code _id} ranges
+     */
+    boolean isPartitionable(FindOptions options) {
+        return options.isPartitionable() && mapper.isMappable(type) && !getQueryDocument().containsKey("_id");
+    }
+
+    /**
+     * Creates a copy of this query using the given encoded query in place of its filters.
+     */
+    MorphiaQuery<T> bind(RawBsonDocument query) {
+        return new MorphiaQuery<>(this, query);
+    }
+
+    /**
+     * Creates a copy of this query restricted to the documents also matching the given filter.
+     */
+    MorphiaQuery<T> restrict(Document filter) {
+        MorphiaQuery<T> restricted = new MorphiaQuery<>(datastore, type, new Document("$and", List.of(getQueryDocument(), filter)));
+        restricted.collection = collection;
+        restricted.collectionName = collectionName;
+        return restricted;
+    }
+
     private String getCollectionName() {
         return collectionName;
     }
 
     @NonNull
     private <E> FindIterable<E> iterable(FindOptions findOptions, MongoCollection<E> collection) {
-        final Document query = toDocument();
+        final Bson query = getQueryBson();
 
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
@@ -312,48 +479,135 @@ public class MorphiaQuery<T> implements Query<T> {
         return datastore.operations().find(updated, query);
     }
 
-    @SuppressWarnings("ConstantConditions")
+    @Nullable
+    private EntityCache cache(FindOptions options) {
+        if (datastore instanceof MorphiaSession || !options.isCacheable() || !mapper.isMappable(type)) {
+            return null;
+        }
+        EntityModel model = mapper.getEntityModel(type);
+        return model.collectionName().equals(collectionName) ? datastore.getCaches().get(model) : null;
+    }
+
+    /**
+     * Finds the unit of work tracking the results of this query. Only complete entities read from their own collection are tracked.
+     */
+    @Nullable
+    private UnitOfWork unitOfWork(FindOptions options) {
+        if (!(datastore instanceof SessionDatastore) || !options.isTrackable() || !mapper.isMappable(type)) {
+            return null;
+        }
+        UnitOfWork unitOfWork = ((SessionDatastore) datastore).unitOfWork();
+        return unitOfWork.isEnabled() && mapper.getEntityModel(type).collectionName().equals(collectionName) ? unitOfWork : null;
+    }
+
+    /**
+     * Reads a document through the cache. A stamp is taken before reading so a document read before a concurrent write is not cached.
+     */
+    @Nullable
+    private T cached(EntityCache cache, BsonValue id, FindOptions options) {
+        EntityCaches caches = datastore.getCaches();
+        long stamp = caches.stamp(collectionName);
+        RawBsonDocument document = cache.get(id);
+        if (document == null) {
+            try (MongoCursor<RawBsonDocument> cursor = prepareCursor(options.copy().limit(1),
+                    collection.withDocumentClass(RawBsonDocument.class))) {
+                document = cursor.tryNext();
+            }
+            if (document == null) {
+                return null;
+            }
+            caches.put(collectionName, id, document, stamp);
+        }
+        return document.decode(datastore.getCodecRegistry().get(type));
+    }
+
     private <E> MongoCursor<E> prepareCursor(FindOptions options, MongoCollection<E> collection) {
-        Document oldProfile = null;
         lastOptions = options;
-        if (options.isLogQuery()) {
-            oldProfile = datastore.getDatabase().runCommand(new Document("profile", 2).append("slowms", 0));
-        }
         options.disableValidation(!isValidate());
-        try {
-            return options
-                    .apply(iterable(options, collection), mapper, type)
-                    .iterator();
-        } finally {
-            if (options.isLogQuery()) {
-                datastore.getDatabase().runCommand(new Document("profile", oldProfile.get("was"))
-                        .append("slowms", oldProfile.get("slowms"))
-                        .append("sampleRate", oldProfile.get("sampleRate")));
-            }
+        MorphiaMetrics metrics = datastore.getMetrics();
+        long start = metrics.start();
+        MongoCursor<E> cursor = options
+                .apply(iterable(options, collection), mapper, type)
+                .iterator();
+        metrics.stop(FIND, type, collection.getNamespace().getCollectionName(), cursor.available(), start);
+        return cursor;
+    }
 
-        }
+    private Bson getQueryBson() {
+        MorphiaMetrics metrics = datastore.getMetrics();
+        long start = metrics.start();
+        Bson query = encodeQuery();
+        metrics.stop(QUERY_DOCUMENT, type, collectionName, 1, start);
+        return query;
     }
 
     private Document getQueryDocument() {
+        MorphiaMetrics metrics = datastore.getMetrics();
+        long start = metrics.start();
+        Document query = buildQueryDocument();
+        metrics.stop(QUERY_DOCUMENT, type, collectionName, 1, start);
+        return query;
+    }
+
+    /**
+     * Encodes the filters directly to BSON. Filters sharing a top level name need to be merged in to a single document so those queries,
+     * along with seeded queries, are built using the {@code Document} form instead.
+     *
+     * @return the query
+     */
+    private Bson encodeQuery() {
         if (invalid != null) {
             throw invalid;
         }
+        if (prepared != null && filters.isEmpty()) {
+            return prepared;
+        }
+        if (seedQuery != null || prepared != null) {
+            return buildQueryDocument();
+        }
         try {
-            DocumentWriter writer = new DocumentWriter(mapper.getConfig(), seedQuery);
-            document(writer, () -> {
-                EncoderContext context = EncoderContext.builder().build();
-                for (Filter filter : filters) {
-                    Codec codec = datastore.getCodecRegistry().get(filter.getClass());
-                    codec.encode(writer, filter, context);
+            Set<String> names = new HashSet<>();
+            for (Filter filter : filters) {
+                String field = filter.getField();
+                if (!names.add(field == null || field.isEmpty() ? filter.getName() : filter.path(mapper))) {
+                    return buildQueryDocument();
                 }
-            });
-
-            Document query = writer.getDocument();
-            if (mapper.isMappable(getEntityClass())) {
-                mapper.updateQueryWithDiscriminators(mapper.getEntityModel(getEntityClass()), query);
             }
+            EntityModel model = mapper.isMappable(getEntityClass()) ? mapper.getEntityModel(getEntityClass()) : null;
+            List<String> discriminators = model != null && !names.contains("_id") && !names.contains(model.discriminatorKey())
+                    ? mapper.getDiscriminators(model)
+                    : null;
+
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+                document(writer, () -> {
+                    EncoderContext context = EncoderContext.builder().build();
+                    for (Filter filter : filters) {
+                        Codec codec = datastore.getCodecRegistry().get(filter.getClass());
+                        codec.encode(writer, filter, context);
+                    }
+                    if (discriminators != null) {
+                        document(writer, model.discriminatorKey(), () -> {
+                            array(writer, "$in", () -> discriminators.forEach(writer::writeString));
+                        });
+                    }
+                });
+            }
+            return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+        } catch (ValidationException e) {
+            invalid = e;
+            throw e;
+        }
+    }
 
-            return query;
+    private Document buildQueryDocument() {
+        if (invalid != null) {
+            throw invalid;
+        }
+        try {
+            return QueryDocument.build(mapper, datastore.getCodecRegistry(), getEntityClass(), filters, prepared != null
+                    ? prepared.decode(datastore.getCodecRegistry().get(Document.class))
+                    : seedQuery);
         } catch (ValidationException e) {
             invalid = e;
             throw e;
@@ -10,12 +10,14 @@ import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.updates.UpdateOperator;
 
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 
+import static dev.morphia.metrics.MetricEvent.UPDATE_DOCUMENT;
 import static dev.morphia.query.updates.UpdateOperators.inc;
 
 /**
@@ -66,6 +68,8 @@ public class Operations {
     }
 
     public Document toDocument(MorphiaDatastore datastore) {
+        MorphiaMetrics metrics = datastore.getMetrics();
+        long start = metrics.start();
         var document = new Document();
         versionUpdate(model);
         for (UpdateOperator update : updates) {
@@ -79,6 +83,11 @@ public class Operations {
                 }
             });
         }
+        if (model != null) {
+            metrics.stop(UPDATE_DOCUMENT, model.getType(), model.getEntityAnnotation() != null ? model.collectionName() : null, 1, start);
+        } else {
+            metrics.stop(UPDATE_DOCUMENT, null, null, 1, start);
+        }
 
         return document;
     }
@@ -0,0 +1,58 @@
+package dev.morphia.query;
+
+import java.util.Iterator;
+import java.util.List;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * A page of query results
+ *
+ * @param <T> the type of the results
+ * @see Query#page(PageRequest)
+ * @since 3.0
+ */
+public class Page<T> implements Iterable<T> {
+    private final List<T> results;
+    @Nullable
+    private final String next;
+
+    /**
+     * @param results the results
+     * @param next    the token for the next page or null if this is the last page
+     */
+    Page(List<T> results, @Nullable String next) {
+        this.results = results;
+        this.next = next;
+    }
+
+    /**
+     * @return true if there is another page of results
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return results.iterator();
+    }
+
+    /**
+     * Gets the token to pass to {@link PageRequest#after(String)} to fetch the following page. The token is opaque and only valid for
+     * the same query and sort.
+     *
+     * @return the token or null if this is the last page
+     */
+    @Nullable
+    public String next() {
+        return next;
+    }
+
+    /**
+     * @return the results on this page
+     */
+    public List<T> results() {
+        return results;
+    }
+}
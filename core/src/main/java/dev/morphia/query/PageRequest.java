@@ -0,0 +1,79 @@
+package dev.morphia.query;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.sofia.Sofia;
+
+/**
+ * Requests a page of results using keyset pagination. Rather than skipping over the documents of earlier pages, each page starts
+ * after the sort values of the last result of the previous page so the cost of fetching a page does not grow with its depth. The sort
+ * is taken from the {@link FindOptions} with {@code _id} appended as a tie breaker.
+ * <p>
+ * The sort fields should be present and non-null on every document and must be included in any projection.
+ *
+ * @see Query#page(PageRequest)
+ * @since 3.0
+ */
+public class PageRequest {
+    private final int size;
+    private FindOptions options = new FindOptions();
+    @Nullable
+    private String token;
+
+    /**
+     * Creates a request for the first page
+     *
+     * @param size the number of results per page
+     */
+    public PageRequest(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(Sofia.invalidPageSize(size));
+        }
+        this.size = size;
+    }
+
+    /**
+     * Sets the token of the page to follow. A null token requests the first page.
+     *
+     * @param token the token returned by {@link Page#next()}
+     * @return this
+     */
+    public PageRequest after(@Nullable String token) {
+        this.token = token;
+        return this;
+    }
+
+    /**
+     * @return the find options
+     */
+    public FindOptions options() {
+        return options;
+    }
+
+    /**
+     * Sets the options to use when fetching the page. Any sort on the options determines the order of the pages. Limits and skips
+     * are not allowed.
+     *
+     * @param options the options
+     * @return this
+     */
+    public PageRequest options(FindOptions options) {
+        this.options = options;
+        return this;
+    }
+
+    /**
+     * @return the page size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the token of the page to follow or null for the first page
+     */
+    @Nullable
+    public String token() {
+        return token;
+    }
+}
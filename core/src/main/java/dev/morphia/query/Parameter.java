@@ -0,0 +1,50 @@
+package dev.morphia.query;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+/**
+ * A named placeholder for a filter value. Parameters are given values when a {@link PreparedQuery} is bound so the same filters can
+ * be run repeatedly with different values without being encoded again.
+ *
+ * @see Query#prepare()
+ * @see dev.morphia.query.filters.Filters#param(String)
+ * @since 3.0
+ */
+public class Parameter {
+    static final String PREFIX = "morphia.parameter:";
+
+    private final String name;
+
+    /**
+     * @param name the parameter name
+     * @hidden
+     * @morphia.internal
+     * @see dev.morphia.query.filters.Filters#param(String)
+     */
+    @MorphiaInternal
+    public Parameter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return the parameter name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return the value written in to the encoded query in place of the bound value
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public String placeholder() {
+        return PREFIX + name;
+    }
+
+    @Override
+    public String toString() {
+        return ":" + name;
+    }
+}
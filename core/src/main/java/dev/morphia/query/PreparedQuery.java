@@ -0,0 +1,239 @@
+package dev.morphia.query;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.io.BasicOutputBuffer;
+
+import static java.lang.String.format;
+
+/**
+ * A query whose filters have been validated and encoded once. The encoded form is kept with a placeholder in place of each
+ * {@link Parameter} and binding values copies it with the encoded values written in place of the placeholders. Prepared queries are
+ * immutable and can be shared between threads.
+ * <p>
+ * Bound values are encoded using the codec for their own type rather than that of the property they are compared against.
+ *
+ * @param <T> the query type
+ * @see Query#prepare()
+ * @since 3.0
+ */
+public class PreparedQuery<T> {
+    private static final EncoderContext CONTEXT = EncoderContext.builder().build();
+
+    private final MorphiaQuery<T> query;
+    private final CodecRegistry registry;
+    private final byte[] template;
+    private final List<Slot> slots = new ArrayList<>();
+    private final List<Container> containers = new ArrayList<>();
+    private final Set<String> parameters = new LinkedHashSet<>();
+
+    PreparedQuery(MorphiaQuery<T> query, RawBsonDocument encoded, CodecRegistry registry) {
+        this.query = query;
+        this.registry = registry;
+        template = new byte[encoded.getByteBuffer().remaining()];
+        encoded.getByteBuffer().get(template);
+        try (BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(template))) {
+            scan(reader, false);
+        }
+    }
+
+    /**
+     * Binds the value of the only parameter of this query.
+     *
+     * @param name  the parameter name
+     * @param value the value
+     * @return the query to run
+     */
+    public Query<T> bind(String name, @Nullable Object value) {
+        return bind(Collections.singletonMap(name, value));
+    }
+
+    /**
+     * Binds the values of the parameters of this query. Every parameter must be given a value.
+     *
+     * @param values the values keyed by parameter name
+     * @return the query to run
+     */
+    public Query<T> bind(Map<String, ?> values) {
+        for (String name : values.keySet()) {
+            if (!parameters.contains(name)) {
+                throw new IllegalArgumentException(Sofia.queryParameterUnknown(name));
+            }
+        }
+        if (slots.isEmpty()) {
+            return query.bind(new RawBsonDocument(template));
+        }
+
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        int[] offsets = new int[slots.size() + 1];
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writer.writeStartDocument();
+            for (int i = 0; i < slots.size(); i++) {
+                Slot slot = slots.get(i);
+                if (!values.containsKey(slot.parameter)) {
+                    throw new IllegalArgumentException(Sofia.queryParameterNotBound(slot.parameter));
+                }
+                offsets[i] = buffer.getPosition();
+                writer.writeName(slot.name);
+                Object value = values.get(slot.parameter);
+                if (value == null) {
+                    writer.writeNull();
+                } else {
+                    Codec codec = registry.get(value.getClass());
+                    CONTEXT.encodeWithChildContext(codec, writer, value);
+                }
+            }
+            offsets[slots.size()] = buffer.getPosition();
+            writer.writeEndDocument();
+        }
+        byte[] elements = buffer.getInternalBuffer();
+
+        int[] deltas = new int[slots.size()];
+        int growth = 0;
+        for (int i = 0; i < slots.size(); i++) {
+            deltas[i] = (offsets[i + 1] - offsets[i]) - (slots.get(i).end - slots.get(i).start);
+            growth += deltas[i];
+        }
+
+        byte[] bound = new byte[template.length + growth];
+        int from = 0;
+        int to = 0;
+        for (int i = 0; i < slots.size(); i++) {
+            Slot slot = slots.get(i);
+            System.arraycopy(template, from, bound, to, slot.start - from);
+            to += slot.start - from;
+            System.arraycopy(elements, offsets[i], bound, to, offsets[i + 1] - offsets[i]);
+            to += offsets[i + 1] - offsets[i];
+            from = slot.end;
+        }
+        System.arraycopy(template, from, bound, to, template.length - from);
+
+        for (Container container : containers) {
+            int start = container.start;
+            for (int i = 0; i < container.first; i++) {
+                start += deltas[i];
+            }
+            int length = readInt(template, container.start);
+            for (int i = container.first; i < container.last; i++) {
+                length += deltas[i];
+            }
+            writeInt(bound, start, length);
+        }
+
+        return query.bind(new RawBsonDocument(bound));
+    }
+
+    /**
+     * @return the names of the parameters of this query
+     */
+    public Set<String> parameters() {
+        return Collections.unmodifiableSet(parameters);
+    }
+
+    @Override
+    public String toString() {
+        return format("PreparedQuery{query=%s, parameters=%s}", new RawBsonDocument(template).toJson(), parameters);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xff)
+                | (bytes[offset + 1] & 0xff) << 8
+                | (bytes[offset + 2] & 0xff) << 16
+                | (bytes[offset + 3] & 0xff) << 24;
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >> 8);
+        bytes[offset + 2] = (byte) (value >> 16);
+        bytes[offset + 3] = (byte) (value >> 24);
+    }
+
+    /**
+     * Records the position of each placeholder and of each document or array containing one so that their lengths can be corrected
+     * once the values are written.
+     */
+    private void scan(BsonBinaryReader reader, boolean array) {
+        int start = reader.getBsonInput().getPosition();
+        int first = slots.size();
+        if (array) {
+            reader.readStartArray();
+        } else {
+            reader.readStartDocument();
+        }
+        int element = reader.getBsonInput().getPosition();
+        BsonType type;
+        while ((type = reader.readBsonType()) != BsonType.END_OF_DOCUMENT) {
+            if (!array) {
+                reader.readName();
+            }
+            String name = reader.getCurrentName();
+            if (type == BsonType.DOCUMENT) {
+                scan(reader, false);
+            } else if (type == BsonType.ARRAY) {
+                scan(reader, true);
+            } else if (type == BsonType.SYMBOL) {
+                String symbol = reader.readSymbol();
+                if (symbol.startsWith(Parameter.PREFIX)) {
+                    String parameter = symbol.substring(Parameter.PREFIX.length());
+                    parameters.add(parameter);
+                    slots.add(new Slot(parameter, name, element, reader.getBsonInput().getPosition()));
+                }
+            } else {
+                reader.skipValue();
+            }
+            element = reader.getBsonInput().getPosition();
+        }
+        if (array) {
+            reader.readEndArray();
+        } else {
+            reader.readEndDocument();
+        }
+        if (slots.size() != first) {
+            containers.add(new Container(start, first, slots.size()));
+        }
+    }
+
+    private static class Container {
+        private final int start;
+        private final int first;
+        private final int last;
+
+        Container(int start, int first, int last) {
+            this.start = start;
+            this.first = first;
+            this.last = last;
+        }
+    }
+
+    private static class Slot {
+        private final String parameter;
+        private final String name;
+        private final int start;
+        private final int end;
+
+        Slot(String parameter, String name, int start, int end) {
+            this.parameter = parameter;
+            this.name = name;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
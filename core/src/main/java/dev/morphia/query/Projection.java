@@ -1,7 +1,9 @@
 package dev.morphia.query;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.StringJoiner;
 
 import com.mongodb.lang.Nullable;
@@ -122,6 +124,36 @@ public class Projection {
         return null;
     }
 
+    /**
+     * Lists the top level fields an including projection returns. Exclusions, slices, and meta projections return every field.
+     *
+     * @param mapper the Mapper to use
+     * @param type   the entity type
+     * @return the mapped names of the fields returned or null if all fields are
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Set<String> fields(Mapper mapper, Class<?> type) {
+        if (!isIncluding()) {
+            return null;
+        }
+        Document projection = project(mapper, type);
+        Set<String> fields = new HashSet<>();
+        projection.forEach((key, value) -> {
+            if (Integer.valueOf(1).equals(value)) {
+                int dot = key.indexOf('.');
+                fields.add(dot == -1 ? key : key.substring(0, dot));
+            }
+        });
+        if (!projection.containsKey("_id")) {
+            fields.add("_id");
+        }
+        return fields;
+    }
+
     private void iterate(Mapper mapper, Document projection, Class<?> clazz, @Nullable List<String> fields,
             int include) {
         if (fields != null) {
@@ -0,0 +1,42 @@
+package dev.morphia.query;
+
+import java.util.Set;
+
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Decodes the results of a query with an including projection. Only the projected properties are looked up and the rest of each
+ * document is skipped once they've all been read.
+ *
+ * @param <T> the entity type
+ */
+class ProjectionCodec<T> implements Codec<T> {
+    private final MorphiaCodec<T> codec;
+    private final Set<String> fields;
+
+    ProjectionCodec(MorphiaCodec<T> codec, Set<String> fields) {
+        this.codec = codec;
+        this.fields = fields;
+    }
+
+    @Override
+    public T decode(BsonReader reader, DecoderContext decoderContext) {
+        return codec.decode(reader, decoderContext, fields);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+        codec.encode(writer, value, encoderContext);
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return codec.getEncoderClass();
+    }
+}
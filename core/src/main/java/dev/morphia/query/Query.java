@@ -118,6 +118,9 @@ public interface Query<T> extends Iterable<T> {
     Map<String, Object> explain(FindOptions options, @Nullable ExplainVerbosity verbosity);
 
     /**
+     * Returns the filter sent by the previous execution of this query if it was run with {@link FindOptions#logQuery()}. The filter is
+     * read from {@link QueryLog#instance()} so that listener must be registered with the {@code MongoClient}.
+     *
      * @return The query logged during the previous execution of this query
      * @since 2.3
      */
@@ -206,6 +209,26 @@ public interface Query<T> extends Iterable<T> {
      */
     MorphiaCursor<T> iterator(@Nullable FindOptions options);
 
+    /**
+     * Fetches a page of results using keyset pagination. Each page after the first is found by filtering on the sort values of the
+     * last result of the previous page so deep pages are as cheap as the first.
+     *
+     * @param request the page to fetch
+     * @return the page
+     * @since 3.0
+     */
+    Page<T> page(PageRequest request);
+
+    /**
+     * Encodes the filters of this query once so it can be run repeatedly, with values bound to any {@link Parameter parameters}, without
+     * validating and encoding the filters again. Filters should not be added to this query after it is prepared.
+     *
+     * @return the prepared query
+     * @see dev.morphia.query.filters.Filters#param(String)
+     * @since 3.0
+     */
+    PreparedQuery<T> prepare();
+
     /**
      * Provides a {@link Stream} representation of the results of this query.
      *
@@ -217,15 +240,19 @@ public interface Query<T> extends Iterable<T> {
     }
 
     /**
-     * Provides a {@link Stream} representation of the results of this query.
+     * Provides a {@link Stream} representation of the results of this query. Closing the stream closes the underlying cursor so
+     * streams which are not fully consumed should be closed, e.g. with try-with-resources. When the stream is made parallel the query
+     * may be split in to {@code _id} ranges each read with its own cursor.
      *
      * @param options the options to apply
      * @return the stream
      * @since 2.2
      */
     default Stream<T> stream(FindOptions options) {
-        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator(options), 0);
-        return StreamSupport.stream(spliterator, false);
+        MorphiaCursor<T> cursor = iterator(options);
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(cursor, 0);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(cursor::close);
     }
 
     /**
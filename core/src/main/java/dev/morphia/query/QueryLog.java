@@ -0,0 +1,149 @@
+package dev.morphia.query;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * Captures the commands sent for queries run with {@link FindOptions#logQuery()} so they can be read back with
+ * {@link Query#getLoggedQuery()}. Only commands tagged by {@code logQuery()} are recorded and only the most recent ones are kept so
+ * the log is safe to leave registered in production. To enable it, register the shared instance with the client:
+ *
+ * <pre>
+ * <code>
+ * MongoClients.create(MongoClientSettings.builder()
+ *         .addCommandListener(QueryLog.instance())
+ *         .build());
+ * </code>
+ * </pre>
+ *
+ * @since 3.0
+ */
+public class QueryLog implements CommandListener {
+    /**
+     * The number of queries kept by the shared instance
+     */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private static final QueryLog INSTANCE = new QueryLog(DEFAULT_CAPACITY);
+    private static final String PREFIX = Sofia.loggedQuery("");
+    private static final Set<String> CURSOR_COMMANDS = Set.of("getMore", "killCursors");
+    private static final Set<String> SESSION_FIELDS = Set.of("$db", "$clusterTime", "$readPreference", "lsid", "txnNumber",
+            "autocommit", "startTransaction");
+
+    private final Entry[] entries;
+    private int next;
+
+    /**
+     * Creates a new log
+     *
+     * @param capacity the number of queries to keep
+     */
+    public QueryLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(Sofia.queryLogCapacity(capacity));
+        }
+        entries = new Entry[capacity];
+    }
+
+    /**
+     * @return the log used by {@link Query#getLoggedQuery()}
+     */
+    public static QueryLog instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Removes all captured queries
+     */
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        next = 0;
+    }
+
+    /**
+     * Finds the command sent for a logged query. Session and cluster bookkeeping fields added by the driver are removed.
+     *
+     * @param id the query log ID
+     * @return the command or null if it was not captured or has since been evicted
+     */
+    @Nullable
+    public BsonDocument command(String id) {
+        Entry entry = find(id);
+        return entry != null ? entry.command : null;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (CURSOR_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+        BsonValue comment = event.getCommand().get("comment");
+        if (comment == null || !comment.isString() || !comment.asString().getValue().startsWith(PREFIX)) {
+            return;
+        }
+        BsonDocument command = new BsonDocument();
+        event.getCommand().forEach((key, value) -> {
+            if (!SESSION_FIELDS.contains(key)) {
+                command.put(key, value);
+            }
+        });
+        add(new Entry(comment.asString().getValue().substring(PREFIX.length()),
+                new RawBsonDocument(command, new BsonDocumentCodec())));
+    }
+
+    /**
+     * Finds the filter sent for a logged query
+     *
+     * @param id the query log ID
+     * @return the filter or null if it was not captured or has since been evicted
+     */
+    @Nullable
+    public BsonDocument filter(String id) {
+        BsonDocument command = command(id);
+        if (command == null) {
+            return null;
+        }
+        BsonValue filter = command.get("filter");
+        return filter != null && filter.isDocument() ? filter.asDocument() : new BsonDocument();
+    }
+
+    private synchronized void add(Entry entry) {
+        entries[next] = entry;
+        next = (next + 1) % entries.length;
+    }
+
+    @Nullable
+    private synchronized Entry find(String id) {
+        for (int i = 1; i <= entries.length; i++) {
+            Entry entry = entries[(next - i + entries.length) % entries.length];
+            if (entry == null) {
+                return null;
+            }
+            if (entry.id.equals(id)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static class Entry {
+        private final String id;
+        private final RawBsonDocument command;
+
+        Entry(String id, RawBsonDocument command) {
+            this.id = id;
+            this.command = command;
+        }
+    }
+}
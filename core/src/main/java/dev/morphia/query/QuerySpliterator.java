@@ -0,0 +1,178 @@
+package dev.morphia.query;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import com.mongodb.lang.Nullable;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+/**
+ * Streams the results of a query and, when the stream is parallel, splits the query in to {@code _id} ranges each read by its own cursor.
+ * The bounds are found with two indexed lookups the first time the stream is split. Ranges are split in half by value so ids which are
+ * not evenly distributed will give uneven partitions. Only ObjectId and numeric ids can be split and only for queries which do not
+ * limit, skip, sort, or otherwise constrain the order of their results.
+ *
+ * @param <T> the entity type
+ */
+class QuerySpliterator<T> implements Spliterator<T> {
+    private final MorphiaQuery<T> query;
+    private final FindOptions options;
+    private final Queue<MorphiaCursor<T>> cursors;
+    private final boolean partitionable;
+    @Nullable
+    private Object lower;
+    @Nullable
+    private Object upper;
+    @Nullable
+    private Object low;
+    @Nullable
+    private Object high;
+    private boolean bounded;
+    private long estimate;
+    @Nullable
+    private MorphiaCursor<T> cursor;
+
+    QuerySpliterator(MorphiaQuery<T> query, FindOptions options) {
+        this(query, options, new ConcurrentLinkedQueue<>(), query.isPartitionable(options),
+                null, null, Long.MAX_VALUE);
+    }
+
+    private QuerySpliterator(MorphiaQuery<T> query, FindOptions options, Queue<MorphiaCursor<T>> cursors, boolean partitionable,
+            @Nullable Object lower, @Nullable Object upper, long estimate) {
+        this.query = query;
+        this.options = options;
+        this.cursors = cursors;
+        this.partitionable = partitionable;
+        this.lower = lower;
+        this.upper = upper;
+        this.estimate = estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+    /**
+     * Closes every cursor opened by this spliterator or any split from it.
+     */
+    public void close() {
+        MorphiaCursor<T> next;
+        while ((next = cursors.poll()) != null) {
+            next.close();
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        MorphiaCursor<T> current = cursor();
+        while (current.hasNext()) {
+            action.accept(current.next());
+        }
+        release(current);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        MorphiaCursor<T> current = cursor();
+        if (current.hasNext()) {
+            action.accept(current.next());
+            return true;
+        }
+        release(current);
+        return false;
+    }
+
+    @Override
+    @Nullable
+    public Spliterator<T> trySplit() {
+        if (!partitionable || cursor != null) {
+            return null;
+        }
+        if (!bounded) {
+            bounded = true;
+            low = query.idBound(options, false);
+            high = query.idBound(options, true);
+        }
+        Object from = lower != null ? lower : low;
+        Object to = upper != null ? upper : high;
+        Object middle = from != null && to != null ? middle(from, to) : null;
+        if (middle == null) {
+            return null;
+        }
+
+        estimate >>>= 1;
+        QuerySpliterator<T> prefix = new QuerySpliterator<>(query, options, cursors, true, lower, middle, estimate);
+        prefix.bounded = true;
+        prefix.low = low;
+        prefix.high = middle;
+        lower = middle;
+        return prefix;
+    }
+
+    @Nullable
+    private static Object middle(Object from, Object to) {
+        if (from instanceof ObjectId && to instanceof ObjectId) {
+            long start = ((ObjectId) from).getTimestamp() & 0xFFFFFFFFL;
+            long end = ((ObjectId) to).getTimestamp() & 0xFFFFFFFFL;
+            if (end - start < 2) {
+                return null;
+            }
+            byte[] bytes = new byte[12];
+            ByteBuffer.wrap(bytes).putInt((int) (start + (end - start) / 2));
+            return new ObjectId(bytes);
+        } else if (from instanceof Integer && to instanceof Integer) {
+            Long middle = middle((long) (Integer) from, (long) (Integer) to);
+            return middle != null ? middle.intValue() : null;
+        } else if (from instanceof Long && to instanceof Long) {
+            return middle((long) (Long) from, (long) (Long) to);
+        } else if (from instanceof Double && to instanceof Double) {
+            double start = (Double) from;
+            double end = (Double) to;
+            double middle = start + (end - start) / 2;
+            return middle > start && middle < end ? middle : null;
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Long middle(long start, long end) {
+        long middle = (start & end) + ((start ^ end) >> 1);
+        return middle > start && middle < end ? middle : null;
+    }
+
+    private MorphiaCursor<T> cursor() {
+        if (cursor == null) {
+            if (lower == null && upper == null) {
+                cursor = query.iterator(options);
+            } else {
+                Document range = new Document();
+                if (lower != null) {
+                    range.put("$gte", lower);
+                }
+                if (upper != null) {
+                    range.put("$lt", upper);
+                }
+                cursor = query.restrict(new Document("_id", range)).iterator(options);
+            }
+            cursors.add(cursor);
+        }
+        return cursor;
+    }
+
+    private void release(MorphiaCursor<T> current) {
+        if (cursors.remove(current)) {
+            current.close();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package dev.morphia.query;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
+import dev.morphia.mapping.codec.references.ReferenceCodec;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+
+/**
+ * Reads the raw results a page at a time, collects the referenced IDs of every result in the page, and resolves them with one query
+ * per referenced collection before decoding the page. References held by embedded entities, including those in lists and maps, are
+ * collected as well.
+ *
+ * @param <T> the entity type
+ */
+class ReferenceBatchingCursor<T> implements MongoCursor<T> {
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final MongoCursor<RawBsonDocument> wrapped;
+    private final MorphiaDatastore datastore;
+    private final Codec<T> codec;
+    private final EntityModel model;
+    private final int pageSize;
+    private final ArrayDeque<T> page = new ArrayDeque<>();
+    private final ReferenceBatch batch = new ReferenceBatch();
+
+    ReferenceBatchingCursor(MongoCursor<RawBsonDocument> wrapped, MorphiaDatastore datastore, Class<T> type, int batchSize) {
+        this.wrapped = wrapped;
+        this.datastore = datastore;
+        this.codec = datastore.getCodecRegistry().get(type);
+        this.model = datastore.getMapper().getEntityModel(type);
+        this.pageSize = batchSize > 0 ? batchSize : DEFAULT_PAGE_SIZE;
+    }
+
+    @Override
+    public void close() {
+        page.clear();
+        batch.clear();
+        wrapped.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !page.isEmpty() || wrapped.hasNext();
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        if (page.isEmpty()) {
+            fill();
+        }
+        if (page.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return page.poll();
+    }
+
+    @Override
+    public int available() {
+        return page.size() + wrapped.available();
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    private void fill() {
+        List<RawBsonDocument> documents = new ArrayList<>(pageSize);
+        while (documents.size() < pageSize && wrapped.hasNext()) {
+            documents.add(wrapped.next());
+        }
+        batch.clear();
+        for (RawBsonDocument document : documents) {
+            try (BsonReader reader = reader(document)) {
+                collectIds(reader, model);
+            }
+        }
+        ReferenceBatch previous = ReferenceBatch.bind(batch);
+        try {
+            batch.resolve(datastore);
+            for (RawBsonDocument document : documents) {
+                try (BsonReader reader = reader(document)) {
+                    page.add(codec.decode(reader, DecoderContext.builder().build()));
+                }
+            }
+        } finally {
+            ReferenceBatch.bind(previous);
+        }
+    }
+
+    /**
+     * {@link RawBsonDocument#asBsonReader()} returns a document reader whose marks do not survive embedded documents in arrays, so read
+     * the bytes directly as the driver does for its own results.
+     */
+    private static BsonReader reader(RawBsonDocument document) {
+        return new BsonBinaryReader(document.getByteBuffer().asNIO());
+    }
+
+    private void collectIds(BsonReader reader, EntityModel declared) {
+        EntityModel entityModel = resolve(reader, declared);
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            PropertyModel property = entityModel.getProperty(reader.readName());
+            if (property == null || reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.skipValue();
+            } else if (property.isReference()) {
+                if (property.specializeCodec(datastore) instanceof ReferenceCodec codec) {
+                    codec.collectIds(reader, batch);
+                } else {
+                    reader.skipValue();
+                }
+            } else {
+                Mapper mapper = datastore.getMapper();
+                Class<?> type = property.getNormalizedType();
+                if (mapper.isMappable(type)) {
+                    collectEmbedded(reader, mapper.getEntityModel(type), property.isMap());
+                } else {
+                    reader.skipValue();
+                }
+            }
+        }
+        reader.readEndDocument();
+    }
+
+    private void collectEmbedded(BsonReader reader, EntityModel embedded, boolean map) {
+        BsonType type = reader.getCurrentBsonType();
+        if (type == BsonType.ARRAY) {
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                collectEmbedded(reader, embedded, false);
+            }
+            reader.readEndArray();
+        } else if (type == BsonType.DOCUMENT && map) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                reader.skipName();
+                collectEmbedded(reader, embedded, false);
+            }
+            reader.readEndDocument();
+        } else if (type == BsonType.DOCUMENT) {
+            collectIds(reader, embedded);
+        } else {
+            reader.skipValue();
+        }
+    }
+
+    private EntityModel resolve(BsonReader reader, EntityModel declared) {
+        if (!declared.useDiscriminator()) {
+            return declared;
+        }
+        String discriminator = null;
+        BsonReaderMark mark = reader.getMark();
+        reader.readStartDocument();
+        while (discriminator == null && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.readName().equals(declared.discriminatorKey()) && reader.getCurrentBsonType() == BsonType.STRING) {
+                discriminator = reader.readString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        mark.reset();
+        Mapper mapper = datastore.getMapper();
+        Class<?> type = discriminator != null ? mapper.getClass(discriminator) : null;
+        return type != null ? mapper.getEntityModel(type) : declared;
+    }
+}
@@ -9,6 +9,9 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.query.OperationTarget;
+import dev.morphia.query.Parameter;
+import dev.morphia.query.ValidationException;
+import dev.morphia.sofia.Sofia;
 
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -164,6 +167,9 @@ public class Filter {
             this.value = operationTarget.getValue();
             PropertyModel property = target.target();
             if (property != null && property.specializeCodec(datastore) instanceof PropertyHandler) {
+                if (value instanceof Parameter) {
+                    throw new ValidationException(Sofia.queryParameterUnsupported(field));
+                }
                 this.value = ((Document) operationTarget.encode(datastore)).get(field);
             }
             mapped = true;
@@ -9,6 +9,7 @@ import com.mongodb.client.model.geojson.Polygon;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.aggregation.expressions.impls.Expression;
+import dev.morphia.query.Parameter;
 import dev.morphia.query.Type;
 
 import org.bson.Document;
@@ -524,6 +525,18 @@ public final class Filters {
         return new LogicalFilter("$or", filters);
     }
 
+    /**
+     * Creates a named placeholder to use in place of a filter value in a prepared query.
+     *
+     * @param name the parameter name
+     * @return the parameter
+     * @see dev.morphia.query.Query#prepare()
+     * @since 3.0
+     */
+    public static Parameter param(String name) {
+        return new Parameter(name);
+    }
+
     /**
      * Specifies a polygon to using legacy coordinate pairs for $geoWithin queries. The 2d index supports $center.
      *
@@ -0,0 +1,61 @@
+package dev.morphia.query.internal;
+
+import java.util.List;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.query.filters.Filter;
+
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import static dev.morphia.mapping.codec.CodecHelper.document;
+
+/**
+ * Builds the query document for a set of filters. This is shared by the synchronous and reactive queries so both send the same
+ * filters and discriminator criteria.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class QueryDocument {
+    private QueryDocument() {
+    }
+
+    /**
+     * Encodes the filters and adds the discriminator criteria for the queried type, if it is mapped.
+     *
+     * @param mapper   the mapper
+     * @param registry the codec registry
+     * @param type     the queried type
+     * @param filters  the filters
+     * @param seed     the document to add the filters to, if any
+     * @return the query document
+     * @throws dev.morphia.query.ValidationException if a filter fails validation
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static Document build(Mapper mapper, CodecRegistry registry, Class<?> type, List<Filter> filters, @Nullable Document seed) {
+        DocumentWriter writer = new DocumentWriter(mapper.getConfig(), seed);
+        document(writer, () -> {
+            EncoderContext context = EncoderContext.builder().build();
+            for (Filter filter : filters) {
+                Codec codec = registry.get(filter.getClass());
+                codec.encode(writer, filter, context);
+            }
+        });
+
+        Document query = writer.getDocument();
+        if (mapper.isMappable(type)) {
+            mapper.updateQueryWithDiscriminators(mapper.getEntityModel(type), query);
+        }
+
+        return query;
+    }
+}
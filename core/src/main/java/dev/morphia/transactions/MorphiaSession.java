@@ -8,4 +8,24 @@ import dev.morphia.Datastore;
  * Wraps a ClientSession reference for convenient use of MongoDB's multidocument transaction support.
  */
 public interface MorphiaSession extends Datastore, ClientSession {
+    /**
+     * Writes any saves held back by this session along with any changes made to the entities it tracks.
+     *
+     * @see #trackEntities()
+     * @since 3.0
+     */
+    void flush();
+
+    /**
+     * Tracks the entities loaded and saved through this session. Loading an entity this session already holds returns the same
+     * instance without querying the server. While a transaction is active, saves are held back and written, along with any changes
+     * made to tracked entities, as one bulk write per type just before the transaction commits. Pending changes to a collection are
+     * written before any other query or write against it.
+     * <p>
+     * Entities matched by an update or delete are no longer tracked once that write is made. Projected results are never tracked.
+     *
+     * @return this
+     * @since 3.0
+     */
+    MorphiaSession trackEntities();
 }
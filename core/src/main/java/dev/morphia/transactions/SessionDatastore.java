@@ -5,10 +5,13 @@ import java.util.List;
 import com.mongodb.ClientSessionOptions;
 import com.mongodb.ServerAddress;
 import com.mongodb.TransactionOptions;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.TransactionBody;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
@@ -26,6 +29,7 @@ import dev.morphia.MorphiaDatastore;
 import dev.morphia.ReplaceOptions;
 import dev.morphia.UpdateOptions;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.CachingOperations;
 import dev.morphia.query.CountOptions;
 import dev.morphia.query.FindAndDeleteOptions;
 
@@ -34,6 +38,9 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import static dev.morphia.metrics.MeasuringOperations.measure;
 
 /**
  * @hidden
@@ -44,6 +51,8 @@ import org.bson.Document;
 public class SessionDatastore extends MorphiaDatastore implements MorphiaSession {
 
     private final ClientSession session;
+    private final CachingOperations operations;
+    private final UnitOfWork unitOfWork;
 
     private TimeoutContext timeoutContext;
 
@@ -56,7 +65,9 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public SessionDatastore(MorphiaDatastore datastore, ClientSession session) {
         super(datastore);
-        operations(new TransactionalOperations());
+        unitOfWork = new UnitOfWork(this, measure(new TransactionalOperations(), getMetrics()));
+        operations = new CachingOperations(unitOfWork, datastore.getCaches(), true);
+        operations(operations);
         this.session = session;
     }
 
@@ -98,17 +109,67 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
 
     @Override
     public void commitTransaction() {
-        session.commitTransaction();
+        try {
+            unitOfWork.flush(null);
+            session.commitTransaction();
+        } finally {
+            unitOfWork.clear();
+            operations.completed();
+        }
     }
 
     @Override
     public void abortTransaction() {
-        session.abortTransaction();
+        try {
+            session.abortTransaction();
+        } finally {
+            unitOfWork.clear();
+            operations.completed();
+        }
     }
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody) {
-        return session.withTransaction(transactionBody);
+        try {
+            return session.withTransaction(flushing(transactionBody));
+        } finally {
+            unitOfWork.clear();
+            operations.completed();
+        }
+    }
+
+    @Override
+    public void flush() {
+        unitOfWork.flush(null);
+    }
+
+    @Override
+    public MorphiaSession trackEntities() {
+        unitOfWork.enable();
+        return this;
+    }
+
+    @Override
+    public <T> T save(T entity, InsertOneOptions options) {
+        if (options.collection() == null && unitOfWork.defer(List.of(entity))) {
+            return entity;
+        }
+        return super.save(entity, options);
+    }
+
+    @Override
+    public <T> List<T> save(List<T> entities, InsertManyOptions options) {
+        if (options.collection() == null && unitOfWork.defer(entities)) {
+            return entities;
+        }
+        return super.save(entities, options);
+    }
+
+    /**
+     * @return the unit of work tracking this session's entities
+     */
+    public UnitOfWork unitOfWork() {
+        return unitOfWork;
     }
 
     @Override
@@ -118,7 +179,12 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody, TransactionOptions options) {
-        return session.withTransaction(transactionBody, options);
+        try {
+            return session.withTransaction(flushing(transactionBody), options);
+        } finally {
+            unitOfWork.clear();
+            operations.completed();
+        }
     }
 
     /**
@@ -190,34 +256,40 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
         session.advanceClusterTime(clusterTime);
     }
 
-    private class TransactionalOperations extends DatastoreOperations {
+    private class TransactionalOperations extends BsonOperations {
         @Override
-        public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+        public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+                BulkWriteOptions options) {
+            return collection.bulkWrite(session, requests, options);
+        }
+
+        @Override
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
             return collection.countDocuments(session, query, options);
         }
 
         @Override
-        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteMany(session, queryDocument, options);
         }
 
         @Override
-        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteOne(session, queryDocument, options);
         }
 
         @Override
-        public <E> FindIterable<E> find(MongoCollection<E> collection, Document query) {
+        public <E> FindIterable<E> find(MongoCollection<E> collection, Bson query) {
             return collection.find(session, query);
         }
 
         @Override
-        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Bson queryDocument, FindAndDeleteOptions options) {
             return mongoCollection.findOneAndDelete(session, queryDocument, options);
         }
 
         @Override
-        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
             return collection.findOneAndUpdate(session, query, update, options);
         }
 
@@ -244,25 +316,25 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates,
                 UpdateOptions options) {
             return collection.updateMany(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateMany(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates,
                 UpdateOptions options) {
             return collection.updateOne(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates,
                 UpdateOptions options) {
             return collection.updateOne(session, query, updates, options);
         }
@@ -287,8 +359,37 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
         this.timeoutContext = timeoutContext;
     }
 
+    /**
+     * Does nothing. A session shares the caches of the datastore that started it so only that datastore may stop them.
+     */
+    @Override
+    public void shutdown() {
+    }
+
     @Override
     public void close() {
-        session.close();
+        try {
+            session.close();
+        } finally {
+            unitOfWork.clear();
+            operations.completed();
+        }
+    }
+
+    /**
+     * Writes the pending changes at the end of each attempt at a transaction. Entities tracked by a failed attempt are forgotten before
+     * the body is retried.
+     */
+    private <T> TransactionBody<T> flushing(TransactionBody<T> body) {
+        boolean[] retry = { false };
+        return () -> {
+            if (retry[0]) {
+                unitOfWork.clear();
+            }
+            retry[0] = true;
+            T result = body.execute();
+            unitOfWork.flush(null);
+            return result;
+        };
     }
 }
@@ -0,0 +1,469 @@
+package dev.morphia.transactions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.ModifyOptions;
+import dev.morphia.MorphiaDatastore.BsonOperations;
+import dev.morphia.MorphiaDatastore.DatastoreOperations;
+import dev.morphia.ReplaceOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.CachingOperations;
+import dev.morphia.cache.EntityCaches;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindAndDeleteOptions;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
+
+/**
+ * Tracks the entities loaded and saved through a session. Loading a tracked entity again returns the same instance without a query and
+ * saves made during a transaction are held back and written, along with any other changes made to tracked entities, as one bulk write
+ * per type just before the transaction commits. Pending changes to a collection are also written before any other query or write
+ * against it so that the server sees them. Tracked entities are forgotten when the transaction commits or aborts.
+ * <p>
+ * Changes are found by comparing an entity's encoded form against the one taken when it was loaded or last written. Lifecycle methods
+ * are not called when taking these snapshots.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class UnitOfWork extends BsonOperations {
+    private static final EncoderContext CONTEXT = EncoderContext.builder().build();
+
+    private final SessionDatastore datastore;
+    private final DatastoreOperations operations;
+    private final Map<String, Map<BsonValue, Tracked>> entities = new HashMap<>();
+    private final Set<Object> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Class<?>, Encoder> encoders = new HashMap<>();
+    private boolean enabled;
+    private boolean flushing;
+
+    /**
+     * @param datastore  the session
+     * @param operations the operations to delegate to
+     */
+    public UnitOfWork(SessionDatastore datastore, DatastoreOperations operations) {
+        this.datastore = datastore;
+        this.operations = operations;
+    }
+
+    /**
+     * Forgets every tracked entity and any unwritten changes.
+     */
+    public void clear() {
+        entities.clear();
+        pending.clear();
+    }
+
+    /**
+     * Holds back a save until the transaction commits. Saves are only held back while a transaction is active. New entities are given
+     * their IDs now so they can be used as soon as the save returns. Entities whose IDs can not be generated are written at once.
+     *
+     * @param list the entities to save
+     * @return true if the save has been held back
+     */
+    public boolean defer(List<?> list) {
+        if (!enabled || flushing || !datastore.hasActiveTransaction()) {
+            return false;
+        }
+        List<Object> ids = new ArrayList<>();
+        for (Object entity : list) {
+            Object id = getMapper().getId(entity);
+            if (id == null) {
+                Codec codec = datastore.getCodecRegistry().get(entity.getClass());
+                if (codec instanceof CollectibleCodec) {
+                    ((CollectibleCodec) codec).generateIdIfAbsentFromDocument(entity);
+                    id = getMapper().getId(entity);
+                }
+                if (id == null) {
+                    return false;
+                }
+            }
+            ids.add(id);
+        }
+        for (int i = 0; i < list.size(); i++) {
+            Object entity = list.get(i);
+            pending.add(entity);
+            entities.computeIfAbsent(collection(entity), name -> new LinkedHashMap<>())
+                    .put(key(ids.get(i)), new Tracked(entity, null));
+        }
+        return true;
+    }
+
+    /**
+     * Starts tracking entities
+     */
+    public void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Finds a tracked entity
+     *
+     * @param collection the collection name
+     * @param id         the encoded ID
+     * @param <T>        the entity type
+     * @return the entity or null if it is not tracked
+     */
+    @Nullable
+    public <T> T find(String collection, BsonValue id) {
+        Map<BsonValue, Tracked> tracked = entities.get(collection);
+        Tracked entry = tracked != null ? tracked.get(id) : null;
+        return entry != null ? (T) entry.entity : null;
+    }
+
+    /**
+     * Writes the held back saves and the changed entities.
+     *
+     * @param collection the collection to write or null to write every collection
+     */
+    public void flush(@Nullable String collection) {
+        if (!enabled || flushing) {
+            return;
+        }
+        Set<Object> dirty = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Object entity : pending) {
+            if (collection == null || collection.equals(collection(entity))) {
+                dirty.add(entity);
+            }
+        }
+        entities.forEach((name, tracked) -> {
+            if (collection == null || collection.equals(name)) {
+                for (Tracked entry : tracked.values()) {
+                    if (entry.snapshot == null || !Arrays.equals(entry.snapshot, snapshot(entry.entity))) {
+                        dirty.add(entry.entity);
+                    }
+                }
+            }
+        });
+        if (dirty.isEmpty()) {
+            return;
+        }
+        List<Object> list = new ArrayList<>(dirty);
+        flushing = true;
+        try {
+            datastore.save(list);
+        } finally {
+            flushing = false;
+        }
+        list.forEach(pending::remove);
+        list.forEach(this::register);
+    }
+
+    /**
+     * @return true if entities are being tracked
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Tracks an entity as it is loaded
+     *
+     * @param collection the collection name
+     * @param entity     the loaded entity
+     * @param <T>        the entity type
+     * @return the already tracked instance with the same ID if there is one, the given entity otherwise
+     */
+    public <T> T track(String collection, T entity) {
+        Object id = enabled ? getMapper().getId(entity) : null;
+        if (id == null) {
+            return entity;
+        }
+        Map<BsonValue, Tracked> tracked = entities.computeIfAbsent(collection, name -> new LinkedHashMap<>());
+        Tracked existing = tracked.putIfAbsent(key(id), new Tracked(entity, snapshot(entity)));
+        return existing != null ? (T) existing.entity : entity;
+    }
+
+    /**
+     * Tracks the entities returned by a cursor
+     *
+     * @param collection the collection name
+     * @param cursor     the cursor
+     * @param <T>        the entity type
+     * @return the tracking cursor
+     */
+    public <T> MongoCursor<T> trackAll(String collection, MongoCursor<T> cursor) {
+        return new TrackingCursor<>(collection, cursor);
+    }
+
+    @Override
+    public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+            BulkWriteOptions options) {
+        if (flushing) {
+            return operations.bulkWrite(collection, requests, options);
+        }
+        flush(name(collection));
+        BulkWriteResult result = operations.bulkWrite(collection, requests, options);
+        for (WriteModel<? extends T> request : requests) {
+            if (request instanceof ReplaceOneModel) {
+                register(((ReplaceOneModel<? extends T>) request).getReplacement());
+            } else {
+                Bson filter = CachingOperations.filter(request);
+                if (filter != null) {
+                    evict(collection, filter);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
+        flush(name(collection));
+        return operations.countDocuments(collection, query, options);
+    }
+
+    @Override
+    public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        flush(name(collection));
+        return evict(collection, query, operations.deleteMany(collection, query, options));
+    }
+
+    @Override
+    public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        flush(name(collection));
+        return evict(collection, query, operations.deleteOne(collection, query, options));
+    }
+
+    @Override
+    public <T> FindIterable<T> find(MongoCollection<T> collection, Bson query) {
+        if (EntityCaches.idQuery(query) == null) {
+            flush(name(collection));
+        }
+        return operations.find(collection, query);
+    }
+
+    @Override
+    public <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options) {
+        flush(name(collection));
+        return evict(collection, query, operations.findOneAndDelete(collection, query, options));
+    }
+
+    @Override
+    public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Document update, ModifyOptions options) {
+        flush(name(collection));
+        return evict(collection, query, operations.findOneAndUpdate(collection, query, update, options));
+    }
+
+    @Override
+    public <T> InsertManyResult insertMany(MongoCollection<T> collection, List<T> list, InsertManyOptions options) {
+        InsertManyResult result = operations.insertMany(collection, list, options);
+        list.forEach(this::register);
+        return result;
+    }
+
+    @Override
+    public <T> InsertOneResult insertOne(MongoCollection<T> collection, T entity, InsertOneOptions options) {
+        InsertOneResult result = operations.insertOne(collection, entity, options);
+        register(entity);
+        return result;
+    }
+
+    @Override
+    public <T> UpdateResult replaceOne(MongoCollection<T> collection, T entity, Document filter, ReplaceOptions options) {
+        UpdateResult result = operations.replaceOne(collection, entity, filter, options);
+        register(entity);
+        return result;
+    }
+
+    @Override
+    public Document runCommand(Document command) {
+        flush(null);
+        return operations.runCommand(command);
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+        flush(name(collection));
+        return evict(collection, query, operations.updateMany(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+        flush(name(collection));
+        return evict(collection, query, operations.updateMany(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Document updates, UpdateOptions options) {
+        flush(name(collection));
+        return evict(collection, query, operations.updateOne(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<Document> updates, UpdateOptions options) {
+        flush(name(collection));
+        return evict(collection, query, operations.updateOne(collection, query, updates, options));
+    }
+
+    private static String name(MongoCollection<?> collection) {
+        return collection.getNamespace().getCollectionName();
+    }
+
+    private String collection(Object entity) {
+        return getMapper().getEntityModel(entity.getClass()).collectionName();
+    }
+
+    /**
+     * Stops tracking the entities a write might have changed. Any instances already handed out are left as they are.
+     */
+    private void evict(MongoCollection<?> collection, Bson filter) {
+        Map<BsonValue, Tracked> tracked = entities.get(name(collection));
+        if (tracked == null) {
+            return;
+        }
+        List<BsonValue> ids = EntityCaches.ids(filter, datastore.getCodecRegistry());
+        if (ids == null) {
+            tracked.clear();
+        } else {
+            ids.forEach(tracked::remove);
+        }
+    }
+
+    private <R> R evict(MongoCollection<?> collection, Bson filter, R result) {
+        evict(collection, filter);
+        return result;
+    }
+
+    private Mapper getMapper() {
+        return datastore.getMapper();
+    }
+
+    private BsonValue key(Object id) {
+        return datastore.getCaches().key(id);
+    }
+
+    /**
+     * Tracks an entity as it was just written.
+     */
+    private void register(Object entity) {
+        if (!enabled || !getMapper().isMappable(entity.getClass())) {
+            return;
+        }
+        Object id = getMapper().getId(entity);
+        if (id != null) {
+            pending.remove(entity);
+            entities.computeIfAbsent(collection(entity), name -> new LinkedHashMap<>())
+                    .put(key(id), new Tracked(entity, snapshot(entity)));
+        }
+    }
+
+    private byte[] snapshot(Object entity) {
+        Encoder encoder = encoders.computeIfAbsent(entity.getClass(), type -> {
+            Encoder codec = datastore.getCodecRegistry().get(type);
+            return codec instanceof MorphiaCodec ? ((MorphiaCodec) codec).getPlainEncoder() : codec;
+        });
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            encoder.encode(writer, entity, CONTEXT);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static class Tracked {
+        private final Object entity;
+        @Nullable
+        private final byte[] snapshot;
+
+        Tracked(Object entity, @Nullable byte[] snapshot) {
+            this.entity = entity;
+            this.snapshot = snapshot;
+        }
+    }
+
+    private class TrackingCursor<T> implements MongoCursor<T> {
+        private final String collection;
+        private final MongoCursor<T> cursor;
+
+        TrackingCursor(String collection, MongoCursor<T> cursor) {
+            this.collection = collection;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public void close() {
+            cursor.close();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor.hasNext();
+        }
+
+        @Override
+        @NonNull
+        public T next() {
+            return track(collection, cursor.next());
+        }
+
+        @Override
+        public int available() {
+            return cursor.available();
+        }
+
+        @Override
+        @Nullable
+        public T tryNext() {
+            T next = cursor.tryNext();
+            return next != null ? track(collection, next) : null;
+        }
+
+        @Override
+        @Nullable
+        public ServerCursor getServerCursor() {
+            return cursor.getServerCursor();
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return cursor.getServerAddress();
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            cursor.forEachRemaining(entity -> action.accept(track(collection, entity)));
+        }
+    }
+}
@@ -5,6 +5,9 @@ import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 
+import dev.morphia.query.QueryLog;
+import dev.morphia.test.util.CommandCounter;
+
 import org.bson.UuidRepresentation;
 import org.testcontainers.containers.MongoDBContainer;
 
@@ -39,6 +42,8 @@ class MongoHolder implements AutoCloseable {
             mongoClient = MongoClients.create(builder()
                     .uuidRepresentation(UuidRepresentation.STANDARD)
                     .applyConnectionString(new ConnectionString(connectionString))
+                    .addCommandListener(QueryLog.instance())
+                    .addCommandListener(CommandCounter.instance())
                     .build());
 
             ServerAddress serverAddress = mongoClient.getClusterDescription().getClusterSettings().getHosts().get(0);
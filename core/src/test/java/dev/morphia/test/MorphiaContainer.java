@@ -25,6 +25,9 @@ public class MorphiaContainer {
     }
 
     public void reset() {
+        if (datastore != null) {
+            datastore.shutdown();
+        }
         database = null;
         datastore = null;
     }
@@ -1,5 +1,7 @@
 package dev.morphia.test;
 
+import java.util.List;
+
 import dev.morphia.Datastore;
 import dev.morphia.InsertOneOptions;
 import dev.morphia.MorphiaDatastore;
@@ -61,6 +63,32 @@ public class TestDatastoreMerge extends TestBase {
         Assert.assertEquals(te2.position, merge.position);
     }
 
+    @Test
+    public void testMergeList() {
+        final Merger first = new Merger();
+        first.name = "first";
+        first.position = 1;
+        final Merger second = new Merger();
+        second.name = "second";
+        second.position = 2;
+        getDs().save(List.of(first, second));
+
+        final Merger update1 = new Merger();
+        update1.id = first.id;
+        update1.position = 10;
+        final Merger update2 = new Merger();
+        update2.id = second.id;
+        update2.position = 20;
+        getDs().merge(List.of(update1, update2));
+
+        Merger merged = getDs().find(Merger.class).filter(eq("_id", first.id)).first();
+        Assert.assertEquals(merged.name, "first");
+        Assert.assertEquals(merged.position, Integer.valueOf(10));
+        merged = getDs().find(Merger.class).filter(eq("_id", second.id)).first();
+        Assert.assertEquals(merged.name, "second");
+        Assert.assertEquals(merged.position, Integer.valueOf(20));
+    }
+
     @Test
     public void testMergeWithUnset() {
         final Merger te = new Merger();
@@ -0,0 +1,104 @@
+package dev.morphia.test;
+
+import dev.morphia.annotations.Cached;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.cache.CacheStats;
+import dev.morphia.cache.EntityCache;
+import dev.morphia.test.models.Rectangle;
+
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.updates.UpdateOperators.set;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+
+public class TestEntityCache extends TestBase {
+
+    @Test
+    public void testCachedById() {
+        getMapper().map(CachedHotel.class);
+        CachedHotel hotel = new CachedHotel("Grand", 4);
+        getDs().save(hotel);
+
+        CachedHotel first = getDs().find(CachedHotel.class).filter(eq("_id", hotel.id)).first();
+        CachedHotel second = getDs().find(CachedHotel.class).filter(eq("_id", hotel.id)).first();
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotSame(first, second);
+        assertEquals(second.name, "Grand");
+
+        CacheStats stats = getDs().getCache(CachedHotel.class).stats();
+        assertEquals(stats.misses(), 1);
+        assertEquals(stats.hits(), 1);
+        assertEquals(stats.size(), 1);
+    }
+
+    @Test
+    public void testNonIdQueriesBypassCache() {
+        getMapper().map(CachedHotel.class);
+        getDs().save(new CachedHotel("Grand", 4));
+
+        assertNotNull(getDs().find(CachedHotel.class).filter(eq("name", "Grand")).first());
+
+        CacheStats stats = getDs().getCache(CachedHotel.class).stats();
+        assertEquals(stats.hits() + stats.misses(), 0);
+        assertEquals(stats.size(), 0);
+    }
+
+    @Test
+    public void testUncachedEntity() {
+        getMapper().map(Rectangle.class);
+        Rectangle rectangle = new Rectangle(1, 2);
+        getDs().save(rectangle);
+
+        assertNotNull(getDs().find(Rectangle.class).filter(eq("_id", rectangle.getId())).first());
+        assertNull(getDs().getCache(Rectangle.class));
+    }
+
+    @Test
+    public void testWritesInvalidate() {
+        getMapper().map(CachedHotel.class);
+        CachedHotel hotel = new CachedHotel("Grand", 4);
+        getDs().save(hotel);
+        EntityCache cache = getDs().getCache(CachedHotel.class);
+
+        getDs().find(CachedHotel.class).filter(eq("_id", hotel.id)).first();
+        assertEquals(cache.stats().size(), 1);
+
+        getDs().find(CachedHotel.class).filter(eq("_id", hotel.id)).update(set("stars", 5));
+        assertEquals(cache.stats().size(), 0);
+        assertEquals(getDs().find(CachedHotel.class).filter(eq("_id", hotel.id)).first().stars, 5);
+
+        hotel.stars = 3;
+        getDs().save(hotel);
+        assertEquals(cache.stats().size(), 0);
+        assertEquals(getDs().find(CachedHotel.class).filter(eq("_id", hotel.id)).first().stars, 3);
+
+        getDs().delete(hotel);
+        assertEquals(cache.stats().size(), 0);
+        assertNull(getDs().find(CachedHotel.class).filter(eq("_id", hotel.id)).first());
+    }
+
+    @Entity
+    @Cached(size = 10)
+    private static class CachedHotel {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int stars;
+
+        CachedHotel() {
+        }
+
+        CachedHotel(String name, int stars) {
+            this.name = name;
+            this.stars = stars;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package dev.morphia.test;
+
+import dev.morphia.metrics.Histogram;
+import dev.morphia.metrics.InMemoryMetrics;
+import dev.morphia.metrics.MetricEvent;
+import dev.morphia.metrics.NoOpMetrics;
+import dev.morphia.test.models.Rectangle;
+
+import org.testng.annotations.Test;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.updates.UpdateOperators.set;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestMetrics extends TestBase {
+
+    @Test
+    public void testDefault() {
+        assertTrue(getDs().getMetrics() instanceof NoOpMetrics);
+    }
+
+    @Test
+    public void testInMemoryMetrics() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        withConfig(buildConfig().metrics(metrics), () -> {
+            getDs().save(new Rectangle(1, 2));
+            getDs().find(Rectangle.class).filter(eq("width", 2)).update(set("height", 3));
+            assertNotNull(getDs().find(Rectangle.class).filter(eq("height", 3)).first());
+
+            assertEquals(histogram(metrics, MetricEvent.ENCODE).count(), 1);
+            assertEquals(histogram(metrics, MetricEvent.DECODE).count(), 1);
+            assertTrue(histogram(metrics, MetricEvent.QUERY_DOCUMENT).count() >= 2);
+            assertEquals(histogram(metrics, MetricEvent.UPDATE_DOCUMENT).count(), 1);
+            assertEquals(histogram(metrics, MetricEvent.INSERT).documents(), 1);
+            assertEquals(histogram(metrics, MetricEvent.UPDATE).documents(), 1);
+            assertEquals(histogram(metrics, MetricEvent.FIND).documents(), 1);
+
+            Histogram find = histogram(metrics, MetricEvent.FIND);
+            assertTrue(find.max() > 0);
+            assertTrue(find.percentile(50) <= find.max());
+        });
+    }
+
+    private static Histogram histogram(InMemoryMetrics metrics, MetricEvent event) {
+        Histogram histogram = metrics.histogram(event, Rectangle.class);
+        assertNotNull(histogram, event.name());
+        return histogram;
+    }
+}
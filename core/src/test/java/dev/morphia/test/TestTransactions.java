@@ -17,6 +17,7 @@ import dev.morphia.test.mapping.lazy.TestLazyCircularReference.ReferencedEntity;
 import dev.morphia.test.mapping.lazy.TestLazyCircularReference.RootEntity;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.User;
+import dev.morphia.test.util.CommandCounter;
 import dev.morphia.transactions.MorphiaSession;
 
 import org.bson.types.ObjectId;
@@ -30,7 +31,9 @@ import static com.mongodb.WriteConcern.MAJORITY;
 import static dev.morphia.query.updates.UpdateOperators.inc;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 //@Tags(@Tag("transactions"))
 public class TestTransactions extends dev.morphia.test.TemplatedTestBase {
@@ -286,6 +289,42 @@ public class TestTransactions extends dev.morphia.test.TemplatedTestBase {
         });
     }
 
+    @Test
+    public void trackEntities() {
+        Rectangle rectangle = new Rectangle(1, 1);
+        getDs().save(rectangle);
+        String collection = getMapper().getEntityModel(Rectangle.class).collectionName();
+        CommandCounter counter = CommandCounter.instance();
+
+        try (MorphiaSession session = getDs().startSession()) {
+            session.startTransaction();
+            session.trackEntities();
+            Rectangle loaded = session.find(Rectangle.class).filter(Filters.eq("_id", rectangle.getId())).first();
+
+            counter.reset();
+            assertSame(session.find(Rectangle.class).filter(Filters.eq("_id", rectangle.getId())).first(), loaded);
+            assertEquals(counter.count("find", collection), 0, "tracked entities should be found without a query");
+
+            loaded.setWidth(42);
+            Rectangle added = session.save(new Rectangle(5, 7));
+            assertNotNull(added.getId(), "deferred saves should assign IDs");
+            assertEquals(counter.count("insert", collection) + counter.count("update", collection), 0);
+            assertEquals(getDs().find(Rectangle.class).filter(Filters.eq("_id", rectangle.getId())).first().getWidth(), 1, 0.5);
+
+            counter.reset();
+            session.commitTransaction();
+            assertEquals(counter.count("update", collection), 1, "changes should be written with one bulk write");
+            assertEquals(counter.count("insert", collection), 0);
+
+            counter.reset();
+            assertNotSame(session.find(Rectangle.class).filter(Filters.eq("_id", rectangle.getId())).first(), loaded);
+            assertEquals(counter.count("find", collection), 1, "tracked entities should be forgotten when the transaction ends");
+        }
+
+        assertEquals(getDs().find(Rectangle.class).count(), 2);
+        assertEquals(getDs().find(Rectangle.class).filter(Filters.eq("_id", rectangle.getId())).first().getWidth(), 42, 0.5);
+    }
+
     @Test
     public void update() {
         Rectangle rectangle = new Rectangle(1, 1);
@@ -10,6 +10,7 @@ import com.mongodb.client.result.UpdateResult;
 
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.MissingIdException;
 import dev.morphia.ModifyOptions;
 import dev.morphia.UpdateOptions;
 import dev.morphia.VersionMismatchException;
@@ -19,6 +20,7 @@ import dev.morphia.annotations.IndexOptions;
 import dev.morphia.annotations.Indexed;
 import dev.morphia.annotations.Version;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.PropertyDiscovery;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
@@ -296,6 +298,82 @@ public class TestVersioning extends TestBase {
         assertThrows(VersionMismatchException.class, () -> getDs().save(initial));
     }
 
+    @Test
+    public void testMultiSavesRollbackMismatches() {
+        List<VersionedType> initial = of(new VersionedType(), new VersionedType());
+        getDs().save(initial);
+
+        VersionedType stale = initial.get(0);
+        VersionedType current = initial.get(1);
+        getDs().save(getDs().find(VersionedType.class)
+                .filter(eq("_id", stale.getId()))
+                .first());
+
+        assertThrows(VersionMismatchException.class, () -> getDs().save(of(stale, current)));
+        assertEquals(stale.version, 1);
+        assertEquals(current.version, 2);
+        assertEquals(getDs().find(VersionedType.class)
+                .filter(eq("_id", current.getId()))
+                .first().version, 2);
+    }
+
+    @Test
+    public void testMultiReplaces() {
+        List<VersionedType> initial = of(new VersionedType(), new VersionedType());
+        getDs().save(initial);
+
+        Query<VersionedType> query = getDs().find(VersionedType.class);
+        List<VersionedType> loaded = query.iterator().toList();
+        loaded.forEach(type -> type.text = "replaced");
+        getDs().replace(loaded);
+
+        List<VersionedType> replaced = query.iterator().toList();
+        for (int i = 0; i < replaced.size(); i++) {
+            assertEquals(replaced.get(i).id, initial.get(i).id);
+            assertEquals(replaced.get(i).version, 2);
+            assertEquals(replaced.get(i).text, "replaced");
+        }
+
+        assertThrows(VersionMismatchException.class, () -> getDs().replace(initial));
+        initial.forEach(type -> assertEquals(type.version, 1));
+
+        VersionedType unsaved = new VersionedType();
+        replaced.forEach(type -> type.text = "unwritten");
+        assertThrows(MissingIdException.class, () -> getDs().replace(of(replaced.get(0), unsaved)));
+        query.iterator().forEachRemaining(type -> assertEquals(type.text, "replaced"));
+    }
+
+    @Test
+    public void testMultiReplacesMismatchInLaterBatch() {
+        List<VersionedType> initial = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            initial.add(new VersionedType());
+        }
+        getDs().save(initial);
+
+        List<VersionedType> loaded = getDs().find(VersionedType.class).iterator().toList();
+        VersionedType stale = loaded.get(loaded.size() - 1);
+        getDs().replace(getDs().find(VersionedType.class).filter(eq("_id", stale.getId())).first());
+
+        assertThrows(VersionMismatchException.class, () -> getDs().replace(loaded));
+        assertEquals(stale.version, 1);
+        assertEquals(loaded.get(0).version, 2);
+    }
+
+    @Test
+    public void testMultiReplacesUnchanged() {
+        List<Unversioned> initial = of(new Unversioned("first"), new Unversioned("second"));
+        getDs().save(initial);
+
+        // the documents match but nothing in them changes
+        getDs().replace(initial);
+
+        Unversioned missing = new Unversioned("missing");
+        missing.setId(new ObjectId());
+        assertThrows(MappingException.class, () -> getDs().replace(of(initial.get(0), missing)));
+        assertEquals(getDs().find(Unversioned.class).count(), 2);
+    }
+
     @Test
     public void testPrimitive() {
         Primitive Primitive = new Primitive();
@@ -547,6 +625,17 @@ public class TestVersioning extends TestBase {
 
     }
 
+    private static class Unversioned extends TestEntity {
+        private String text;
+
+        Unversioned() {
+        }
+
+        Unversioned(String text) {
+            this.text = text;
+        }
+    }
+
     private static class VersionedType extends TestEntity {
         @Version
         private long version;
@@ -28,6 +28,7 @@ import dev.morphia.annotations.Property;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CityPopulation;
@@ -61,6 +62,25 @@ public class PathTargetTest extends TestBase {
         });
     }
 
+    @Test
+    public void cachedResolution() {
+        withTestConfig(List.of(State.class, CityPopulation.class), () -> {
+            Mapper mapper = getMapper();
+
+            PathTarget first = new PathTarget(mapper, State.class, "biggestCity.population");
+            Assert.assertEquals(first.translatedPath(), "biggestCity.pop");
+            Assert.assertNotNull(mapper.getPathCache().get(mapper.getEntityModel(State.class), "biggestCity.population", true));
+
+            PathTarget second = new PathTarget(mapper, State.class, "biggestCity.population");
+            Assert.assertEquals(second.translatedPath(), "biggestCity.pop");
+            Assert.assertSame(second.target(), first.target());
+
+            Assert.assertThrows(ValidationException.class,
+                    () -> new PathTarget(mapper, State.class, "biggestCity.missing").translatedPath());
+            Assert.assertNull(mapper.getPathCache().get(mapper.getEntityModel(State.class), "biggestCity.missing", true));
+        });
+    }
+
     @Test
     public void disableValidation() {
         withTestConfig(List.of(FatherEntity.class), () -> {
@@ -153,6 +153,20 @@ public class TestLifecycles extends TestBase {
         Assert.assertTrue(reloaded.isPersistent());
     }
 
+    @Test
+    public void testPreLoadDocumentChanges() {
+        withTestConfig(List.of(EditsDocument.class, LifecyleA.class, LifecycleB.class), () -> {
+            assertTrue(getMapper().getEntityModel(EditsDocument.class).loadUsesDocument(getMapper()));
+            assertFalse(getMapper().getEntityModel(LifecyleA.class).loadUsesDocument(getMapper()));
+
+            EditsDocument entity = new EditsDocument();
+            entity.name = "morphia";
+            getDs().save(entity);
+
+            Assert.assertEquals(getDs().find(EditsDocument.class).first().name, "MORPHIA");
+        });
+    }
+
     @Test
     public void testWithGeoJson() {
         final Polygon polygon = new Polygon(
@@ -211,6 +225,18 @@ public class TestLifecycles extends TestBase {
         }
     }
 
+    @Entity
+    private static class EditsDocument {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        @PreLoad
+        void preLoad(Document document) {
+            document.put("name", document.getString("name").toUpperCase());
+        }
+    }
+
     @SuppressWarnings("unused")
     @Entity(value = "polygon", useDiscriminator = false)
     private static class HoldsPolygon {
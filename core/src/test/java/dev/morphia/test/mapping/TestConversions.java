@@ -0,0 +1,146 @@
+package dev.morphia.test.mapping;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.codec.Conversions;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.test.TestBase;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class TestConversions extends TestBase {
+    @Test
+    public void testConversionTable() {
+        assertEquals(Conversions.conversions(long.class).keySet(), Set.of(BsonType.STRING, BsonType.DATE_TIME));
+        assertFalse(Conversions.conversions(int.class).containsKey(BsonType.DOUBLE), "doubles are read by the int codec");
+
+        Set<BsonType> strings = Conversions.conversions(String.class).keySet();
+        assertFalse(strings.contains(BsonType.STRING));
+        assertTrue(strings.containsAll(Set.of(BsonType.INT32, BsonType.INT64, BsonType.DOUBLE, BsonType.OBJECT_ID)));
+
+        assertTrue(Conversions.conversions(LocalDate.class).isEmpty());
+
+        EntityModel model = getMapper().map(Converted.class).get(0);
+        getDs().getCodecRegistry().get(Converted.class);
+        assertEquals(model.getProperty("count").getConversions().keySet(), Set.of(BsonType.STRING, BsonType.DATE_TIME));
+    }
+
+    @Test
+    public void testCustomCodecs() {
+        withTestConfig(buildConfig().codecProvider(new HexLongCodecProvider()), List.of(Converted.class), () -> {
+            getDs().getCodecRegistry().get(Converted.class);
+            PropertyModel property = getMapper().getEntityModel(Converted.class).getProperty("count");
+            assertTrue(property.getConversions().isEmpty(), "the custom codec reads strings itself");
+            assertFalse(getMapper().getEntityModel(Converted.class).getProperty("name").getConversions().isEmpty());
+
+            long count = conversions("count");
+            ObjectId id = new ObjectId();
+            insert(new Document("_id", id)
+                    .append("count", "2a"));
+
+            assertEquals(getDs().find(Converted.class).filter(eq("_id", id)).first().count, 42L);
+            assertEquals(conversions("count"), count);
+        });
+    }
+
+    @Test
+    public void testDirectConversions() {
+        getMapper().map(Converted.class);
+        long count = conversions("count");
+        long size = conversions("size");
+        long name = conversions("name");
+        ObjectId id = new ObjectId();
+        insert(new Document("_id", id)
+                .append("count", "42")
+                .append("size", 7)
+                .append("name", 12));
+
+        Converted loaded = getDs().find(Converted.class).filter(eq("_id", id)).first();
+        assertEquals(loaded.count, 42L);
+        assertEquals(loaded.size, 7);
+        assertEquals(loaded.name, "12");
+
+        assertEquals(conversions("count"), count + 1);
+        assertEquals(conversions("name"), name + 1);
+        assertEquals(conversions("size"), size, "ints are read directly");
+    }
+
+    @Test
+    public void testExceptionFallback() {
+        getMapper().map(Converted.class);
+        long size = conversions("size");
+        ObjectId id = new ObjectId();
+        // doubles are in the int codec's direct types but this one has a fraction so the codec rejects it
+        insert(new Document("_id", id)
+                .append("size", 2.5));
+
+        Converted loaded = getDs().find(Converted.class).filter(eq("_id", id)).first();
+        assertEquals(loaded.size, 2);
+        assertEquals(conversions("size"), size + 1);
+    }
+
+    private long conversions(String property) {
+        return getMapper().getConversionCounts().getOrDefault(Converted.class.getName() + "#" + property, 0L);
+    }
+
+    private void insert(Document document) {
+        getDatabase().getCollection(getMapper().getEntityModel(Converted.class).collectionName())
+                .insertOne(document);
+    }
+
+    private static class HexLongCodecProvider implements CodecProvider {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+            return clazz.equals(long.class) || clazz.equals(Long.class) ? (Codec<T>) new HexLongCodec() : null;
+        }
+    }
+
+    private static class HexLongCodec implements Codec<Long> {
+        @Override
+        public Long decode(BsonReader reader, DecoderContext decoderContext) {
+            return reader.getCurrentBsonType() == BsonType.STRING
+                    ? Long.parseLong(reader.readString(), 16)
+                    : reader.readInt64();
+        }
+
+        @Override
+        public void encode(BsonWriter writer, Long value, EncoderContext encoderContext) {
+            writer.writeString(Long.toHexString(value));
+        }
+
+        @Override
+        public Class<Long> getEncoderClass() {
+            return Long.class;
+        }
+    }
+
+    @Entity(useDiscriminator = false)
+    private static class Converted {
+        @Id
+        private ObjectId id;
+        private long count;
+        private int size;
+        private String name;
+    }
+}
@@ -1,11 +1,19 @@
 package dev.morphia.test.mapping;
 
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.NotMappableException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.test.TestBase;
+import dev.morphia.test.models.Hotel;
 import dev.morphia.test.models.generics.ChildEntity;
 
+import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
 import static java.lang.String.format;
@@ -13,6 +21,9 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 
 public class TestMapper extends TestBase {
     @Test
@@ -31,6 +42,38 @@ public class TestMapper extends TestBase {
         });
     }
 
+    @Test
+    public void testMappabilityCaching() {
+        withTestConfig(List.of(), () -> {
+            Mapper mapper = getMapper();
+            for (int i = 0; i < 2; i++) {
+                assertFalse(mapper.isMappable(String.class));
+                assertFalse(mapper.isMappable(NotAnEntity.class));
+                assertThrows(NotMappableException.class, () -> mapper.getEntityModel(NotAnEntity.class));
+                assertFalse(mapper.isMapped(NotAnEntity.class));
+            }
+
+            assertFalse(mapper.isMapped(Unmapped.class));
+            EntityModel model = mapper.getEntityModel(Unmapped.class);
+            assertTrue(mapper.isMapped(Unmapped.class), "A lookup before mapping should not be remembered as a miss");
+            assertSame(mapper.getEntityModel(Unmapped.class), model);
+        });
+    }
+
+    @Test
+    public void testProxyUnwrapping() {
+        withTestConfig(List.of(Hotel.class), () -> {
+            Mapper mapper = getMapper();
+            EntityModel model = mapper.getEntityModel(Hotel.class);
+            for (int i = 0; i < 2; i++) {
+                assertTrue(mapper.isMappable(ProxiedHotel.class));
+                assertSame(mapper.getEntityModel(ProxiedHotel.class), model);
+            }
+            assertFalse(mapper.isMapped(ProxiedHotel.class));
+            assertThrows(NotMappableException.class, () -> mapper.getEntityModel(MorphiaProxy.class));
+        });
+    }
+
     private static void assertModelNotSame(EntityModel originalEntity, EntityModel clonedEntity) {
         assertNotSame(originalEntity, clonedEntity,
                 format("The models for %s should not be the same object reference", clonedEntity.getType().getName()));
@@ -57,4 +100,25 @@ public class TestMapper extends TestBase {
                                 clonedEntity.getType().getName())));
     }
 
+    public static class NotAnEntity {
+    }
+
+    @Entity
+    public static class Unmapped {
+        @Id
+        private ObjectId id;
+    }
+
+    public static class ProxiedHotel extends Hotel implements MorphiaProxy {
+        @Override
+        public boolean isFetched() {
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T unwrap() {
+            return (T) this;
+        }
+    }
 }
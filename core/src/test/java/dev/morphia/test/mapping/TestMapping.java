@@ -1,14 +1,23 @@
 package dev.morphia.test.mapping;
 
+import java.io.IOException;
 import java.io.Serializable;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Collectors;
 
 import com.mongodb.client.model.Filters;
@@ -21,6 +30,7 @@ import dev.morphia.annotations.LoadOnly;
 import dev.morphia.annotations.Name;
 import dev.morphia.annotations.Transient;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.mapping.EntityIndex;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.NamingStrategy;
@@ -32,6 +42,7 @@ import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.test.TestBase;
+import dev.morphia.test.mapping.codec.pojo.EntityModelTest;
 import dev.morphia.test.mapping.shadowing.ShadowedChild;
 import dev.morphia.test.mapping.shadowing.ShadowedGrandChild;
 import dev.morphia.test.mapping.shadowing.ShadowedGrandParent;
@@ -39,10 +50,14 @@ import dev.morphia.test.models.Author;
 import dev.morphia.test.models.BannedUser;
 import dev.morphia.test.models.BlogImage;
 import dev.morphia.test.models.Book;
+import dev.morphia.test.models.Circle;
 import dev.morphia.test.models.CityPopulation;
 import dev.morphia.test.models.Jpg;
 import dev.morphia.test.models.MappedInterface;
 import dev.morphia.test.models.Png;
+import dev.morphia.test.models.Shape;
+import dev.morphia.test.models.Sphere;
+import dev.morphia.test.models.Square;
 import dev.morphia.test.models.State;
 import dev.morphia.test.models.TestEntity;
 import dev.morphia.test.models.User;
@@ -808,6 +823,124 @@ public class TestMapping extends TestBase {
         });
     }
 
+    @Test
+    public void testEntityIndex() throws Exception {
+        Path indexed = Files.createTempDirectory("entity-index");
+        Files.createDirectories(indexed.resolve("indexed/sub"));
+        Path index = indexed.resolve(EntityIndex.LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "indexed=indexed.Hotel\nindexed.sub=indexed.sub.Room\n");
+        Path split = Files.createTempDirectory("entity-index-split");
+        Files.createDirectories(split.resolve("indexed/sub"));
+        Files.createFile(split.resolve("indexed/sub/Suite.class"));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { indexed.toUri().toURL() }, null)) {
+            EntityIndex entityIndex = new EntityIndex(loader);
+            assertEquals(entityIndex.classes("indexed"), List.of("indexed.Hotel"));
+            assertEquals(entityIndex.classes("indexed.*"), List.of("indexed.Hotel", "indexed.sub.Room"));
+            assertNull(entityIndex.classes("other"));
+        }
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { indexed.toUri().toURL(), split.toUri().toURL() }, null)) {
+            EntityIndex entityIndex = new EntityIndex(loader);
+            assertEquals(entityIndex.classes("indexed"), List.of("indexed.Hotel"), "The split entry holds no classes in this package");
+            assertNull(entityIndex.classes("indexed.sub"), "Packages split across unindexed entries should be scanned");
+            assertNull(entityIndex.classes("indexed.*"), "Packages split across unindexed entries should be scanned");
+        }
+    }
+
+    @Test
+    public void testEntityIndexInJars() throws Exception {
+        Path dir = Files.createTempDirectory("entity-index-jars");
+        // neither jar has directory entries so the packages can only be found by listing the files
+        Path indexedJar = jar(dir.resolve("indexed.jar"), Map.of(
+                EntityIndex.LOCATION, "indexed=indexed.Hotel\nindexed.sub=indexed.sub.Room\n",
+                "indexed/Hotel.class", "",
+                "indexed/sub/Room.class", ""));
+        Path plainJar = jar(dir.resolve("plain.jar"), Map.of("indexed/sub/deeper/Suite.class", ""));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { indexedJar.toUri().toURL() }, null)) {
+            EntityIndex entityIndex = new EntityIndex(loader);
+            assertEquals(entityIndex.classes("indexed"), List.of("indexed.Hotel"));
+            assertEquals(entityIndex.classes("indexed.*"), List.of("indexed.Hotel", "indexed.sub.Room"));
+        }
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { indexedJar.toUri().toURL(), plainJar.toUri().toURL() }, null)) {
+            EntityIndex entityIndex = new EntityIndex(loader);
+            assertEquals(entityIndex.classes("indexed.sub"), List.of("indexed.sub.Room"));
+            assertNull(entityIndex.classes("indexed.*"), "Subpackages in unindexed jars should be found");
+            assertNull(entityIndex.classes("indexed.sub.*"), "Subpackages in unindexed jars should be found");
+        }
+    }
+
+    private static Path jar(Path path, Map<String, String> entries) throws IOException {
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(path))) {
+            for (Entry<String, String> entry : entries.entrySet()) {
+                jar.putNextEntry(new JarEntry(entry.getKey()));
+                jar.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                jar.closeEntry();
+            }
+        }
+        return path;
+    }
+
+    @Test
+    public void testPartialEntityIndex() throws Exception {
+        Path classes = Files.createTempDirectory("entity-index");
+        Path index = classes.resolve(EntityIndex.LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, Versioned.class.getPackageName() + "=" + Versioned.class.getName() + "\n");
+
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toUri().toURL() }, original)) {
+            Thread.currentThread().setContextClassLoader(loader);
+            Mapper mapper = new Mapper(getMapper().getConfig());
+            mapper.map(Versioned.class.getPackageName());
+
+            List<Class<?>> mapped = mapper.getMappedEntities().stream()
+                    .map(EntityModel::getType)
+                    .collect(toList());
+            assertTrue(mapped.contains(Versioned.class), mapped.toString());
+            assertTrue(mapped.contains(VersionedChildEntity.class), "The test classes hold the package without an index: " + mapped);
+
+            mapper.map(EntityModelTest.class.getPackageName());
+            assertTrue(mapper.getMappedEntities().stream()
+                    .anyMatch(model -> model.getType().getPackageName().equals(EntityModelTest.class.getPackageName())),
+                    "Packages missing from the index should be scanned");
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testParallelMapping() {
+        Mapper serial = new Mapper(getMapper().getConfig().parallelMapping(false));
+        serial.mapPackages(of(Shape.class.getPackageName(), Versioned.class.getPackageName()));
+        Mapper parallel = new Mapper(getMapper().getConfig().parallelMapping(true));
+        parallel.mapPackages(of(Shape.class.getPackageName(), Versioned.class.getPackageName()));
+
+        assertEquals(names(parallel.getMappedEntities()), names(serial.getMappedEntities()));
+        for (EntityModel model : serial.getMappedEntities()) {
+            assertEquals(names(parallel.getEntityModel(model.getType()).getSubtypes()), names(model.getSubtypes()),
+                    model.getType().getName());
+        }
+        assertEquals(names(parallel.getEntityModel(Shape.class).getSubtypes()),
+                List.of(Circle.class.getName(), Sphere.class.getName(), Square.class.getName()));
+    }
+
+    @Test
+    public void testParallelMappingLinksEarlierSubtypes() {
+        for (boolean parallel : List.of(false, true)) {
+            Mapper mapper = new Mapper(getMapper().getConfig().parallelMapping(parallel));
+            mapper.map(Sphere.class);
+            mapper.mapPackages(of(Shape.class.getPackageName()));
+
+            String message = parallel ? "parallel" : "serial";
+            assertEquals(names(mapper.getEntityModel(Circle.class).getSubtypes()), List.of(Sphere.class.getName()), message);
+            assertEquals(names(mapper.getEntityModel(Shape.class).getSubtypes()),
+                    List.of(Circle.class.getName(), Sphere.class.getName(), Square.class.getName()), message);
+            assertTrue(mapper.getEntityModel(Square.class).getSubtypes().isEmpty(), message);
+        }
+    }
+
     @Test
     public void testSubPackagesMapping() {
         // when
@@ -850,6 +983,13 @@ public class TestMapping extends TestBase {
         assertEquals(query.first(), expected, query.toString());
     }
 
+    private static List<String> names(Collection<EntityModel> models) {
+        return models.stream()
+                .map(model -> model.getType().getName())
+                .sorted()
+                .collect(toList());
+    }
+
     private void validateField(List<PropertyModel> fields, String mapped, String java) {
         assertNotNull(fields.stream().filter(f -> f.getMappedName().equals(mapped)
                 && f.getName().equals(java)),
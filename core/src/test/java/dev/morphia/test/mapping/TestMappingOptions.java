@@ -22,11 +22,13 @@ import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
 import static dev.morphia.Morphia.*;
+import static dev.morphia.mapping.DiscriminatorFunction.alias;
 import static dev.morphia.mapping.DiscriminatorFunction.lowerSimpleName;
 import static dev.morphia.mapping.NamingStrategy.lowerCase;
 import static dev.morphia.query.filters.Filters.ne;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
@@ -193,6 +195,26 @@ public class TestMappingOptions extends TestBase {
         });
     }
 
+    @Test
+    public void aliasDiscriminator() {
+        MorphiaDatastore datastore = (MorphiaDatastore) createDatastore(getMongoClient(),
+                MorphiaConfig.load()
+                        .database(getDatabase().getName())
+                        .discriminator(alias()));
+        datastore.getMapper().map(EntityDiscriminator.class, HasMap.class);
+
+        assertEquals(datastore.getMapper().getEntityModel(EntityDiscriminator.class).discriminator(), "h");
+        EntityModel entityModel = datastore.getMapper().getEntityModel(HasMap.class);
+        assertEquals(entityModel.discriminator(), "17azsf8");
+        assertEquals(datastore.getMapper().getClass(entityModel.discriminator()), HasMap.class);
+
+        datastore.save(new HasMap());
+        Document document = getDatabase().getCollection(entityModel.collectionName()).find().first();
+        assertNotNull(document);
+        assertEquals(document.get("_t"), "17azsf8");
+        assertNotNull(datastore.find(HasMap.class).first());
+    }
+
     @Test
     public void discriminator() {
         MorphiaDatastore datastore = (MorphiaDatastore) createDatastore(getMongoClient(),
@@ -34,6 +34,7 @@ import dev.morphia.test.models.FacebookUser;
 import dev.morphia.test.models.TestEntity;
 import dev.morphia.test.models.methods.MethodMappedFriend;
 import dev.morphia.test.models.methods.MethodMappedUser;
+import dev.morphia.test.util.CommandCounter;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -153,6 +154,30 @@ public class TestReferences extends ProxyTestBase {
                 .first();
     }
 
+    @Test
+    public final void testProxyClassesAreShared() {
+        checkForProxyTypes();
+
+        ReferencedEntity first = new ReferencedEntity();
+        ReferencedEntity second = new ReferencedEntity();
+        getDs().save(List.of(first, second));
+
+        RootEntity root = new RootEntity();
+        root.r = first;
+        root.secondReference = second;
+        getDs().save(root);
+
+        root = getDs().find(RootEntity.class)
+                .filter(eq("_id", root.getId()))
+                .first();
+
+        assertIsProxy(root.r);
+        assertIsProxy(root.secondReference);
+        assertSame(root.r.getClass(), root.secondReference.getClass());
+        assertEquals(root.secondReference.getId(), second.getId());
+        assertNotFetched(root.secondReference);
+    }
+
     @Test
     public final void testCallIdGetterWithoutFetching() {
         checkForProxyTypes();
@@ -207,6 +232,85 @@ public class TestReferences extends ProxyTestBase {
         assertEquals(loaded, parent);
     }
 
+    @Test
+    public void testBatchedReferences() {
+        List<Ref> refs = List.of(new Ref("a"), new Ref("b"), new Ref("c"));
+        getDs().save(refs);
+        List<Container> containers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            containers.add(new Container(List.of(refs.get(i % 3), refs.get((i + 1) % 3))));
+        }
+        getDs().save(containers);
+
+        String collection = getMapper().getEntityModel(Ref.class).collectionName();
+        CommandCounter.instance().reset();
+        List<Container> loaded = getDs().find(Container.class)
+                .iterator(new FindOptions()
+                        .batchReferences(true)
+                        .batchSize(2))
+                .toList();
+
+        assertEquals(CommandCounter.instance().count("find", collection), 3, "one query per page of 2 for 5 containers");
+        assertEquals(loaded.size(), containers.size());
+        for (Container container : loaded) {
+            assertNotNull(container.getSingleRef());
+            assertEquals(container.getCollectionRef().size(), 2);
+            assertEquals(container.getMapRef().size(), 2);
+            assertEquals(container.getCollectionRef().get(0), container.getSingleRef());
+            assertEquals(container.getMapRef().get(0), container.getSingleRef());
+        }
+    }
+
+    @Test
+    public void testBatchedEmbeddedReferences() {
+        List<Ref> refs = List.of(new Ref("a"), new Ref("b"), new Ref("c"));
+        getDs().save(refs);
+        List<Holder> holders = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Holder holder = new Holder();
+            holder.slot = new Slot(refs.get(i % 3));
+            holder.slots = List.of(new Slot(refs.get((i + 1) % 3)), new Slot(refs.get((i + 2) % 3)));
+            holder.slotMap = Map.of("key", new Slot(refs.get(i % 3)));
+            holders.add(holder);
+        }
+        getDs().save(holders);
+
+        String collection = getMapper().getEntityModel(Ref.class).collectionName();
+        CommandCounter.instance().reset();
+        List<Holder> loaded = getDs().find(Holder.class)
+                .iterator(new FindOptions()
+                        .batchReferences(true)
+                        .batchSize(10))
+                .toList();
+
+        assertEquals(CommandCounter.instance().count("find", collection), 1);
+        assertEquals(loaded.size(), holders.size());
+        for (Holder holder : loaded) {
+            assertNotNull(holder.slot.ref);
+            assertEquals(holder.slots.size(), 2);
+            holder.slots.forEach(slot -> assertNotNull(slot.ref));
+            assertEquals(holder.slotMap.get("key").ref, holder.slot.ref);
+        }
+    }
+
+    @Test
+    public void testBatchedReferencesToSharedCollection() {
+        getMapper().map(SharedNote.class, SharedTag.class, Tagged.class);
+        List<SharedTag> tags = List.of(new SharedTag("red"), new SharedTag("blue"));
+        getDs().save(tags);
+        Tagged tagged = new Tagged();
+        tagged.tags = tags;
+        getDs().save(tagged);
+
+        List<Tagged> loaded = getDs().find(Tagged.class)
+                .iterator(new FindOptions()
+                        .batchReferences(true))
+                .toList();
+
+        assertEquals(loaded.size(), 1);
+        assertEquals(loaded.get(0).tags, tags, "references decode as their declared type, not the first type mapped to the collection");
+    }
+
     @Test
     public void testDBRefSaves() {
         FacebookUser tom = new FacebookUser(1, "Tom Anderson");
@@ -956,6 +1060,53 @@ public class TestReferences extends ProxyTestBase {
         private String name;
     }
 
+    @Entity
+    private static class Holder {
+        @Id
+        private ObjectId id;
+        private Slot slot;
+        private List<Slot> slots;
+        private Map<String, Slot> slotMap;
+    }
+
+    @Entity(value = "shared", useDiscriminator = false)
+    private static class SharedNote {
+        @Id
+        private String id;
+        private String text;
+    }
+
+    @Entity(value = "shared", useDiscriminator = false)
+    private static class SharedTag {
+        @Id
+        private String id;
+
+        SharedTag() {
+        }
+
+        SharedTag(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SharedTag && Objects.equals(id, ((SharedTag) o).id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(id);
+        }
+    }
+
+    @Entity
+    private static class Tagged {
+        @Id
+        private ObjectId id;
+        @Reference(idOnly = true)
+        private List<SharedTag> tags;
+    }
+
     @Entity("cs")
     public static class MapOfSet {
         @Id
@@ -1175,6 +1326,19 @@ public class TestReferences extends ProxyTestBase {
         private Set<Ref> refs;
     }
 
+    @Entity
+    private static class Slot {
+        @Reference(idOnly = true)
+        private Ref ref;
+
+        Slot() {
+        }
+
+        Slot(Ref ref) {
+            this.ref = ref;
+        }
+    }
+
     @Entity
     static class Source {
         @Id
@@ -0,0 +1,157 @@
+package dev.morphia.test.mapping.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.codec.CachingCodecRegistry;
+import dev.morphia.mapping.codec.MorphiaCodecProvider;
+import dev.morphia.test.TestBase;
+import dev.morphia.test.models.Address;
+import dev.morphia.test.models.Hotel;
+import dev.morphia.test.models.Rectangle;
+import dev.morphia.test.models.User;
+
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class TestCachingCodecRegistry extends TestBase {
+    @Test
+    public void testConcurrentResolution() {
+        List<Class<?>> types = List.of(Hotel.class, Address.class, Rectangle.class, User.class);
+        withTestConfig(List.of(), () -> {
+            int threads = 8;
+            CodecRegistry registry = getDs().getCodecRegistry();
+            CyclicBarrier barrier = new CyclicBarrier(threads);
+            Map<Class<?>, Set<Codec<?>>> found = new ConcurrentHashMap<>();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        barrier.await();
+                        for (Class<?> type : types) {
+                            found.computeIfAbsent(type, k -> ConcurrentHashMap.newKeySet()).add(registry.get(type));
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            MorphiaCodecProvider provider = ((MorphiaDatastore) getDs()).morphiaCodecProviders.get(0);
+            for (Class<?> type : types) {
+                Set<Codec<?>> codecs = found.get(type);
+                assertEquals(codecs.size(), 1, "Every thread should see the same codec for " + type.getName());
+                Codec<?> codec = codecs.iterator().next();
+                assertSame(codec, provider.codecs().get(type));
+                assertSame(registry.get(type), codec);
+            }
+        });
+    }
+
+    @Test
+    public void testProvidersGetCachingRegistry() {
+        RegistryRecorder recorder = new RegistryRecorder();
+        withTestConfig(buildConfig().codecProvider(recorder), List.of(), () -> {
+            assertNotNull(getDs().getCodecRegistry().get(Tagged.class));
+            assertTrue(recorder.registry instanceof CachingCodecRegistry,
+                    "Providers should resolve their children through the caching registry");
+            assertSame(recorder.registry, getDs().getCodecRegistry());
+        });
+    }
+
+    @Test
+    public void testRecursiveTypes() {
+        withTestConfig(List.of(Parent.class), () -> {
+            Parent parent = new Parent();
+            parent.child = new Child();
+            parent.child.parent = new Parent();
+            parent.child.parent.name = "grandparent";
+            parent.child.self = new Child();
+            getDs().save(parent);
+
+            Parent loaded = getDs().find(Parent.class)
+                    .filter(eq("_id", parent.id))
+                    .first();
+            assertNotNull(loaded);
+            assertEquals(loaded.child.parent.name, "grandparent");
+            assertNotNull(loaded.child.self);
+        });
+    }
+
+    @Entity
+    public static class Parent {
+        @Id
+        private ObjectId id;
+        private String name;
+        private Child child;
+    }
+
+    @Entity
+    public static class Child {
+        private Parent parent;
+        private Child self;
+    }
+
+    public static class Tagged {
+    }
+
+    private static class RegistryRecorder implements CodecProvider {
+        private CodecRegistry registry;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+            if (!clazz.equals(Tagged.class)) {
+                return null;
+            }
+            this.registry = registry;
+            return (Codec<T>) new Codec<Tagged>() {
+                @Override
+                public Tagged decode(BsonReader reader, DecoderContext decoderContext) {
+                    reader.skipValue();
+                    return new Tagged();
+                }
+
+                @Override
+                public void encode(BsonWriter writer, Tagged value, EncoderContext encoderContext) {
+                    writer.writeNull();
+                }
+
+                @Override
+                public Class<Tagged> getEncoderClass() {
+                    return Tagged.class;
+                }
+            };
+        }
+    }
+}
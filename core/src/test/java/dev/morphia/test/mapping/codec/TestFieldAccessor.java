@@ -0,0 +1,95 @@
+package dev.morphia.test.mapping.codec;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import dev.morphia.mapping.codec.FieldAccessor;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class TestFieldAccessor {
+    @Test
+    public void testObjectField() throws NoSuchFieldException {
+        for (FieldAccessor accessor : accessors("name")) {
+            Fields fields = new Fields();
+
+            accessor.set(fields, "morphia");
+            assertEquals(accessor.get(fields), "morphia");
+            accessor.set(fields, null);
+            assertNull(accessor.get(fields));
+            assertNull(accessor.get(null));
+        }
+    }
+
+    @Test
+    public void testPrimitiveField() throws NoSuchFieldException {
+        for (FieldAccessor accessor : accessors("count")) {
+            Fields fields = new Fields();
+
+            accessor.set(fields, 42);
+            assertEquals(accessor.get(fields), 42);
+            assertEquals(fields.count, 42);
+        }
+    }
+
+    @Test
+    public void testWidening() throws NoSuchFieldException {
+        for (FieldAccessor accessor : accessors("total")) {
+            Fields fields = new Fields();
+
+            accessor.set(fields, 42);
+            assertEquals(fields.total, 42L);
+        }
+    }
+
+    @Test
+    public void testNullPrimitive() throws NoSuchFieldException {
+        for (FieldAccessor accessor : accessors("count")) {
+            Fields fields = new Fields();
+            fields.count = 7;
+
+            assertThrows(IllegalArgumentException.class, () -> accessor.set(fields, null));
+            assertEquals(fields.count, 7);
+        }
+    }
+
+    @Test
+    public void testMismatchedType() throws NoSuchFieldException {
+        for (FieldAccessor accessor : accessors("count")) {
+            assertThrows(IllegalArgumentException.class, () -> accessor.set(new Fields(), "42"));
+            assertThrows(IllegalArgumentException.class, () -> accessor.get("42"));
+        }
+    }
+
+    @Test
+    public void testConstantAccessors() throws NoSuchFieldException {
+        FieldAccessor count = FieldAccessor.of(Fields.class.getDeclaredField("count"));
+        FieldAccessor total = FieldAccessor.of(Fields.class.getDeclaredField("total"));
+
+        assertTrue(count.getClass().isHidden());
+        assertNotSame(count.getClass(), total.getClass(), "Each field should get its own class");
+
+        Fields fields = new Fields();
+        count.set(fields, 1);
+        total.set(fields, 2L);
+        assertEquals(count.get(fields), 1);
+        assertEquals(total.get(fields), 2L);
+    }
+
+    private static List<FieldAccessor> accessors(String name) throws NoSuchFieldException {
+        Field field = Fields.class.getDeclaredField(name);
+        return List.of(new FieldAccessor(field), FieldAccessor.of(field));
+    }
+
+    private static class Fields {
+        private String name;
+        private int count;
+        private long total;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.UUID;
 
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
+import dev.morphia.annotations.LoadOnly;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.test.TestBase;
@@ -14,10 +15,21 @@ import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
+import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 public class EntityModelTest extends TestBase {
+    @Test
+    public void testEncodedProperties() {
+        EntityModel model = getMapper().mapEntity(HasLoadOnly.class);
+        PropertyModel[] properties = model.getEncodedProperties();
+        assertEquals(properties[0], model.getIdProperty());
+        assertEquals(stream(properties).map(PropertyModel::getName).collect(joining(", ")), "id, name, count");
+        assertSame(model.getEncodedProperties(), properties);
+    }
+
     @Test
     public void testFindParameterization() {
         EntityModel model = getMapper().mapEntity(Child.class);
@@ -65,6 +77,16 @@ public class EntityModelTest extends TestBase {
                 .deleteMany(new Document());
     }
 
+    @Entity
+    private static class HasLoadOnly {
+        private String name;
+        @LoadOnly
+        private String legacy;
+        @Id
+        private ObjectId id;
+        private int count;
+    }
+
     @Entity
     private static class Base<T> {
         @Id
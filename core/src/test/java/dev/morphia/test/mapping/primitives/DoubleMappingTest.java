@@ -8,6 +8,7 @@ import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.test.TestBase;
 
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -15,6 +16,34 @@ import org.testng.annotations.Test;
 import static dev.morphia.query.filters.Filters.eq;
 
 public class DoubleMappingTest extends TestBase {
+    @Test
+    public void testLargeAndMixedValues() {
+        getMapper().map(Doubles.class);
+        final Doubles ent = new Doubles();
+        ent.primitiveArray = new double[10_000];
+        for (int i = 0; i < ent.primitiveArray.length; i++) {
+            ent.primitiveArray[i] = i / 3.0;
+            ent.listWrapper.add(i / 7.0);
+        }
+        getDs().save(ent);
+
+        Doubles loaded = getDs().find(Doubles.class)
+                .filter(eq("_id", ent.id))
+                .first();
+        Assert.assertEquals(loaded.primitiveArray, ent.primitiveArray, 0.0);
+        Assert.assertEquals(loaded.listWrapper, ent.listWrapper);
+
+        getDatabase().getCollection(getMapper().getEntityModel(Doubles.class).collectionName())
+                .updateOne(new Document("_id", ent.id), new Document("$set", new Document("primitiveArray", List.of(1, 2.5, 3L))
+                        .append("listWrapper", List.of(4, 5.5, 6L))));
+
+        loaded = getDs().find(Doubles.class)
+                .filter(eq("_id", ent.id))
+                .first();
+        Assert.assertEquals(loaded.primitiveArray, new double[] { 1.0, 2.5, 3.0 }, 0.0);
+        Assert.assertEquals(loaded.listWrapper, List.of(4.0, 5.5, 6.0));
+    }
+
     @Test
     public void testMapping() {
         getMapper().map(Doubles.class);
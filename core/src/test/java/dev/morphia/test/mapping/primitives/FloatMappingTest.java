@@ -8,6 +8,7 @@ import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.test.TestBase;
 
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -49,6 +50,22 @@ public class FloatMappingTest extends TestBase {
         Assert.assertEquals(loaded.nestedWrapperArray, ent.nestedWrapperArray);
     }
 
+    @Test
+    public void testNullAndMixedElements() {
+        getMapper().map(Floats.class);
+        final Floats ent = new Floats();
+        getDs().save(ent);
+
+        getDatabase().getCollection(getMapper().getEntityModel(Floats.class).collectionName())
+                .updateOne(new Document("_id", ent.id), new Document("$set", new Document("primitiveArray",
+                        Arrays.asList(1.5, null, 2, 3L))));
+
+        final Floats loaded = getDs().find(Floats.class)
+                .filter(eq("_id", ent.id))
+                .first();
+        Assert.assertEquals(loaded.primitiveArray, new float[] { 1.5f, 0.0f, 2.0f, 3.0f }, 0.0f);
+    }
+
     @Entity
     private static class Floats {
         private final List<Float[]> listWrapperArray = new ArrayList<>();
@@ -7,6 +7,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
 import java.util.StringJoiner;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -14,6 +16,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.mongodb.CursorType;
 import com.mongodb.MongoNamespace;
@@ -33,17 +36,26 @@ import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Reference;
 import dev.morphia.query.CountOptions;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.MorphiaQuery;
+import dev.morphia.query.Page;
+import dev.morphia.query.PageRequest;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
+import dev.morphia.query.QueryLog;
 import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
+import dev.morphia.test.models.Circle;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CustomId;
+import dev.morphia.test.models.Hotel;
+import dev.morphia.test.models.PhoneNumber;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.Student;
 import dev.morphia.test.models.UsesCustomIdObject;
 
 import org.awaitility.Awaitility;
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
@@ -57,14 +69,17 @@ import static dev.morphia.query.Sort.naturalDescending;
 import static dev.morphia.query.filters.Filters.and;
 import static dev.morphia.query.filters.Filters.elemMatch;
 import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.exists;
 import static dev.morphia.query.filters.Filters.gt;
 import static dev.morphia.query.filters.Filters.gte;
 import static dev.morphia.query.filters.Filters.in;
 import static dev.morphia.query.filters.Filters.lt;
 import static dev.morphia.query.filters.Filters.ne;
 import static dev.morphia.query.filters.Filters.or;
+import static dev.morphia.query.filters.Filters.param;
 import static dev.morphia.query.filters.Filters.regex;
 import static dev.morphia.test.DriverVersion.v46;
+import static java.lang.String.format;
 import static java.time.LocalDate.now;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.copyOfRange;
@@ -139,6 +154,184 @@ public class TestQuery extends TestBase {
         assertTrue(sum > 0, sum + "");
     }
 
+    @Test
+    public void testKeysetPagination() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            rectangles.add(new Rectangle(i, i % 5));
+        }
+        getDs().save(rectangles);
+
+        List<Rectangle> found = new ArrayList<>();
+        PageRequest request = new PageRequest(7)
+                .options(new FindOptions().sort(descending("width")));
+        Page<Rectangle> page;
+        int pages = 0;
+        do {
+            page = getDs().find(Rectangle.class)
+                    .filter(gte("height", 5))
+                    .page(request);
+            page.forEach(found::add);
+            request.after(page.next());
+            pages++;
+        } while (page.hasNext());
+
+        assertEquals(pages, 3);
+        assertEquals(found.size(), 20);
+        assertEquals(found.stream().map(Rectangle::getHeight).distinct().count(), 20);
+        for (int i = 1; i < found.size(); i++) {
+            assertTrue(found.get(i - 1).getWidth() >= found.get(i).getWidth(), found.toString());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> getDs().find(Rectangle.class)
+                .page(new PageRequest(5).options(new FindOptions().skip(10))));
+        assertThrows(IllegalArgumentException.class, () -> getDs().find(Rectangle.class)
+                .page(new PageRequest(5).after("bogus")));
+    }
+
+    @Test
+    public void testParallelStreams() {
+        List<HasIntId> entities = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entities.add(new HasIntId(i));
+        }
+        getDs().save(entities);
+
+        try (Stream<HasIntId> stream = getDs().find(HasIntId.class).stream()) {
+            Set<Integer> ids = stream.parallel()
+                    .map(entity -> entity.id)
+                    .collect(Collectors.toSet());
+            assertEquals(ids.size(), 1000);
+        }
+
+        try (Stream<HasIntId> stream = getDs().find(HasIntId.class)
+                .filter(lt("_id", 100))
+                .stream()) {
+            assertEquals(stream.parallel().count(), 100);
+        }
+
+        try (Stream<HasIntId> stream = getDs().find(HasIntId.class).stream(new FindOptions().limit(10))) {
+            assertEquals(stream.parallel().count(), 10);
+        }
+
+        try (Stream<HasIntId> stream = getDs().find(HasIntId.class).stream()) {
+            Spliterator<HasIntId> suffix = stream.spliterator();
+            Spliterator<HasIntId> first = suffix.trySplit();
+            assertNotNull(first);
+            Spliterator<HasIntId> second = suffix.trySplit();
+            assertNotNull(second);
+
+            List<List<Integer>> partitions = new ArrayList<>();
+            for (Spliterator<HasIntId> spliterator : List.of(first, second, suffix)) {
+                List<Integer> ids = new ArrayList<>();
+                spliterator.forEachRemaining(entity -> ids.add(entity.id));
+                assertFalse(ids.isEmpty());
+                partitions.add(ids);
+            }
+            for (int i = 1; i < partitions.size(); i++) {
+                int previous = partitions.get(i - 1).stream().max(Integer::compare).orElseThrow();
+                int next = partitions.get(i).stream().min(Integer::compare).orElseThrow();
+                assertTrue(previous < next, format("Partition %d overlaps the one before it", i));
+            }
+            assertEquals(partitions.stream().mapToInt(List::size).sum(), 1000);
+        }
+
+        String namespace = getDs().getCollection(HasIntId.class).getNamespace().getFullName();
+        try (Stream<HasIntId> stream = getDs().find(HasIntId.class).stream(new FindOptions().batchSize(10))) {
+            Spliterator<HasIntId> suffix = stream.spliterator();
+            Spliterator<HasIntId> prefix = suffix.trySplit();
+            assertNotNull(prefix);
+            assertTrue(prefix.tryAdvance(entity -> {
+            }));
+            assertTrue(suffix.tryAdvance(entity -> {
+            }));
+            assertEquals(idleCursors(namespace), 2);
+        }
+        assertEquals(idleCursors(namespace), 0, "Closing the stream should close the cursors of every partition");
+    }
+
+    private long idleCursors(String namespace) {
+        return getMongoClient().getDatabase("admin")
+                .aggregate(List.of(new Document("$currentOp", new Document("idleCursors", true)),
+                        new Document("$match", new Document("type", "idleCursor").append("ns", namespace))))
+                .into(new ArrayList<>())
+                .size();
+    }
+
+    @Test
+    public void testPreparedQuery() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            rectangles.add(new Rectangle(i, i % 4));
+        }
+        getDs().save(rectangles);
+
+        PreparedQuery<Rectangle> prepared = getDs().find(Rectangle.class)
+                .filter(eq("width", param("width")),
+                        or(gte("height", param("min")), lt("height", param("max"))))
+                .prepare();
+        assertEquals(prepared.parameters(), Set.of("width", "min", "max"));
+
+        for (int width = 0; width < 4; width++) {
+            Query<Rectangle> query = prepared.bind(Map.of("width", (double) width, "min", 16.0, "max", 4.0));
+            Query<Rectangle> expected = getDs().find(Rectangle.class)
+                    .filter(eq("width", (double) width),
+                            or(gte("height", 16.0), lt("height", 4.0)));
+            assertTrue(expected.count() > 0);
+            assertEquals(query.count(), expected.count());
+        }
+
+        assertEquals(getDs().find(Rectangle.class)
+                .filter(gt("height", param("height")))
+                .prepare()
+                .bind("height", 17.5)
+                .count(), 2);
+
+        assertThrows(IllegalArgumentException.class, () -> prepared.bind("width", 1.0));
+        assertThrows(IllegalArgumentException.class, () -> prepared.bind(Map.of("width", 1.0, "min", 1.0, "max", 1.0, "depth", 1.0)));
+    }
+
+    @Test
+    public void testEncodedQueries() {
+        getMapper().map(Hotel.class, Circle.class, Rectangle.class);
+        List<Query<?>> queries = List.of(
+                getDs().find(Hotel.class).filter(eq("name", "Hilton"), gt("stars", 3), in("tags", List.of("pool", "spa"))),
+                getDs().find(Hotel.class).filter(eq("address.street", "Main"),
+                        or(eq("type", Hotel.Type.BUSINESS), ne("takesCreditCards", true))),
+                getDs().find(Hotel.class).filter(elemMatch("phoneNumbers", eq("type", PhoneNumber.Type.FAX)), regex("name", "^Hil")),
+                getDs().find(Hotel.class).filter(eq("_id", new ObjectId()), exists("name").not()),
+                getDs().find(Circle.class).filter(gt("radius", 2.0)),
+                getDs().find(Rectangle.class).filter(gte("height", 2.0), lt("height", 4.0)));
+
+        for (Query<?> query : queries) {
+            Document encoded = ((MorphiaQuery<?>) query.prepare().bind(Map.of())).toDocument();
+            Document built = ((MorphiaQuery<?>) query).toDocument();
+            assertEquals(encoded.toBsonDocument(Document.class, getDs().getCodecRegistry()),
+                    built.toBsonDocument(Document.class, getDs().getCodecRegistry()), built.toJson());
+        }
+    }
+
+    @Test
+    public void testLoggedQueryCapturedOnClient() {
+        getDs().save(new Rectangle(1, 2));
+
+        Query<Rectangle> query = getDs().find(Rectangle.class).filter(eq("width", 2));
+        assertThrows(IllegalStateException.class, query::getLoggedQuery);
+
+        FindOptions options = new FindOptions().logQuery().limit(1);
+        assertNotNull(query.first(options));
+        assertTrue(query.getLoggedQuery().contains("\"w\": 2"), query.getLoggedQuery());
+
+        BsonDocument command = QueryLog.instance().command(options.queryLogId());
+        assertNotNull(command);
+        assertEquals(command.getString("find").getValue(), getDs().getCollection(Rectangle.class).getNamespace().getCollectionName());
+        assertEquals(command.getInt32("limit").getValue(), 1);
+        assertNull(command.get("lsid"));
+
+        Document profile = getDatabase().runCommand(new Document("profile", -1));
+        assertEquals(profile.get("was", Number.class).intValue(), 0);
+    }
+
     @Test
     public void multiKeyValueQueries() {
         checkMinDriverVersion(v46);
@@ -866,6 +1059,32 @@ public class TestQuery extends TestBase {
         Query<ContainsRenamedFields> query = getDs().find(ContainsRenamedFields.class);
     }
 
+    @Test
+    public void testProjectionSkipsUnmappedFields() {
+        List<Integer> audit = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            audit.add(i);
+        }
+        ObjectId id = new ObjectId();
+        getDocumentCollection(ContainsRenamedFields.class).insertOne(new Document("_id", id)
+                .append("audit", audit)
+                .append("first_name", "Frank")
+                .append("last_name", "Zappa")
+                .append("extra", new Document("nested", audit)));
+
+        ContainsRenamedFields found = getDs().find(ContainsRenamedFields.class)
+                .first(new FindOptions()
+                        .projection().include("firstName"));
+        assertNotNull(found);
+        assertEquals(found.id, id);
+        assertEquals(found.firstName, "Frank");
+        assertNull(found.lastName);
+
+        found = getDs().find(ContainsRenamedFields.class).first();
+        assertNotNull(found);
+        assertEquals(found.lastName, "Zappa");
+    }
+
     @Test
     public void testProjectArrayField() {
         int[] ints = { 0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30 };
@@ -0,0 +1,58 @@
+package dev.morphia.test.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+import org.bson.BsonValue;
+
+/**
+ * Counts the commands sent by the test client by command name and target collection so tests can assert how many round trips an
+ * operation takes.
+ */
+public final class CommandCounter implements CommandListener {
+    private static final CommandCounter INSTANCE = new CommandCounter();
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    private CommandCounter() {
+    }
+
+    /**
+     * @return the counter registered with the test client
+     */
+    public static CommandCounter instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        BsonValue target = event.getCommand().get(event.getCommandName());
+        String collection = target != null && target.isString() ? target.asString().getValue() : "";
+        counts.computeIfAbsent(key(event.getCommandName(), collection), k -> new LongAdder()).increment();
+    }
+
+    /**
+     * @param command    the command name, e.g. {@code find}
+     * @param collection the collection the command targeted
+     * @return the number of matching commands sent since the last {@link #reset()}
+     */
+    public long count(String command, String collection) {
+        LongAdder adder = counts.get(key(command, collection));
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * Discards all counts
+     */
+    public void reset() {
+        counts.clear();
+    }
+
+    private static String key(String command, String collection) {
+        return command + ":" + collection;
+    }
+}
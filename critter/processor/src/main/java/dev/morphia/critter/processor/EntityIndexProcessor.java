@@ -0,0 +1,140 @@
+package dev.morphia.critter.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes an index of the {@code @Entity} and {@code @ExternalEntity} types in each compiled package to
+ * {@value #LOCATION}. Morphia reads this index when mapping packages instead of scanning the classpath. Every package compiled is
+ * recorded, even those without entities, so that Morphia knows the index covers it. Entries from a previous compilation in to the same
+ * output directory are kept as long as their types still exist so incremental builds do not lose them.
+ *
+ * @since 3.0
+ */
+@SupportedAnnotationTypes("*")
+public class EntityIndexProcessor extends AbstractProcessor {
+    /**
+     * The location of the generated index. This must match {@code dev.morphia.mapping.EntityIndex}.
+     */
+    public static final String LOCATION = "META-INF/morphia/entity-index";
+
+    private static final Set<String> MAPPING_ANNOTATIONS = Set.of("dev.morphia.annotations.Entity",
+            "dev.morphia.annotations.ExternalEntity");
+
+    private final Map<String, Set<String>> packages = new TreeMap<>();
+    private final Set<String> compiled = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!packages.isEmpty()) {
+                merge();
+                write();
+            }
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                if (element instanceof TypeElement) {
+                    index((TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void index(TypeElement type) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        Set<String> classes = packages.computeIfAbsent(processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString(),
+                k -> new TreeSet<>());
+        compiled.add(binaryName);
+        if (type.getKind() != ElementKind.ANNOTATION_TYPE && isEntity(type)) {
+            classes.add(binaryName);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            if (enclosed instanceof TypeElement) {
+                index((TypeElement) enclosed);
+            }
+        }
+    }
+
+    private boolean isEntity(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            Element annotation = mirror.getAnnotationType().asElement();
+            if (MAPPING_ANNOTATIONS.contains(((TypeElement) annotation).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        if (isEntity(type.getSuperclass())) {
+            return true;
+        }
+        for (TypeMirror anInterface : type.getInterfaces()) {
+            if (isEntity(anInterface)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isEntity(TypeMirror mirror) {
+        return mirror instanceof DeclaredType && isEntity((TypeElement) ((DeclaredType) mirror).asElement());
+    }
+
+    private void merge() {
+        Properties previous = new Properties();
+        try {
+            FileObject resource = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", LOCATION);
+            try (InputStream stream = resource.openInputStream()) {
+                previous.load(stream);
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            return;
+        }
+        previous.stringPropertyNames().forEach(packageName -> {
+            Set<String> classes = packages.computeIfAbsent(packageName, k -> new TreeSet<>());
+            for (String name : previous.getProperty(packageName).split(",")) {
+                String className = name.trim();
+                if (!className.isEmpty() && !compiled.contains(className)
+                        && processingEnv.getElementUtils().getTypeElement(className.replace('$', '.')) != null) {
+                    classes.add(className);
+                }
+            }
+        });
+    }
+
+    private void write() {
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", LOCATION);
+            try (Writer writer = resource.openWriter()) {
+                for (Map.Entry<String, Set<String>> entry : packages.entrySet()) {
+                    writer.write(entry.getKey() + "=" + String.join(",", entry.getValue()) + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write the entity index: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package dev.morphia.critter.processor;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import dev.morphia.annotations.Entity;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class TestEntityIndexProcessor {
+
+    @Test
+    public void testIndex() throws IOException {
+        Path sources = Files.createTempDirectory("sources");
+        Path output = Files.createTempDirectory("classes");
+        write(sources, "com/example/Book.java", "package com.example; @dev.morphia.annotations.Entity public class Book {"
+                + " @dev.morphia.annotations.Entity public static class Chapter {} }");
+        write(sources, "com/example/Novel.java", "package com.example; public class Novel extends Book {}");
+        write(sources, "com/example/Helper.java", "package com.example; public class Helper {}");
+        write(sources, "com/example/util/Util.java", "package com.example.util; public class Util {}");
+
+        compile(output, sources.resolve("com/example/Book.java"), sources.resolve("com/example/Novel.java"),
+                sources.resolve("com/example/Helper.java"), sources.resolve("com/example/util/Util.java"));
+
+        Properties index = read(output);
+        assertEquals(index.getProperty("com.example"), "com.example.Book,com.example.Book$Chapter,com.example.Novel");
+        assertEquals(index.getProperty("com.example.util"), "");
+    }
+
+    @Test
+    public void testIncrementalCompile() throws IOException {
+        Path sources = Files.createTempDirectory("sources");
+        Path output = Files.createTempDirectory("classes");
+        write(sources, "com/example/Book.java", "package com.example; @dev.morphia.annotations.Entity public class Book {}");
+        write(sources, "com/example/Author.java", "package com.example; @dev.morphia.annotations.Entity public class Author {}");
+        compile(output, sources.resolve("com/example/Book.java"), sources.resolve("com/example/Author.java"));
+
+        write(sources, "com/example/Author.java", "package com.example; public class Author {}");
+        compile(output, sources.resolve("com/example/Author.java"));
+
+        assertEquals(read(output).getProperty("com.example"), "com.example.Book");
+    }
+
+    private static void compile(Path output, Path... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(List.of("-d", output.toString(),
+                "-classpath", annotations() + File.pathSeparator + output,
+                "-processor", EntityIndexProcessor.class.getName()));
+        for (Path source : sources) {
+            arguments.add(source.toString());
+        }
+        assertEquals(compiler.run(null, null, null, arguments.toArray(new String[0])), 0);
+    }
+
+    private static String annotations() {
+        try {
+            return Path.of(Entity.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Properties read(Path output) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream stream = new FileInputStream(output.resolve(EntityIndexProcessor.LOCATION).toFile())) {
+            properties.load(stream);
+        }
+        return properties;
+    }
+
+    private static void write(Path root, String name, String source) throws IOException {
+        Path path = root.resolve(name);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, source);
+    }
+}
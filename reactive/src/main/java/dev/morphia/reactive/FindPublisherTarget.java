@@ -0,0 +1,151 @@
+package dev.morphia.reactive;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.cursor.TimeoutMode;
+import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.FindPublisher;
+
+import dev.morphia.internal.FindTarget;
+
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+/**
+ * Applies {@link dev.morphia.query.FindOptions} to a {@link FindPublisher}.
+ */
+final class FindPublisherTarget implements FindTarget {
+    private final FindPublisher<?> publisher;
+
+    FindPublisherTarget(FindPublisher<?> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public FindTarget allowDiskUse(@Nullable Boolean allowDiskUse) {
+        publisher.allowDiskUse(allowDiskUse);
+        return this;
+    }
+
+    @Override
+    public FindTarget batchSize(int batchSize) {
+        publisher.batchSize(batchSize);
+        return this;
+    }
+
+    @Override
+    public FindTarget collation(@Nullable Collation collation) {
+        publisher.collation(collation);
+        return this;
+    }
+
+    @Override
+    public FindTarget comment(@Nullable BsonValue comment) {
+        publisher.comment(comment);
+        return this;
+    }
+
+    @Override
+    public FindTarget cursorType(CursorType cursorType) {
+        publisher.cursorType(cursorType);
+        return this;
+    }
+
+    @Override
+    public FindTarget hint(@Nullable Bson hint) {
+        publisher.hint(hint);
+        return this;
+    }
+
+    @Override
+    public FindTarget hintString(@Nullable String hint) {
+        publisher.hintString(hint);
+        return this;
+    }
+
+    @Override
+    public FindTarget let(@Nullable Bson variables) {
+        publisher.let(variables);
+        return this;
+    }
+
+    @Override
+    public FindTarget limit(int limit) {
+        publisher.limit(limit);
+        return this;
+    }
+
+    @Override
+    public FindTarget max(@Nullable Bson max) {
+        publisher.max(max);
+        return this;
+    }
+
+    @Override
+    public FindTarget maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit) {
+        publisher.maxAwaitTime(maxAwaitTime, timeUnit);
+        return this;
+    }
+
+    @Override
+    public FindTarget maxTime(long maxTime, TimeUnit timeUnit) {
+        publisher.maxTime(maxTime, timeUnit);
+        return this;
+    }
+
+    @Override
+    public FindTarget min(@Nullable Bson min) {
+        publisher.min(min);
+        return this;
+    }
+
+    @Override
+    public FindTarget noCursorTimeout(boolean noCursorTimeout) {
+        publisher.noCursorTimeout(noCursorTimeout);
+        return this;
+    }
+
+    @Override
+    public FindTarget partial(boolean partial) {
+        publisher.partial(partial);
+        return this;
+    }
+
+    @Override
+    public FindTarget projection(@Nullable Bson projection) {
+        publisher.projection(projection);
+        return this;
+    }
+
+    @Override
+    public FindTarget returnKey(boolean returnKey) {
+        publisher.returnKey(returnKey);
+        return this;
+    }
+
+    @Override
+    public FindTarget showRecordId(boolean showRecordId) {
+        publisher.showRecordId(showRecordId);
+        return this;
+    }
+
+    @Override
+    public FindTarget skip(int skip) {
+        publisher.skip(skip);
+        return this;
+    }
+
+    @Override
+    public FindTarget sort(@Nullable Bson sort) {
+        publisher.sort(sort);
+        return this;
+    }
+
+    @Override
+    public FindTarget timeoutMode(TimeoutMode timeoutMode) {
+        publisher.timeoutMode(timeoutMode);
+        return this;
+    }
+}
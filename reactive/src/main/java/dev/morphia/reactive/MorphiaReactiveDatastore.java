@@ -0,0 +1,182 @@
+package dev.morphia.reactive;
+
+import java.util.List;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.MorphiaDatastore.VersionBumpInfo;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.aggregation.codecs.ResultCodec;
+import dev.morphia.aggregation.stages.Stage;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.config.MorphiaConfig;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.reactivestreams.Publisher;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static java.util.stream.Collectors.toList;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+/**
+ * The default {@link ReactiveDatastore}. Mapping is handled by a {@link MorphiaDatastore} created without a client so its mapper,
+ * codecs, and query building are shared while all I/O goes through the Reactive Streams driver.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class MorphiaReactiveDatastore implements ReactiveDatastore {
+    private final MorphiaDatastore datastore;
+    private final MongoDatabase database;
+
+    /**
+     * @param client the reactive client
+     * @param config the config
+     */
+    public MorphiaReactiveDatastore(MongoClient client, MorphiaConfig config) {
+        MongoDatabase clientDatabase = client.getDatabase(config.database());
+        datastore = new MorphiaDatastore(clientDatabase.getCodecRegistry(), config);
+        database = clientDatabase.withCodecRegistry(datastore.getCodecRegistry());
+    }
+
+    @Override
+    public <S, R> Publisher<R> aggregate(Class<S> source, Class<R> resultType, List<Stage> stages) {
+        return Publishers.defer(() -> {
+            MongoCollection<S> collection = getCollection(source);
+            List<Document> pipeline = stages.stream()
+                    .map(stage -> DocumentWriter.encode(stage, getMapper(), getCodecRegistry()))
+                    .collect(toList());
+            Mapper mapper = getMapper();
+            if (mapper.isMappable(resultType) && !resultType.equals(source)) {
+                EntityModel sourceModel = mapper.getEntityModel(source);
+                EntityModel target = mapper.getEntityModel(resultType);
+                ResultCodec<R> codec = new ResultCodec<>(getCodecRegistry().get(resultType),
+                        sourceModel.discriminatorKey().equals(target.discriminatorKey()));
+                return collection.withDocumentClass(resultType)
+                        .withCodecRegistry(fromRegistries(fromCodecs(codec), getCodecRegistry()))
+                        .aggregate(pipeline, resultType);
+            }
+            return collection.aggregate(pipeline, resultType);
+        });
+    }
+
+    @Override
+    public <T> Publisher<DeleteResult> delete(T entity, DeleteOptions options) {
+        if (entity instanceof Class<?>) {
+            throw new MappingException(Sofia.deleteWithClass(entity.getClass().getName()));
+        }
+        Object id = getMapper().getId(entity);
+        return id != null
+                ? find(entity.getClass())
+                        .filter(eq("_id", id))
+                        .delete(options)
+                : Publishers.just(DeleteResult.acknowledged(0));
+    }
+
+    @Override
+    public <T> ReactiveQuery<T> find(Class<T> type) {
+        return new MorphiaReactiveQuery<>(this, type);
+    }
+
+    @Override
+    public <T> MongoCollection<T> getCollection(Class<T> type) {
+        EntityModel entityModel = getMapper().getEntityModel(type);
+        MongoCollection<T> collection = database.getCollection(entityModel.collectionName(), type);
+
+        Entity annotation = entityModel.getEntityAnnotation();
+        if (annotation != null && !annotation.concern().equals("")) {
+            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
+        }
+        return collection;
+    }
+
+    @Override
+    public MongoDatabase getDatabase() {
+        return database;
+    }
+
+    @Override
+    public Mapper getMapper() {
+        return datastore.getMapper();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Publisher<T> insert(T entity, InsertOneOptions options) {
+        return Publishers.defer(() -> {
+            MongoCollection<T> collection = configure(getCollection((Class<T>) entity.getClass()), options.collection(),
+                    options.writeConcern());
+            return Publishers.map(collection.insertOne(entity, options.driver()), result -> entity);
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Publisher<T> save(T entity, InsertOneOptions options) {
+        return Publishers.defer(() -> {
+            MongoCollection<T> collection = configure(getCollection((Class<T>) entity.getClass()), options.collection(),
+                    options.writeConcern());
+            EntityModel model = getMapper().getEntityModel(entity.getClass());
+            PropertyModel idProperty = model.getIdProperty();
+            Object id = idProperty != null ? idProperty.getValue(entity) : null;
+            VersionBumpInfo info = datastore.updateVersioning(entity);
+
+            if (id == null || info.versioned() && info.newVersion() == 1) {
+                return Publishers.map(collection.insertOne(entity, options.driver()), result -> entity, e -> info.rollbackVersion());
+            }
+
+            ReplaceOptions replaceOptions = new ReplaceOptions()
+                    .bypassDocumentValidation(options.bypassDocumentValidation())
+                    .upsert(!info.versioned());
+            return Publishers.map(collection.replaceOne(datastore.replaceFilter(model, entity, id, info), entity, replaceOptions), result -> {
+                if (info.versioned() && result.getModifiedCount() != 1) {
+                    throw new VersionMismatchException(entity.getClass(), id);
+                }
+                return entity;
+            }, e -> info.rollbackVersion());
+        });
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MorphiaReactiveDatastore{database=%s}", database.getName());
+    }
+
+    CodecRegistry getCodecRegistry() {
+        return datastore.getCodecRegistry();
+    }
+
+    MorphiaDatastore getMappingDatastore() {
+        return datastore;
+    }
+
+    <T> MongoCollection<T> configure(MongoCollection<T> collection, @Nullable String name, @Nullable WriteConcern writeConcern) {
+        if (name != null) {
+            collection = database.getCollection(name, collection.getDocumentClass());
+        }
+        if (writeConcern != null) {
+            collection = collection.withWriteConcern(writeConcern);
+        }
+        return collection;
+    }
+}
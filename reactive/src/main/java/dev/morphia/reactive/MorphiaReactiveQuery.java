@@ -0,0 +1,160 @@
+package dev.morphia.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Operations;
+import dev.morphia.query.ValidationException;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.query.internal.QueryDocument;
+import dev.morphia.query.updates.UpdateOperator;
+
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+
+import static java.util.Arrays.asList;
+
+/**
+ * The default {@link ReactiveQuery}. The query document is built just as {@link dev.morphia.query.Query} builds it.
+ *
+ * @param <T> the type of the query
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class MorphiaReactiveQuery<T> implements ReactiveQuery<T> {
+    private final MorphiaReactiveDatastore datastore;
+    private final Class<T> type;
+    private final Mapper mapper;
+    private final List<Filter> filters = new ArrayList<>();
+    private boolean validate = true;
+    @Nullable
+    private ValidationException invalid;
+
+    MorphiaReactiveQuery(MorphiaReactiveDatastore datastore, Class<T> type) {
+        this.datastore = datastore;
+        this.type = type;
+        this.mapper = datastore.getMapper();
+    }
+
+    @Override
+    public Publisher<Long> count(CountOptions options) {
+        return Publishers.defer(() -> {
+            MongoCollection<T> collection = read(options.collection(), options.readPreference(), options.readConcern());
+            return collection.countDocuments(toDocument(), options);
+        });
+    }
+
+    @Override
+    public Publisher<DeleteResult> delete(DeleteOptions options) {
+        return Publishers.defer(() -> {
+            MongoCollection<T> collection = datastore.configure(datastore.getCollection(type), options.collection(),
+                    options.writeConcern());
+            return options.multi()
+                    ? collection.deleteMany(toDocument(), options)
+                    : collection.deleteOne(toDocument(), options);
+        });
+    }
+
+    @Override
+    public ReactiveQuery<T> disableValidation() {
+        validate = false;
+        return this;
+    }
+
+    @Override
+    public ReactiveQuery<T> filter(Filter... additional) {
+        for (Filter filter : additional) {
+            filters.add(filter
+                    .entityType(type)
+                    .isValidating(validate));
+        }
+        return this;
+    }
+
+    @Override
+    public Publisher<T> first(FindOptions options) {
+        return Publishers.defer(() -> find(options).first());
+    }
+
+    @Override
+    public Publisher<T> publisher(FindOptions options) {
+        return Publishers.defer(() -> find(options));
+    }
+
+    @Override
+    public Document toDocument() {
+        if (invalid != null) {
+            throw invalid;
+        }
+        try {
+            return QueryDocument.build(mapper, datastore.getCodecRegistry(), type, filters, null);
+        } catch (ValidationException e) {
+            invalid = e;
+            throw e;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", MorphiaReactiveQuery.class.getSimpleName() + "[", "]")
+                .add("type=" + type.getSimpleName())
+                .add("filters=" + filters)
+                .toString();
+    }
+
+    @Override
+    public Publisher<UpdateResult> update(UpdateOptions options, UpdateOperator... updates) {
+        return Publishers.defer(() -> {
+            EntityModel entityModel = mapper.getEntityModel(type);
+            Operations operations = new Operations(datastore.getMappingDatastore(), entityModel, asList(updates), validate);
+            Document updateOperations = operations.toDocument(datastore.getMappingDatastore());
+
+            Document query = toDocument();
+            if (options.isUpsert() && entityModel.useDiscriminator()) {
+                query.put(entityModel.discriminatorKey(), entityModel.discriminator());
+            }
+
+            MongoCollection<T> collection = datastore.configure(datastore.getCollection(type), options.collection(),
+                    options.writeConcern());
+            return options.multi()
+                    ? collection.updateMany(query, updateOperations, options)
+                    : collection.updateOne(query, updateOperations, options);
+        });
+    }
+
+    private FindPublisher<T> find(FindOptions options) {
+        MongoCollection<T> collection = read(options.collection(), options.readPreference(), options.readConcern());
+        FindPublisher<T> publisher = collection.find(toDocument());
+        options.apply(new FindPublisherTarget(publisher), mapper, type);
+        return publisher;
+    }
+
+    private MongoCollection<T> read(@Nullable String name, @Nullable ReadPreference readPreference, @Nullable ReadConcern readConcern) {
+        MongoCollection<T> collection = datastore.configure(datastore.getCollection(type), name, null);
+        if (readPreference != null) {
+            collection = collection.withReadPreference(readPreference);
+        }
+        if (readConcern != null) {
+            collection = collection.withReadConcern(readConcern);
+        }
+        return collection;
+    }
+}
@@ -0,0 +1,141 @@
+package dev.morphia.reactive;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Small adapters over the driver's publishers so results can be mapped without pulling in a reactive library.
+ */
+final class Publishers {
+    private Publishers() {
+    }
+
+    /**
+     * Defers building a publisher until it is subscribed to. Work such as bumping a version number then happens once per subscription
+     * rather than when the operation is requested. Failures while building the publisher are delivered to the subscriber.
+     */
+    static <T> Publisher<T> defer(Supplier<Publisher<T>> supplier) {
+        return subscriber -> {
+            Publisher<T> publisher;
+            try {
+                publisher = supplier.get();
+            } catch (RuntimeException e) {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(e);
+                return;
+            }
+            publisher.subscribe(subscriber);
+        };
+    }
+
+    /**
+     * Emits a single value once requested and then completes.
+     */
+    static <T> Publisher<T> just(T value) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (n <= 0) {
+                    subscriber.onError(new IllegalArgumentException("§3.9: the number of requested items must be positive"));
+                } else {
+                    subscriber.onNext(value);
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+    }
+
+    static <S, R> Publisher<R> map(Publisher<S> source, Function<S, R> function) {
+        return map(source, function, e -> {
+        });
+    }
+
+    /**
+     * Maps each item of the source. If the function throws, the upstream subscription is cancelled and the exception is delivered as
+     * the error.
+     *
+     * @param onError called with any error before it is passed downstream
+     */
+    static <S, R> Publisher<R> map(Publisher<S> source, Function<S, R> function, Consumer<Throwable> onError) {
+        return subscriber -> source.subscribe(new MappingSubscriber<>(subscriber, function, onError));
+    }
+
+    private static class MappingSubscriber<S, R> implements Subscriber<S> {
+        private final Subscriber<? super R> downstream;
+        private final Function<S, R> function;
+        private final Consumer<Throwable> errorHandler;
+        private Subscription subscription;
+        private boolean done;
+
+        MappingSubscriber(Subscriber<? super R> downstream, Function<S, R> function, Consumer<Throwable> onError) {
+            this.downstream = downstream;
+            this.function = function;
+            this.errorHandler = onError;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(S item) {
+            if (done) {
+                return;
+            }
+            R mapped;
+            try {
+                mapped = function.apply(item);
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                onError(e);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            errorHandler.accept(throwable);
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package dev.morphia.reactive;
+
+import java.util.List;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.aggregation.stages.Stage;
+import dev.morphia.mapping.Mapper;
+
+import org.reactivestreams.Publisher;
+
+/**
+ * Datastore interface returning {@link Publisher}s rather than blocking for results. Entities are mapped and queries are built exactly
+ * as they are for {@link dev.morphia.Datastore} so only the I/O differs.
+ * <p>
+ * Nothing is sent to the server until a returned publisher is subscribed to. References are not loaded by this API and caps, indexes,
+ * and document validations are not applied when the datastore is created.
+ *
+ * @since 3.0
+ */
+public interface ReactiveDatastore {
+    /**
+     * Runs an aggregation against the collection mapped for the source type
+     *
+     * @param source     the type to aggregate
+     * @param resultType the type of the results
+     * @param stages     the stages of the pipeline
+     * @param <S>        the source type
+     * @param <R>        the result type
+     * @return the results
+     */
+    <S, R> Publisher<R> aggregate(Class<S> source, Class<R> resultType, List<Stage> stages);
+
+    /**
+     * Deletes the given entity (by @Id)
+     *
+     * @param entity the entity to delete
+     * @param <T>    the entity type
+     * @return results of the delete
+     */
+    default <T> Publisher<DeleteResult> delete(T entity) {
+        return delete(entity, new DeleteOptions());
+    }
+
+    /**
+     * Deletes the given entity (by @Id)
+     *
+     * @param entity  the entity to delete
+     * @param options the options to use when deleting
+     * @param <T>     the entity type
+     * @return results of the delete
+     */
+    <T> Publisher<DeleteResult> delete(T entity, DeleteOptions options);
+
+    /**
+     * Find all instances by type
+     *
+     * @param type the class to use for querying
+     * @param <T>  the type to query
+     * @return the query
+     */
+    <T> ReactiveQuery<T> find(Class<T> type);
+
+    /**
+     * @param type the type look up
+     * @param <T>  the type of the collection
+     * @return the collection mapped for this class
+     */
+    <T> MongoCollection<T> getCollection(Class<T> type);
+
+    /**
+     * @return the MongoDatabase used by this datastore
+     */
+    MongoDatabase getDatabase();
+
+    /**
+     * @return the Mapper used by this datastore
+     */
+    Mapper getMapper();
+
+    /**
+     * Inserts an entity in to the mapped collection.
+     *
+     * @param entity the entity to insert
+     * @param <T>    the type of the entity
+     * @return the entity once inserted
+     */
+    default <T> Publisher<T> insert(T entity) {
+        return insert(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Inserts an entity in to the mapped collection.
+     *
+     * @param entity  the entity to insert
+     * @param options the options to apply to the insert operation
+     * @param <T>     the type of the entity
+     * @return the entity once inserted
+     */
+    <T> Publisher<T> insert(T entity, InsertOneOptions options);
+
+    /**
+     * Saves an entity (Object) and updates the @Id field. Versioned entities are checked against the stored version and the publisher
+     * fails with a {@link dev.morphia.VersionMismatchException} if the stored version has changed.
+     *
+     * @param entity the entity to save
+     * @param <T>    the type of the entity
+     * @return the entity once saved
+     */
+    default <T> Publisher<T> save(T entity) {
+        return save(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Saves an entity (Object) and updates the @Id field. Versioned entities are checked against the stored version and the publisher
+     * fails with a {@link dev.morphia.VersionMismatchException} if the stored version has changed.
+     *
+     * @param entity  the entity to save
+     * @param options the options to apply to the save operation
+     * @param <T>     the type of the entity
+     * @return the entity once saved
+     */
+    <T> Publisher<T> save(T entity, InsertOneOptions options);
+}
@@ -0,0 +1,37 @@
+package dev.morphia.reactive;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+
+import dev.morphia.config.MorphiaConfig;
+
+/**
+ * Entry point for working with Morphia using the Reactive Streams driver
+ *
+ * @since 3.0
+ */
+public final class ReactiveMorphia {
+
+    private ReactiveMorphia() {
+    }
+
+    /**
+     * Creates a ReactiveDatastore configured via config file
+     *
+     * @param mongoClient the client to use
+     * @return a ReactiveDatastore that you can use to interact with MongoDB
+     */
+    public static ReactiveDatastore createDatastore(MongoClient mongoClient) {
+        return new MorphiaReactiveDatastore(mongoClient, MorphiaConfig.load());
+    }
+
+    /**
+     * Creates a ReactiveDatastore
+     *
+     * @param mongoClient the client to use
+     * @param config      the configuration to use
+     * @return a ReactiveDatastore that you can use to interact with MongoDB
+     */
+    public static ReactiveDatastore createDatastore(MongoClient mongoClient, MorphiaConfig config) {
+        return new MorphiaReactiveDatastore(mongoClient, config);
+    }
+}
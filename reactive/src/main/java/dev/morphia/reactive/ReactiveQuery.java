@@ -0,0 +1,130 @@
+package dev.morphia.reactive;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.query.updates.UpdateOperator;
+
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+
+/**
+ * A query whose results are delivered through {@link Publisher}s. Filters and updates are encoded with the same codecs used by
+ * {@link dev.morphia.query.Query}.
+ *
+ * @param <T> the type of the query
+ * @since 3.0
+ */
+public interface ReactiveQuery<T> {
+    /**
+     * Counts the number of documents matching this query.
+     *
+     * @return the count
+     */
+    default Publisher<Long> count() {
+        return count(new CountOptions());
+    }
+
+    /**
+     * Counts the number of documents matching this query.
+     *
+     * @param options the options to apply
+     * @return the count
+     */
+    Publisher<Long> count(CountOptions options);
+
+    /**
+     * Deletes the first document matching this query.
+     *
+     * @return results of the delete
+     */
+    default Publisher<DeleteResult> delete() {
+        return delete(new DeleteOptions());
+    }
+
+    /**
+     * Deletes the documents matching this query. Only the first match is deleted unless {@link DeleteOptions#multi(boolean)} is set.
+     *
+     * @param options the options to apply
+     * @return results of the delete
+     */
+    Publisher<DeleteResult> delete(DeleteOptions options);
+
+    /**
+     * Turns off validation of the field names and types used in the filters of this query
+     *
+     * @return this
+     */
+    ReactiveQuery<T> disableValidation();
+
+    /**
+     * Adds filters to this query. This operation is cumulative.
+     *
+     * @param filters the filters to add
+     * @return this
+     */
+    ReactiveQuery<T> filter(Filter... filters);
+
+    /**
+     * Gets the first entity matching this query
+     *
+     * @return the only instance in the result, or nothing if the result set is empty.
+     */
+    default Publisher<T> first() {
+        return first(new FindOptions());
+    }
+
+    /**
+     * Gets the first entity matching this query
+     *
+     * @param options the options to apply to the find operation
+     * @return the only instance in the result, or nothing if the result set is empty.
+     */
+    Publisher<T> first(FindOptions options);
+
+    /**
+     * Executes the query
+     *
+     * @return the matching entities
+     */
+    default Publisher<T> publisher() {
+        return publisher(new FindOptions());
+    }
+
+    /**
+     * Executes the query
+     *
+     * @param options the options to apply to the find operation
+     * @return the matching entities
+     */
+    Publisher<T> publisher(FindOptions options);
+
+    /**
+     * @return the document form of this query
+     */
+    Document toDocument();
+
+    /**
+     * Updates the first document matching this query.
+     *
+     * @param updates the updates to apply
+     * @return the results
+     */
+    default Publisher<UpdateResult> update(UpdateOperator... updates) {
+        return update(new UpdateOptions(), updates);
+    }
+
+    /**
+     * Updates the documents matching this query. Only the first match is updated unless {@link UpdateOptions#multi(boolean)} is set.
+     *
+     * @param options the options to apply
+     * @param updates the updates to apply
+     * @return the results
+     */
+    Publisher<UpdateResult> update(UpdateOptions options, UpdateOperator... updates);
+}
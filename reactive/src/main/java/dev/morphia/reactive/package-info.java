@@ -0,0 +1,7 @@
+/**
+ * A non-blocking datastore built on the Reactive Streams driver. Mapping and query building are shared with the synchronous API.
+ */
+@NonNullApi
+package dev.morphia.reactive;
+
+import com.mongodb.lang.NonNullApi;
@@ -0,0 +1,225 @@
+package dev.morphia.test.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Version;
+import dev.morphia.config.MorphiaConfig;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Sort;
+import dev.morphia.reactive.ReactiveDatastore;
+import dev.morphia.reactive.ReactiveMorphia;
+import dev.morphia.test.TestBase;
+
+import org.bson.UuidRepresentation;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.stages.Group.group;
+import static dev.morphia.aggregation.stages.Group.id;
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.gte;
+import static dev.morphia.query.updates.UpdateOperators.inc;
+import static java.util.List.of;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class TestReactiveDatastore extends TestBase {
+    private MongoClient client;
+    private ReactiveDatastore datastore;
+
+    @BeforeMethod
+    public void reactive() {
+        if (client == null) {
+            client = MongoClients.create(MongoClientSettings.builder()
+                    .applyToClusterSettings(builder -> builder.applySettings(getMongoClient().getClusterDescription().getClusterSettings()))
+                    .uuidRepresentation(UuidRepresentation.STANDARD)
+                    .build());
+            datastore = ReactiveMorphia.createDatastore(client, MorphiaConfig.load()
+                    .database(TEST_DB_NAME)
+                    .packages(of(Hero.class.getPackageName())));
+        }
+    }
+
+    @AfterClass
+    public void close() {
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    @Test
+    public void testAggregate() {
+        await(datastore.insert(new Hero("Bilbo", 3)));
+        await(datastore.insert(new Hero("Frodo", 4)));
+        await(datastore.insert(new Hero("Frodo", 5)));
+
+        List<Total> totals = await(datastore.aggregate(Hero.class, Total.class, of(
+                group(id("$name"))
+                        .field("total", sum("$level")))));
+
+        assertEquals(totals.size(), 2);
+        for (Total total : totals) {
+            assertEquals(total.total, total.id.equals("Frodo") ? 9 : 3);
+        }
+    }
+
+    @Test
+    public void testFind() {
+        for (int i = 0; i < 10; i++) {
+            await(datastore.insert(new Hero("Hero " + i, i)));
+        }
+
+        assertEquals(await(datastore.find(Hero.class).count()).get(0), 10L);
+        assertEquals(await(datastore.find(Hero.class).filter(gte("level", 5)).count()).get(0), 5L);
+
+        List<Hero> heroes = await(datastore.find(Hero.class)
+                .filter(gte("level", 3))
+                .publisher(new FindOptions()
+                        .sort(Sort.descending("level"))
+                        .skip(1)
+                        .limit(2)));
+        assertEquals(heroes.size(), 2);
+        assertEquals(heroes.get(0).level, 8);
+        assertEquals(heroes.get(1).level, 7);
+
+        List<Hero> first = await(datastore.find(Hero.class).filter(eq("name", "Hero 4")).first());
+        assertEquals(first.size(), 1);
+        assertEquals(first.get(0).level, 4);
+        assertTrue(await(datastore.find(Hero.class).filter(eq("name", "Nobody")).first()).isEmpty());
+    }
+
+    @Test
+    public void testInsert() {
+        Hero hero = await(datastore.insert(new Hero("Samwise", 1))).get(0);
+        assertNotNull(hero.id);
+
+        Hero loaded = getDs().find(Hero.class)
+                .filter(eq("_id", hero.id))
+                .first();
+        assertNotNull(loaded);
+        assertEquals(loaded.name, "Samwise");
+    }
+
+    @Test
+    public void testSaveVersioned() {
+        Hero hero = await(datastore.save(new Hero("Aragorn", 10))).get(0);
+        assertEquals(hero.version, 1L);
+
+        hero.level = 20;
+        await(datastore.save(hero));
+        assertEquals(hero.version, 2L);
+
+        Hero stale = await(datastore.find(Hero.class).first()).get(0);
+        stale.version = 1L;
+        stale.level = 30;
+        expectThrows(VersionMismatchException.class, () -> await(datastore.save(stale)));
+        assertEquals(stale.version, 1L);
+
+        assertEquals(getDs().find(Hero.class).first().level, 20);
+    }
+
+    @Test
+    public void testUpdateAndDelete() {
+        Hero hero = await(datastore.insert(new Hero("Gimli", 1))).get(0);
+        await(datastore.insert(new Hero("Legolas", 1)));
+
+        UpdateResult updated = await(datastore.find(Hero.class)
+                .update(new UpdateOptions().multi(true), inc("level", 2))).get(0);
+        assertEquals(updated.getModifiedCount(), 2);
+        assertEquals(getDs().find(Hero.class).filter(eq("level", 3)).count(), 2);
+
+        DeleteResult deleted = await(datastore.delete(hero)).get(0);
+        assertEquals(deleted.getDeletedCount(), 1);
+        assertNull(getDs().find(Hero.class).filter(eq("_id", hero.id)).first());
+
+        deleted = await(datastore.find(Hero.class).delete(new DeleteOptions().multi(true))).get(0);
+        assertEquals(deleted.getDeletedCount(), 1);
+    }
+
+    private static <T> List<T> await(Publisher<T> publisher) {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        publisher.subscribe(new Subscriber<T>() {
+            private final List<T> results = new ArrayList<>();
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                results.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(results);
+            }
+        });
+        try {
+            return future.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException | TimeoutException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Entity("heroes")
+    private static class Hero {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int level;
+        @Version
+        private Long version;
+
+        Hero() {
+        }
+
+        Hero(String name, int level) {
+            this.name = name;
+            this.level = level;
+        }
+    }
+
+    @Entity
+    private static class Total {
+        @Id
+        private String id;
+        private int total;
+    }
+}